@@ -0,0 +1,761 @@
+package ReflectorRuntime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code ACCESSOR_BACKEND.GENERATED} arka ucunda, bir sınıfın alanlarına ve
+ * 'getter' - 'setter' metotlarına doğrudan erişen {@code GeneratedAccessor}
+ * alt sınıfını üreten ve sınıfın kullanım sayısını tutan sınıftır<br>
+ * Sınıf başına bir tâne oluşturulup {@code ClassMetadata} içerisinde
+ * saklanır. Sınıfın alanlarına ve metotlarına {@code THRESHOLD} kadar
+ * erişilene dek kod üretilmez, erişimler {@code MethodHandle} erişimcileriyle
+ * yapılır; eşik aşıldığında erişimci sınıfı bir kez üretilir<br>
+ * Üretilen sınıf şu yöntemlerden oluşur:<br>
+ * - Alan indisine göre {@code tableswitch} ile seçim yapan, alanı doğrudan
+ * ({@code getfield} / {@code putfield}) okuyan ve yazan {@code get} ve
+ * {@code set}<br>
+ * - Metot indisine göre seçim yapan, parametresiz ve tek parametreli
+ * metotları doğrudan ({@code invokevirtual}) çağıran {@code invoke}<br>
+ * - Nesnenin birden çok alanını tek çağrıda okuyan ve yazan {@code getAll} ve
+ * {@code setAll}; bu yöntemlerin döngüsü üretilen sınıfın kendi {@code get}
+ * ve {@code set} yöntemlerini çağırdığından çağrı noktası hedef tipe özeldir
+ * ve alan başına çok biçimli ('megamorphic') çağrı yapılmaz<br>
+ * Sınıf dosyası sürümü 49'dur (Java 5), böylece {@code StackMapTable}
+ * gerekmez<br>
+ * Sınıf şu yollarla tanımlanır:<br>
+ * - Java 15 ve üstünde, hedef sınıfın yuva arkadaşı ('nestmate') olan gizli
+ * sınıf ({@code Lookup.defineHiddenClass()}) olarak; bu durumda 'private'
+ * alanlara ve 'private' olmayan metotlara da doğrudan erişilir<br>
+ * - Bu mümkün değilse, hedef sınıfın sınıf yükleyicisine bağlı ayrı bir sınıf
+ * yükleyiciyle; bu durumda yalnızca açık sınıfların açık alanları ve
+ * metotları kapsanır<br>
+ * Kapsanmayan alanlara ve metotlara, sınıf üretilemezse hepsine
+ * {@code MethodHandle} erişimcileriyle erişilmeye devâm edilir<br>
+ * Java 8 ile derlenebilmesi için Java 9 ve sonrası yöntemler yansımayla
+ * çağrılır<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class AccessorGenerator{
+    static final int THRESHOLD = 5000;// Kod üretilmeden önce sınıfın alanlarına yapılacak erişim sayısı
+    private static final String BASE = GeneratedAccessor.class.getName().replace('.', '/');
+    static final String SUFFIX = "$$ReflectorAccessor";
+    private final Class<?> cls;
+    private final Field[] fields;// Sınıfta tanımlanan alanlar; indisler bu sıradadır
+    private final Method[] methods;// Sınıfta tanımlanan metotlar; indisler bu sıradadır
+    private final AtomicInteger uses = new AtomicInteger();// Üretimden önceki erişim sayısı
+    private volatile boolean isDone;// Üretim denendi
+    private volatile GeneratedAccessor accessor;
+    private boolean[] readable;// 'accessor' yazılmadan önce atanır
+    private boolean[] writable;
+    private boolean[] invocable;
+
+    AccessorGenerator(Class<?> cls, Field[] fields, Method[] methods){
+        this.cls = cls;
+        this.fields = fields;
+        this.methods = methods;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Sınıfın bir alanına veyâ metoduna erişildiğini kaydeder ve üretilmişse
+     * erişimciyi döndürür<br>
+     * Erişim sayısı eşiği aştığında erişimci üretilir
+     * @return Üretilen erişimci veyâ henüz üretilmediyse ya da
+     * üretilemediyse {@code null}
+     */
+    GeneratedAccessor use(){
+        GeneratedAccessor current = accessor;
+        if(current != null || isDone)
+            return current;
+        if(uses.incrementAndGet() >= THRESHOLD)
+            generate();
+        return accessor;
+    }
+    /**
+     * Erişim kaydetmeden, üretilmişse erişimciyi döndürür
+     * @return Üretilen erişimci veyâ henüz üretilmediyse ya da
+     * üretilemediyse {@code null}
+     */
+    GeneratedAccessor current(){
+        return accessor;
+    }
+    /**
+     * @return Üretim denendiyse (başarısız olsa da) {@code true}
+     */
+    boolean isDone(){
+        return isDone;
+    }
+    /**
+     * @param index Alan indisi
+     * @return Alan, üretilen erişimciyle okunabiliyorsa {@code true};
+     * {@code use()}'un {@code null} olmayan bir değer döndürmesinden sonra
+     * çağrılmalıdır
+     */
+    boolean canGet(int index){
+        return readable[index];
+    }
+    /**
+     * @param index Alan indisi
+     * @return Alana, üretilen erişimciyle yazılabiliyorsa {@code true};
+     * {@code use()}'un {@code null} olmayan bir değer döndürmesinden sonra
+     * çağrılmalıdır
+     */
+    boolean canSet(int index){
+        return writable[index];
+    }
+    /**
+     * @param index Metot indisi
+     * @return Metot, üretilen erişimciyle çağrılabiliyorsa {@code true};
+     * {@code use()}'un {@code null} olmayan bir değer döndürmesinden sonra
+     * çağrılmalıdır
+     */
+    boolean canInvoke(int index){
+        return invocable[index];
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private synchronized void generate(){
+        if(isDone)
+            return;
+        try{
+            if((fields.length == 0 && methods.length == 0) || cls.getClassLoader() == null || cls.isInterface() || cls.isArray())
+                return;
+            GeneratedAccessor generated = defineAsHidden();
+            if(generated == null)
+                generated = defineInLoader();
+            accessor = generated;
+        }
+        catch(IOException | ReflectiveOperationException | RuntimeException | LinkageError exc){
+            System.err.println("exc : " + exc.toString());
+        }
+        finally{
+            isDone = true;
+        }
+    }
+    /**
+     * Erişimciyi hedef sınıfın yuva arkadaşı gizli sınıf olarak tanımlar
+     * @return Erişimci veyâ Java sürümü ya da modül erişimi buna izin
+     * vermiyorsa {@code null}
+     */
+    private GeneratedAccessor defineAsHidden() throws IOException, ReflectiveOperationException{
+        Class<?> optionClass;
+        Method privateLookupIn;
+        try{
+            optionClass = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        }
+        catch(ClassNotFoundException | NoSuchMethodException exc){// Java 15 öncesi
+            return null;
+        }
+        if(Class.forName(GeneratedAccessor.class.getName(), false, cls.getClassLoader()) != GeneratedAccessor.class)
+            return null;// Hedef sınıfın yükleyicisi bu kitâplığı göremiyor
+        boolean[] canRead = new boolean[fields.length];
+        boolean[] canWrite = new boolean[fields.length];
+        for(int sayac = 0; sayac < fields.length; sayac++){
+            Field fl = fields[sayac];
+            canRead[sayac] = (!Modifier.isStatic(fl.getModifiers()) && isVisible(fl.getType(), true));
+            canWrite[sayac] = (canRead[sayac] && !Modifier.isFinal(fl.getModifiers()));
+        }
+        boolean[] canInvoke = new boolean[methods.length];
+        for(int sayac = 0; sayac < methods.length; sayac++){
+            canInvoke[sayac] = (!Modifier.isPrivate(methods[sayac].getModifiers()) && isInvocable(methods[sayac], true));
+        }
+        byte[] bytes = build(cls.getName().replace('.', '/') + SUFFIX, canRead, canWrite, canInvoke);
+        MethodHandles.Lookup lookup;
+        try{
+            lookup = (MethodHandles.Lookup) privateLookupIn.invoke(null, cls, MethodHandles.lookup());
+        }
+        catch(InvocationTargetException exc){// Paket bu kitâplığa açık değil
+            return null;
+        }
+        Object options = Array.newInstance(optionClass, 1);
+        Array.set(options, 0, enumConstant(optionClass, "NESTMATE"));
+        Method define = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, options.getClass());
+        MethodHandles.Lookup hidden;
+        try{
+            hidden = (MethodHandles.Lookup) define.invoke(lookup, bytes, true, options);
+        }
+        catch(InvocationTargetException exc){// Tam yetkili 'Lookup' alınamadı
+            return null;
+        }
+        GeneratedAccessor generated = (GeneratedAccessor) hidden.lookupClass().getConstructor().newInstance();
+        this.readable = canRead;
+        this.writable = canWrite;
+        this.invocable = canInvoke;
+        return generated;
+    }
+    /**
+     * Erişimciyi hedef sınıfın yükleyicisine bağlı ayrı bir yükleyiciyle
+     * tanımlar; farklı yükleyicideki sınıf aynı paket erişimine sâhip
+     * olmadığından yalnızca açık alanlar ve metotlar kapsanır
+     * @return Erişimci veyâ kapsanacak alan ya da metot yoksa {@code null}
+     */
+    private GeneratedAccessor defineInLoader() throws IOException, ReflectiveOperationException{
+        if(!Modifier.isPublic(cls.getModifiers()))
+            return null;
+        boolean[] canRead = new boolean[fields.length];
+        boolean[] canWrite = new boolean[fields.length];
+        boolean isAny = false;
+        for(int sayac = 0; sayac < fields.length; sayac++){
+            Field fl = fields[sayac];
+            int modifiers = fl.getModifiers();
+            canRead[sayac] = (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) && isVisible(fl.getType(), false));
+            canWrite[sayac] = (canRead[sayac] && !Modifier.isFinal(modifiers));
+            isAny |= canRead[sayac];
+        }
+        boolean[] canInvoke = new boolean[methods.length];
+        for(int sayac = 0; sayac < methods.length; sayac++){
+            canInvoke[sayac] = (Modifier.isPublic(methods[sayac].getModifiers()) && isInvocable(methods[sayac], false));
+            isAny |= canInvoke[sayac];
+        }
+        if(!isAny)
+            return null;
+        String name = cls.getName() + SUFFIX;
+        byte[] bytes = build(name.replace('.', '/'), canRead, canWrite, canInvoke);
+        Class<?> defined = new GeneratedClassLoader(cls.getClassLoader()).define(name, bytes);
+        GeneratedAccessor generated = (GeneratedAccessor) defined.getConstructor().newInstance();
+        this.readable = canRead;
+        this.writable = canWrite;
+        this.invocable = canInvoke;
+        return generated;
+    }
+    /**
+     * Verilen metodun üretilen sınıftan doğrudan çağrılıp, çağrılamayacağını
+     * sorgular; yalnızca statik olmayan, parametresiz veyâ tek parametreli
+     * ('getter' - 'setter' biçimli) metotlar çağrılır
+     */
+    private boolean isInvocable(Method m, boolean isSamePackage){
+        if(Modifier.isStatic(m.getModifiers()) || m.isSynthetic() || m.isBridge() || m.getParameterCount() > 1)
+            return false;
+        if(!isVisible(m.getReturnType(), isSamePackage))
+            return false;
+        return (m.getParameterCount() == 0 || isVisible(m.getParameterTypes()[0], isSamePackage));
+    }
+    /**
+     * Verilen tipin üretilen sınıftan ({@code checkcast} ile) erişilebilir
+     * olup, olmadığını sorgular
+     * @param type Alanın tipi
+     * @param isSamePackage Üretilen sınıf hedef sınıfla aynı çalışma zamânı
+     * paketindeyse {@code true}
+     */
+    private boolean isVisible(Class<?> type, boolean isSamePackage){
+        Class<?> element = type;
+        while(element.isArray()){
+            element = element.getComponentType();
+        }
+        if(element.isPrimitive() || Modifier.isPublic(element.getModifiers()))
+            return true;
+        return (isSamePackage && element.getClassLoader() == cls.getClassLoader()
+            && packageOf(element).equals(packageOf(cls)));
+    }
+    private byte[] build(String name, boolean[] canRead, boolean[] canWrite, boolean[] canInvoke) throws IOException{
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(name);
+        int superClass = pool.classRef(BASE);
+        int targetClass = pool.classRef(cls.getName().replace('.', '/'));
+        int codeName = pool.utf8("Code");
+        int[] fieldRefs = new int[fields.length];
+        for(int sayac = 0; sayac < fields.length; sayac++){
+            if(canRead[sayac])
+                fieldRefs[sayac] = pool.memberRef(9, targetClass, fields[sayac].getName(), descriptorOf(fields[sayac].getType()));
+        }
+        // Yapıcı yöntem:
+        Code init = new Code();
+        init.op(0x2A);// aload_0
+        init.op(0xB7);// invokespecial
+        init.u2(pool.memberRef(10, superClass, "<init>", "()V"));
+        init.op(0xB1);// return
+        // Object get(Object target, int index):
+        Code get = new Code();
+        get.op(0x2B);// aload_1
+        get.op(0xC0);// checkcast
+        get.u2(targetClass);
+        get.op(0x4E);// astore_3
+        if(fields.length != 0){// Boş 'tableswitch' geçersizdir
+            get.op(0x1C);// iload_2
+            int[] getSwitch = get.tableSwitch(fields.length);
+            for(int sayac = 0; sayac < fields.length; sayac++){
+                if(!canRead[sayac])
+                    continue;
+                get.jumpHere(getSwitch, sayac);
+                get.op(0x2D);// aload_3
+                get.op(0xB4);// getfield
+                get.u2(fieldRefs[sayac]);
+                box(get, pool, fields[sayac].getType());
+                get.op(0xB0);// areturn
+            }
+            get.jumpHere(getSwitch, -1);
+        }
+        get.op(0x01);// aconst_null
+        get.op(0xB0);// areturn
+        // void set(Object target, int index, Object value):
+        Code set = new Code();
+        set.op(0x2B);// aload_1
+        set.op(0xC0);// checkcast
+        set.u2(targetClass);
+        set.op(0x3A);// astore
+        set.op(4);
+        if(fields.length != 0){
+            set.op(0x1C);// iload_2
+            int[] setSwitch = set.tableSwitch(fields.length);
+            for(int sayac = 0; sayac < fields.length; sayac++){
+                if(!canWrite[sayac])
+                    continue;
+                set.jumpHere(setSwitch, sayac);
+                set.op(0x19);// aload
+                set.op(4);
+                set.op(0x2D);// aload_3
+                unbox(set, pool, fields[sayac].getType());
+                set.op(0xB5);// putfield
+                set.u2(fieldRefs[sayac]);
+                set.op(0xB1);// return
+            }
+            set.jumpHere(setSwitch, -1);
+        }
+        set.op(0xB1);// return
+        // Object invoke(Object target, int index, Object value):
+        Code invoke = new Code();
+        invoke.op(0x2B);// aload_1
+        invoke.op(0xC0);// checkcast
+        invoke.u2(targetClass);
+        invoke.op(0x3A);// astore
+        invoke.op(4);
+        if(methods.length != 0){
+            invoke.op(0x1C);// iload_2
+            int[] invokeSwitch = invoke.tableSwitch(methods.length);
+            for(int sayac = 0; sayac < methods.length; sayac++){
+                if(!canInvoke[sayac])
+                    continue;
+                Method m = methods[sayac];
+                Class<?> returnType = m.getReturnType();
+                StringBuilder descriptor = new StringBuilder("(");
+                invoke.jumpHere(invokeSwitch, sayac);
+                invoke.op(0x19);// aload
+                invoke.op(4);
+                if(m.getParameterCount() == 1){
+                    Class<?> type = m.getParameterTypes()[0];
+                    invoke.op(0x2D);// aload_3
+                    unbox(invoke, pool, type);
+                    descriptor.append(descriptorOf(type));
+                }
+                descriptor.append(")").append(returnType == void.class ? "V" : descriptorOf(returnType));
+                invoke.op(0xB6);// invokevirtual
+                invoke.u2(pool.memberRef(10, targetClass, m.getName(), descriptor.toString()));
+                if(returnType == void.class)
+                    invoke.op(0x01);// aconst_null
+                else
+                    box(invoke, pool, returnType);
+                invoke.op(0xB0);// areturn
+            }
+            invoke.jumpHere(invokeSwitch, -1);
+        }
+        invoke.op(0x01);// aconst_null
+        invoke.op(0xB0);// areturn
+        int getName = pool.utf8("get");
+        int getDesc = pool.utf8("(Ljava/lang/Object;I)Ljava/lang/Object;");
+        int setName = pool.utf8("set");
+        int setDesc = pool.utf8("(Ljava/lang/Object;ILjava/lang/Object;)V");
+        // void getAll(Object target, int[] indexes, Object[] values); 4 : sayaç, 5 : alan indisi
+        Code getAll = new Code();
+        getAll.op(0x03);// iconst_0
+        getAll.op(0x36);// istore
+        getAll.op(4);
+        int getLoop = getAll.position();
+        getAll.op(0x15);// iload
+        getAll.op(4);
+        getAll.op(0x2C);// aload_2
+        getAll.op(0xBE);// arraylength
+        int getEnd = getAll.jumpForward(0xA2);// if_icmpge
+        getAll.op(0x2C);// aload_2
+        getAll.op(0x15);// iload
+        getAll.op(4);
+        getAll.op(0x2E);// iaload
+        getAll.op(0x36);// istore
+        getAll.op(5);
+        getAll.op(0x15);// iload
+        getAll.op(5);
+        int getNext = getAll.jumpForward(0x9B);// iflt; indisi olmayan değerler atlanır
+        getAll.op(0x2D);// aload_3
+        getAll.op(0x15);// iload
+        getAll.op(4);
+        getAll.op(0x2A);// aload_0
+        getAll.op(0x2B);// aload_1
+        getAll.op(0x15);// iload
+        getAll.op(5);
+        getAll.op(0xB6);// invokevirtual; üretilen sınıfın kendi yöntemi, çağrı noktası tek biçimlidir
+        getAll.u2(pool.memberRef(10, thisClass, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;"));
+        getAll.op(0x53);// aastore
+        getAll.landHere(getNext);
+        getAll.op(0x84);// iinc
+        getAll.op(4);
+        getAll.op(1);
+        getAll.jump(0xA7, getLoop);// goto
+        getAll.landHere(getEnd);
+        getAll.op(0xB1);// return
+        // void setAll(Object target, int[] indexes, Object[] values, int count); 5 : sayaç
+        Code setAll = new Code();
+        setAll.op(0x03);// iconst_0
+        setAll.op(0x36);// istore
+        setAll.op(5);
+        int setLoop = setAll.position();
+        setAll.op(0x15);// iload
+        setAll.op(5);
+        setAll.op(0x15);// iload
+        setAll.op(4);
+        int setEnd = setAll.jumpForward(0xA2);// if_icmpge
+        setAll.op(0x2A);// aload_0
+        setAll.op(0x2B);// aload_1
+        setAll.op(0x2C);// aload_2
+        setAll.op(0x15);// iload
+        setAll.op(5);
+        setAll.op(0x2E);// iaload
+        setAll.op(0x2D);// aload_3
+        setAll.op(0x15);// iload
+        setAll.op(5);
+        setAll.op(0x32);// aaload
+        setAll.op(0xB6);// invokevirtual
+        setAll.u2(pool.memberRef(10, thisClass, "set", "(Ljava/lang/Object;ILjava/lang/Object;)V"));
+        setAll.op(0x84);// iinc
+        setAll.op(5);
+        setAll.op(1);
+        setAll.jump(0xA7, setLoop);// goto
+        setAll.landHere(setEnd);
+        setAll.op(0xB1);// return
+        int initName = pool.utf8("<init>");
+        int initDesc = pool.utf8("()V");
+        int invokeName = pool.utf8("invoke");
+        int invokeDesc = pool.utf8("(Ljava/lang/Object;ILjava/lang/Object;)Ljava/lang/Object;");
+        int getAllName = pool.utf8("getAll");
+        int getAllDesc = pool.utf8("(Ljava/lang/Object;[I[Ljava/lang/Object;)V");
+        int setAllName = pool.utf8("setAll");
+        int setAllDesc = pool.utf8("(Ljava/lang/Object;[I[Ljava/lang/Object;I)V");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);// minor_version
+        out.writeShort(49);// major_version (Java 5)
+        pool.writeTo(out);
+        out.writeShort(0x0031);// ACC_PUBLIC | ACC_FINAL | ACC_SUPER
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(0);// interfaces_count
+        out.writeShort(0);// fields_count
+        out.writeShort(6);// methods_count
+        writeMethod(out, 0x0001, initName, initDesc, codeName, 1, 1, init);
+        writeMethod(out, 0x0004, getName, getDesc, codeName, 2, 4, get);
+        writeMethod(out, 0x0004, setName, setDesc, codeName, 3, 5, set);
+        writeMethod(out, 0x0004, invokeName, invokeDesc, codeName, 3, 5, invoke);
+        writeMethod(out, 0x0004, getAllName, getAllDesc, codeName, 5, 6, getAll);
+        writeMethod(out, 0x0004, setAllName, setAllDesc, codeName, 5, 6, setAll);
+        out.writeShort(0);// attributes_count
+        out.flush();
+        return bytes.toByteArray();
+    }
+    private static void writeMethod(DataOutputStream out, int access, int name, int descriptor, int codeName,
+            int maxStack, int maxLocals, Code code) throws IOException{
+        byte[] body = code.toByteArray();
+        out.writeShort(access);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);// attributes_count
+        out.writeShort(codeName);
+        out.writeInt(12 + body.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(body.length);
+        out.write(body);
+        out.writeShort(0);// exception_table_length
+        out.writeShort(0);// attributes_count
+    }
+    /**
+     * Yığındaki temel tipteki değeri sarmalayıcı sınıfına kutular; diğer
+     * tiplerde bir şey yazmaz
+     */
+    private static void box(Code code, ConstantPool pool, Class<?> type) throws IOException{
+        if(!type.isPrimitive())
+            return;
+        Class<?> wrapper = wrapperOf(type);
+        code.op(0xB8);// invokestatic
+        code.u2(pool.memberRef(10, pool.classRef(wrapper.getName().replace('.', '/')), "valueOf",
+            "(" + descriptorOf(type) + ")" + descriptorOf(wrapper)));
+    }
+    /**
+     * Yığındaki {@code Object} değeri verilen tipe çevirir; temel tipler için
+     * sarmalayıcıdan çıkarılır
+     */
+    private static void unbox(Code code, ConstantPool pool, Class<?> type) throws IOException{
+        if(type.isPrimitive()){
+            Class<?> wrapper = wrapperOf(type);
+            int wrapperClass = pool.classRef(wrapper.getName().replace('.', '/'));
+            code.op(0xC0);// checkcast
+            code.u2(wrapperClass);
+            code.op(0xB6);// invokevirtual
+            code.u2(pool.memberRef(10, wrapperClass, type.getName() + "Value", "()" + descriptorOf(type)));
+        }
+        else{
+            code.op(0xC0);// checkcast
+            code.u2(pool.classRef(type.getName().replace('.', '/')));// Diziler için de sınıf ismi tanımlayıcıdır
+        }
+    }
+    /**
+     * Verilen {@code enum} sınıfının verilen isimdeki sâbitini döndürür; sınıf
+     * derleme zamânında bilinmediğinden {@code Enum.valueOf} kullanılmaz
+     */
+    private static Object enumConstant(Class<?> type, String name){
+        for(Object constant : type.getEnumConstants()){
+            if(((Enum<?>) constant).name().equals(name))
+                return constant;
+        }
+        throw new IllegalArgumentException("No enum constant " + type.getName() + "." + name);
+    }
+    private static String descriptorOf(Class<?> type){
+        if(type.isArray())
+            return type.getName().replace('.', '/');
+        if(type == int.class)
+            return "I";
+        if(type == long.class)
+            return "J";
+        if(type == double.class)
+            return "D";
+        if(type == float.class)
+            return "F";
+        if(type == boolean.class)
+            return "Z";
+        if(type == byte.class)
+            return "B";
+        if(type == short.class)
+            return "S";
+        if(type == char.class)
+            return "C";
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+    private static Class<?> wrapperOf(Class<?> primitive){
+        if(primitive == int.class)
+            return Integer.class;
+        if(primitive == long.class)
+            return Long.class;
+        if(primitive == double.class)
+            return Double.class;
+        if(primitive == float.class)
+            return Float.class;
+        if(primitive == boolean.class)
+            return Boolean.class;
+        if(primitive == byte.class)
+            return Byte.class;
+        if(primitive == short.class)
+            return Short.class;
+        return Character.class;
+    }
+    private static String packageOf(Class<?> type){
+        String name = type.getName();
+        int index = name.lastIndexOf('.');
+        return (index == -1 ? "" : name.substring(0, index));
+    }
+
+    /**
+     * Sınıf dosyasının sâbitler havuzudur; aynı sâbit bir kez eklenir
+     */
+    private static final class ConstantPool{
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final HashMap<String, Integer> indexes = new HashMap<String, Integer>();
+        private int count = 1;
+
+        int utf8(String value) throws IOException{
+            Integer index = indexes.get("U" + value);
+            if(index == null){
+                out.writeByte(1);
+                out.writeUTF(value);
+                index = add("U" + value);
+            }
+            return index;
+        }
+        int classRef(String internalName) throws IOException{
+            Integer index = indexes.get("C" + internalName);
+            if(index == null){
+                int name = utf8(internalName);
+                out.writeByte(7);
+                out.writeShort(name);
+                index = add("C" + internalName);
+            }
+            return index;
+        }
+        /**
+         * @param tag 9 : Alan, 10 : Metot
+         */
+        int memberRef(int tag, int owner, String name, String descriptor) throws IOException{
+            String key = tag + ":" + owner + "." + name + ":" + descriptor;
+            Integer index = indexes.get(key);
+            if(index == null){
+                int nameIndex = utf8(name);
+                int descriptorIndex = utf8(descriptor);
+                Integer nameAndType = indexes.get("N" + name + ":" + descriptor);
+                if(nameAndType == null){
+                    out.writeByte(12);
+                    out.writeShort(nameIndex);
+                    out.writeShort(descriptorIndex);
+                    nameAndType = add("N" + name + ":" + descriptor);
+                }
+                out.writeByte(tag);
+                out.writeShort(owner);
+                out.writeShort(nameAndType);
+                index = add(key);
+            }
+            return index;
+        }
+        void writeTo(DataOutputStream target) throws IOException{
+            out.flush();
+            target.writeShort(count);
+            bytes.writeTo(target);
+        }
+        private int add(String key){
+            int index = count++;
+            indexes.put(key, index);
+            return index;
+        }
+    }
+    /**
+     * Bir yöntemin bayt kodunu biriktirir
+     */
+    private static final class Code{
+        private byte[] buffer = new byte[64];
+        private int size;
+        private int switchStart;// Son 'tableswitch' komutunun adresi
+
+        void op(int value){
+            if(size == buffer.length){
+                byte[] grown = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, grown, 0, size);
+                buffer = grown;
+            }
+            buffer[size++] = (byte) value;
+        }
+        void u2(int value){
+            op(value >>> 8);
+            op(value);
+        }
+        void u4(int value){
+            u2(value >>> 16);
+            u2(value);
+        }
+        /**
+         * @return Sonraki komutun adresi
+         */
+        int position(){
+            return size;
+        }
+        /**
+         * Adresi bilinen (geri) bir konuma atlayan dallanma komutu yazar
+         */
+        void jump(int opcode, int target){
+            int at = size;
+            op(opcode);
+            u2(target - at);
+        }
+        /**
+         * İleri bir konuma atlayan dallanma komutu yazar; atlama adresi
+         * {@code landHere()} ile doldurulur
+         * @return Komutun adresi
+         */
+        int jumpForward(int opcode){
+            int at = size;
+            op(opcode);
+            u2(0);
+            return at;
+        }
+        /**
+         * Verilen adresteki ileri dallanma komutunun hedefini şu anki konum
+         * yapar
+         */
+        void landHere(int at){
+            int offset = size - at;
+            buffer[at + 1] = (byte) (offset >>> 8);
+            buffer[at + 2] = (byte) offset;
+        }
+        /**
+         * 0 ile {@code count - 1} arasındaki değerler için bir
+         * {@code tableswitch} yazar; atlama adresleri {@code jumpHere()} ile
+         * doldurulur, doldurulmayan durumlar varsayılan duruma atlar
+         * @return İlk eleman varsayılan durumun, diğerleri sırasıyla her
+         * durumun atlama adresinin yazılacağı konumlar
+         */
+        int[] tableSwitch(int count){
+            switchStart = size;
+            op(0xAA);// tableswitch
+            while(size % 4 != 0){
+                op(0);
+            }
+            int[] slots = new int[count + 1];
+            slots[0] = size;
+            u4(0);
+            u4(0);// low
+            u4(count - 1);// high
+            for(int sayac = 0; sayac < count; sayac++){
+                slots[sayac + 1] = size;
+                u4(-1);// Doldurulmadı
+            }
+            return slots;
+        }
+        /**
+         * Verilen durumun atlama adresini şu anki konum yapar; varsayılan
+         * durum için ({@code -1}) doldurulmamış tüm durumlar da buraya
+         * yönlendirilir
+         */
+        void jumpHere(int[] slots, int caseIndex){
+            int offset = size - switchStart;
+            if(caseIndex != -1){
+                write(slots[caseIndex + 1], offset);
+                return;
+            }
+            write(slots[0], offset);
+            for(int sayac = 1; sayac < slots.length; sayac++){
+                if(read(slots[sayac]) == -1)
+                    write(slots[sayac], offset);
+            }
+        }
+        byte[] toByteArray(){
+            byte[] result = new byte[size];
+            System.arraycopy(buffer, 0, result, 0, size);
+            return result;
+        }
+        private void write(int position, int value){
+            buffer[position] = (byte) (value >>> 24);
+            buffer[position + 1] = (byte) (value >>> 16);
+            buffer[position + 2] = (byte) (value >>> 8);
+            buffer[position + 3] = (byte) value;
+        }
+        private int read(int position){
+            return ((buffer[position] & 0xFF) << 24) | ((buffer[position + 1] & 0xFF) << 16)
+                | ((buffer[position + 2] & 0xFF) << 8) | (buffer[position + 3] & 0xFF);
+        }
+    }
+    /**
+     * Erişimciyi hedef sınıfın yükleyicisi üzerinden, fakat bu kitâplığın
+     * {@code GeneratedAccessor} sınıfını görecek biçimde tanımlayan
+     * yükleyicidir
+     */
+    private static final class GeneratedClassLoader extends ClassLoader{
+        GeneratedClassLoader(ClassLoader parent){
+            super(parent);
+        }
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException{
+            if(name.equals(GeneratedAccessor.class.getName()))
+                return GeneratedAccessor.class;
+            return super.loadClass(name, resolve);
+        }
+        Class<?> define(String name, byte[] bytes){
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ReflectorRuntime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Toplu zerk işleminin ({@code produceInjectedObjects()}) sonucudur<br>
+ * Üretilen nesneler verilen satırlarla aynı sırada tutulur; üretilemeyen
+ * satırın yerinde {@code null} bulunur<br>
+ * Başarısız satırların indisleri ve varsa hatâ sebebi de saklanır<br>
+ * Nesne oluşturulduktan sonra değiştirilemez<br>
+ * @author Mehmet Âkif SOLAK
+ * @param <T> Üretilen nesnelerin sınıfı
+ */
+public final class BatchResult<T>{
+    private final List<T> objects;// Değiştirilemez
+    private final Throwable[] causes;
+    private final boolean[] isFailed;
+    private final int[] failedRows;
+
+    BatchResult(Class<T> targetClass, Object[] objects, boolean[] isFailed, Throwable[] causes){
+        List<T> produced = new ArrayList<T>(objects.length);
+        for(Object obj : objects){
+            produced.add(targetClass.cast(obj));
+        }
+        this.objects = Collections.unmodifiableList(produced);
+        this.isFailed = isFailed;
+        this.causes = causes;
+        int count = 0;
+        for(boolean failed : isFailed){
+            if(failed)
+                count++;
+        }
+        this.failedRows = new int[count];
+        for(int sayac = 0, index = 0; sayac < isFailed.length; sayac++){
+            if(isFailed[sayac])
+                failedRows[index++] = sayac;
+        }
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * Üretilen nesneleri satır sırasıyla döndürür<br>
+     * Döndürülen liste değiştirilemez; başarısız satırlar için {@code null}
+     * içerir
+     * @return Nesne listesi
+     */
+    public List<T> getObjects(){
+        return objects;
+    }
+    /**
+     * @param row Satır indisi
+     * @return Satırdan üretilen nesne veyâ {@code null}
+     */
+    public T get(int row){
+        return objects.get(row);
+    }
+    /**
+     * @return Satır sayısı
+     */
+    public int size(){
+        return objects.size();
+    }
+    /**
+     * @return Başarısız satır varsa {@code true}
+     */
+    public boolean hasFailures(){
+        return failedRows.length > 0;
+    }
+    /**
+     * @return Başarısız satırların artan sırayla indisleri (kopyası)
+     */
+    public int[] getFailedRows(){
+        return failedRows.clone();
+    }
+    /**
+     * @param row Satır indisi
+     * @return Satırdan nesne üretilemediyse {@code true}
+     */
+    public boolean isFailed(int row){
+        return isFailed[row];
+    }
+    /**
+     * Başarısız satırdaki hatâyı döndürür<br>
+     * Satır {@code null} olduğu veyâ nesne üretilemediği için başarısız olan
+     * satırlar için hatâ yoktur
+     * @param row Satır indisi
+     * @return Zerk işleminde fırlatılan hatâ veyâ {@code null}
+     */
+    public Throwable getFailureCause(int row){
+        return causes[row];
+    }
+}
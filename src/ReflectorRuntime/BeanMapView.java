@@ -0,0 +1,172 @@
+package ReflectorRuntime;
+
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bir nesnenin alanlarını, nesneye bağlı bir {@code Map} olarak gösteren
+ * görünümdür<br>
+ * {@code Reflector.getBeanMapView()} ile elde edilir<br>
+ * Anahtarlar nesnenin alan isimleridir; değerler kopyalanmaz. {@code get()}
+ * yalnızca istenen alanı, {@code getValueOfFields()} ile aynı kurallarla
+ * (alan, olmazsa 'getter' metodu) okur; {@code put()} değeri doğrudan
+ * nesneye, {@code injectData()} ile aynı kurallarla (alan, 'setter' metodu
+ * ve gerekirse veri dönüştürme) yazar. Nesnede yapılan değişiklikler
+ * görünümde hemen görülür<br>
+ * Alanlar kaldırılamaz; {@code remove()} ve {@code clear()} desteklenmez.
+ * Nesnede olmayan bir anahtarla {@code put()} çağrılırsa
+ * {@code IllegalArgumentException} fırlatılır<br>
+ * Görünüm, nesnenin kendisi gibi iş parçacıkları arasında eş zamanlama
+ * yapmaz<br>
+ * @author Mehmet Âkif SOLAK
+ */
+public final class BeanMapView extends AbstractMap<String, Object>{
+    private final Reflector reflector;
+    private final Object entity;
+    private final Reflector.CODING_STYLE codingStyle;
+    private final boolean forceAccessibility;
+    private final Map<String, Field> fields;// Sınıf bilgilerindeki paylaşılan, değiştirilemez alan haritası
+    private final ObjectInjector<?> injector;
+    private Set<Map.Entry<String, Object>> entries;
+
+    BeanMapView(Reflector reflector, Object entity, Reflector.CODING_STYLE codingStyle,
+            boolean forceAccessibility, boolean scanSuperClasses){
+        this.reflector = reflector;
+        this.entity = entity;
+        this.codingStyle = codingStyle;
+        this.forceAccessibility = forceAccessibility;
+        this.fields = reflector.getClassMetadata(entity.getClass()).getFieldMap(scanSuperClasses);
+        this.injector = reflector.getSharedInjector(entity.getClass(), codingStyle, true, scanSuperClasses, forceAccessibility);
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    @Override
+    public int size(){
+        return fields.size();
+    }
+    @Override
+    public boolean containsKey(Object key){
+        return fields.containsKey(key);
+    }
+    @Override
+    public Object get(Object key){
+        Field fl = fields.get(key);
+        if(fl == null)
+            return null;
+        return reflector.getValueOfField(entity, fl, codingStyle, forceAccessibility);
+    }
+    /**
+     * Verilen değeri nesnenin verilen isimdeki alanına yazar<br>
+     * Değer alanın tipinde değilse dönüştürülmeye çalışılır; yazılamazsa
+     * alan değişmez
+     * @param key Alan ismi
+     * @param value Yazılacak değer
+     * @return Alanın önceki değeri
+     * @throws IllegalArgumentException Nesnede bu isimde bir alan yoksa
+     */
+    @Override
+    public Object put(String key, Object value){
+        Field fl = fields.get(key);
+        if(fl == null)
+            throw new IllegalArgumentException("Böyle bir alan yok : " + key);
+        Object previous = reflector.getValueOfField(entity, fl, codingStyle, forceAccessibility);
+        injectField(injector, entity, key, value);
+        return previous;
+    }
+    @Override
+    public Object remove(Object key){
+        throw new UnsupportedOperationException();
+    }
+    @Override
+    public void clear(){
+        throw new UnsupportedOperationException();
+    }
+    @Override
+    public Set<String> keySet(){
+        return fields.keySet();
+    }
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet(){
+        if(entries == null){
+            entries = new AbstractSet<Map.Entry<String, Object>>(){
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator(){
+                    final Iterator<String> keys = fields.keySet().iterator();
+                    return new Iterator<Map.Entry<String, Object>>(){
+                        @Override
+                        public boolean hasNext(){
+                            return keys.hasNext();
+                        }
+                        @Override
+                        public Map.Entry<String, Object> next(){
+                            return new Entry(keys.next());
+                        }
+                    };
+                }
+                @Override
+                public int size(){
+                    return fields.size();
+                }
+            };
+        }
+        return entries;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private static <T> void injectField(ObjectInjector<T> injector, Object entity, String key, Object value){
+        injector.injectField(injector.getTargetClass().cast(entity), key, value);// Plan nesnenin kendi sınıfı için alındığından dönüşüm her zaman başarılı
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Görünümün bağlı olduğu nesne
+     */
+    public Object getEntity(){
+        return entity;
+    }
+
+    /**
+     * Değeri okunduğu anda nesneden alınan girdi
+     */
+    private final class Entry implements Map.Entry<String, Object>{
+        private final String key;
+
+        Entry(String key){
+            this.key = key;
+        }
+        @Override
+        public String getKey(){
+            return key;
+        }
+        @Override
+        public Object getValue(){
+            return get(key);
+        }
+        @Override
+        public Object setValue(Object value){
+            return put(key, value);
+        }
+        @Override
+        public boolean equals(Object obj){
+            if(!(obj instanceof Map.Entry))
+                return false;
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            Object value = getValue();
+            return (key.equals(other.getKey())
+                && (value == null ? other.getValue() == null : value.equals(other.getValue())));
+        }
+        @Override
+        public int hashCode(){
+            Object value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+        @Override
+        public String toString(){
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ReflectorRuntime;
+
+/**
+ * Sınıf başına tutulan bir önbelleğin anlık istatistikleridir<br>
+ * {@code Reflector.getClassMetadataCacheStats()} ve
+ * {@code Reflector.getConverterCacheStats()} ile alınır<br>
+ * Önbellekler sınıfları güçlü referansla tutmadığından, yükleyicisi toplanan
+ * sınıfların değerleri kendiliğinden silinir ve silinen değer olarak
+ * sayılır; misal, bir uygulama yeniden yüklendikten sonra saklanan değer
+ * sayısının düşmemesi yükleyicinin bellekte tutulduğunu gösterir<br>
+ * Nesne değişmezdir
+ * @author Mehmet Âkif SOLAK
+ */
+public final class CacheStats{
+    private final long size;
+    private final long loadCount;
+    private final long evictionCount;
+
+    CacheStats(long size, long loadCount, long evictionCount){
+        this.size = size;
+        this.loadCount = loadCount;
+        this.evictionCount = evictionCount;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Bu istatistiklerle verilen istatistikleri toplar
+     * @param other Diğer istatistikler
+     * @return Toplam
+     */
+    CacheStats plus(CacheStats other){
+        return new CacheStats(size + other.size, loadCount + other.loadCount, evictionCount + other.evictionCount);
+    }
+    @Override
+    public String toString(){
+        return "CacheStats{size=" + size + ", loadCount=" + loadCount + ", evictionCount=" + evictionCount + "}";
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Önbellekte saklanan değer (sınıf) sayısı
+     */
+    public long getSize(){
+        return size;
+    }
+    /**
+     * @return Önbelleğe şimdiye kadar eklenen değer sayısı
+     */
+    public long getLoadCount(){
+        return loadCount;
+    }
+    /**
+     * @return Sınıfı (yükleyicisiyle birlikte) toplandığı için silinen değer
+     * sayısı
+     */
+    public long getEvictionCount(){
+        return evictionCount;
+    }
+}
@@ -0,0 +1,183 @@
+package ReflectorRuntime;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sınıf başına bir kez hesaplanan verileri saklayan önbellektir<br>
+ * Değerler {@code ClassValue} üzerinde, sınıfın kendisinde tutulur: Bir sınıf
+ * için değer ilk defa istendiğinde {@code computeValue} ile hesaplanır,
+ * sonraki isteklerde kilitsiz olarak hesaplanmış değer döndürülür<br>
+ * Önbellek sınıfları güçlü referansla tutmadığından, sınıfın yükleyicisi
+ * (misal, yeniden yüklenen bir web uygulaması) çöp toplayıcı tarafından
+ * toplandığında değerler de kendiliğinden silinir. Bunun için bir değer,
+ * sınıfının yükleyicisinden veyâ onun atalarından yüklenmemiş sınıflara
+ * güçlü referans tutmamalıdır; {@code isVisibleFrom()} bu denetim içindir<br>
+ * Değerler önbelleği ve dolayısıyla kütüphâneyi güçlü referansla tuttuğundan
+ * yalnızca kütüphâneyi yükleyen yükleyiciden veyâ onun alt yükleyicilerinden
+ * yüklenen sınıflarda saklanır. Misal, kütüphâne bir web uygulamasının
+ * içindeyse {@code ArrayList} gibi yerleşik bir sınıfta saklanan değer, web
+ * uygulamasının yükleyicisini uygulama kaldırıldıktan sonra da bellekte
+ * tutardı. Kütüphâne yükleyicisinin atalarından yüklenen sınıfların
+ * değerleri, kütüphâneyle birlikte toplanan bir haritada tutulur; iki
+ * yönde de görülemeyen yükleyicilerden gelen sınıfların değerleri, sınıfı
+ * ve değeri zayıf referansla tutan bir haritada saklanır. Değer sınıfını
+ * güçlü referansla tuttuğundan değer de zayıf tutulur; aksi hâlde sınıfın
+ * yükleyicisi önbellekle birlikte bellekte kalırdı. Bu yüzden bu değerler
+ * çöp toplayıcı tarafından silindiğinde yeniden hesaplanır<br>
+ * Birden fazla iş parçacığı aynı anda aynı sınıf için değer hesaplarsa
+ * yalnızca birinin hesapladığı değer saklanır ve hepsine o döndürülür<br>
+ * Saklanan değer sayısı ve toplanan sınıflar nedeniyle silinen değer sayısı
+ * {@code getStats()} ile izlenebilir<br>
+ * @author Mehmet Âkif SOLAK
+ * @param <V> Sınıf başına saklanan değerin tipi
+ */
+abstract class ClassCache<V>{
+    private volatile ClassValue<Entry<V>> values = newValues();
+    private volatile ConcurrentHashMap<Class<?>, Entry<V>> held = new ConcurrentHashMap<Class<?>, Entry<V>>();// Kütüphâne yükleyicisinin atalarından yüklenen sınıfların değerleri
+    private final Map<Class<?>, WeakReference<V>> unrelated = new WeakHashMap<Class<?>, WeakReference<V>>();// Yükleyicisi kütüphâne yükleyicisiyle iki yönde de görülemeyen sınıfların değerleri
+    private final Set<Reference<Class<?>>> trackers = ConcurrentHashMap.newKeySet();// Saklanan her değerin sınıfına zayıf referans
+    private final ReferenceQueue<Class<?>> collected = new ReferenceQueue<Class<?>>();// Toplanan sınıfların referansları
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Önbellekte bulunmayan sınıf için değeri hesaplar<br>
+     * {@code null} döndürülmemelidir
+     * @param cls Değeri hesaplanacak sınıf
+     * @return Sınıfa âit değer
+     */
+    protected abstract V computeValue(Class<?> cls);
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen sınıfın değerini döndürür, değer yoksa hesaplanıp saklanır<br>
+     * @param cls Hedef sınıf
+     * @return Sınıfa âit değer
+     */
+    V get(Class<?> cls){
+        if(!isVisibleFrom(ClassCache.class, cls))// Değer sınıfta saklanırsa sınıf, kütüphâne yükleyicisini bellekte tutar
+            return getHeld(cls);
+        Entry<V> entry = values.get(cls);
+        if(!entry.isTracked)// Yalnızca sınıfın ilk isteğinde
+            track(cls, entry);
+        return entry.value;
+    }
+    /**
+     * Önbellekteki tüm değerleri siler<br>
+     * Eski değerler, sınıflarda tutulan kayıtlarıyla birlikte çöp toplayıcı
+     * tarafından toplanır
+     */
+    void clear(){
+        values = newValues();
+        held = new ConcurrentHashMap<Class<?>, Entry<V>>();
+        synchronized(unrelated){
+            unrelated.clear();
+        }
+        trackers.clear();
+        while(collected.poll() != null);
+    }
+    /**
+     * @return Önbelleğin anlık istatistikleri
+     */
+    CacheStats getStats(){
+        expunge();
+        int unrelatedCount;
+        synchronized(unrelated){
+            unrelatedCount = unrelated.size();
+        }
+        return new CacheStats(trackers.size() + held.size() + unrelatedCount, loadCount.get(), evictionCount.get());
+    }
+    /**
+     * Verilen sınıfın, diğer sınıfın yükleyicisinden görülebildiğini (diğer
+     * sınıfın yükleyicisinden veyâ onun atalarından yüklendiğini) sorgular<br>
+     * Bir sınıfın önbellek değeri yalnızca ondan görülebilen sınıfları güçlü
+     * referansla tutabilir; aksi hâlde görülebilen sınıf, diğer sınıfın
+     * yükleyicisini bellekte tutar
+     * @param cls Referans tutulacak sınıf
+     * @param from Değeri saklanacak sınıf
+     * @return {@code cls}, {@code from} sınıfından görülebiliyorsa {@code true}
+     */
+    static boolean isVisibleFrom(Class<?> cls, Class<?> from){
+        ClassLoader loader = cls.getClassLoader();
+        if(loader == null)// Önyükleyici her yükleyicinin atasıdır
+            return true;
+        for(ClassLoader current = from.getClassLoader(); current != null; current = current.getParent()){
+            if(current == loader)
+                return true;
+        }
+        return false;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private ClassValue<Entry<V>> newValues(){
+        return new ClassValue<Entry<V>>(){
+            @Override
+            protected Entry<V> computeValue(Class<?> cls){
+                return new Entry<V>(ClassCache.this.computeValue(cls));
+            }
+        };
+    }
+    private V getHeld(Class<?> cls){
+        if(!isVisibleFrom(cls, ClassCache.class))// Yükleyiciler birbirini görmüyor; güçlü referansla saklanırsa yükleyicilerden biri bellekte kalır
+            return getUnrelated(cls);
+        ConcurrentHashMap<Class<?>, Entry<V>> current = held;
+        Entry<V> entry = current.get(cls);
+        if(entry == null){
+            Entry<V> created = new Entry<V>(computeValue(cls));
+            entry = current.putIfAbsent(cls, created);
+            if(entry == null){
+                loadCount.incrementAndGet();
+                entry = created;
+            }
+        }
+        return entry.value;
+    }
+    private V getUnrelated(Class<?> cls){
+        synchronized(unrelated){
+            WeakReference<V> ref = unrelated.get(cls);
+            V value = (ref == null ? null : ref.get());
+            if(value == null){
+                value = computeValue(cls);
+                unrelated.put(cls, new WeakReference<V>(value));
+                loadCount.incrementAndGet();
+            }
+            return value;
+        }
+    }
+    private void track(Class<?> cls, Entry<V> entry){
+        synchronized(entry){// Yarışı kaybeden değerler sayılmasın diye saklanan kayıt üzerinden
+            if(entry.isTracked)
+                return;
+            trackers.add(new WeakReference<Class<?>>(cls, collected));
+            loadCount.incrementAndGet();
+            entry.isTracked = true;
+        }
+        expunge();
+    }
+    private void expunge(){
+        Reference<? extends Class<?>> ref;
+        while((ref = collected.poll()) != null){
+            if(trackers.remove(ref))
+                evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Sınıfta saklanan kayıt
+     */
+    private static final class Entry<V>{
+        final V value;
+        volatile boolean isTracked;
+
+        Entry(V value){
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package ReflectorRuntime;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bir sınıfın yansıma ('reflection') bilgilerini bir kez toplayıp, saklayan
+ * sınıftır<br>
+ * Sınıfın alanları, metotları, kodlama biçimine göre 'getter' ve 'setter'
+ * metotları ve üst sınıflarla birleştirilmiş görünümleri burada tutulur<br>
+ * Nesneler {@code Reflector} içerisindeki önbellek üzerinden elde edilir;
+ * tüm alanlar ilk erişimden sonra değişmediğinden iş parçacıkları arasında
+ * güvenle paylaşılabilir<br>
+ * Nesne ve onda saklanan planlar, {@code ClassCache} ile sınıfın kendisinde
+ * tutulur. Sınıfta saklanan bir değer, kendisini saklayan {@code ClassValue}
+ * nesnesine güçlü referansla ulaşırsa hiç silinmez; bu yüzden bunlar
+ * {@code Reflector} nesnesini zayıf referansla tutar. Bu nesnelere yalnızca
+ * {@code Reflector} üzerinden ulaşıldığından referans kullanımda iken
+ * toplanmaz; kullanıcıya verilen planlar {@code Reflector} nesnesini ayrıca
+ * güçlü referansla tutan kopyalardır<br>
+ * Üst sınıf taraması yapılırken kök sınıf {@code Object} dâhil edilmez<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class ClassMetadata{
+    private static final Object NOT_FOUND = new Object();// Aranıp, bulunamayan metotlar için işâret
+    private static final int CODING_STYLE_COUNT = Reflector.CODING_STYLE.values().length;
+    private static final int METHOD_TYPE_COUNT = Reflector.METHOD_TYPES.values().length;
+    private static final int BACKEND_COUNT = Reflector.ACCESSOR_BACKEND.values().length;
+    private final Class<?> cls;
+    private final WeakReference<Reflector> reflector;// Üst sınıf bilgilerine ve metot isimlerine erişmek için; zayıf referans, çünkü nesne sınıfta saklanır
+    private final Field[] declaredFields;
+    private final Method[] declaredMethods;
+    private final Map<String, Field> declaredFieldMap;
+    private final Map<String, Method> declaredMethodMap;
+    private volatile Map<String, Field> fieldMapWithSupers;
+    private volatile Map<String, Method> methodMapWithSupers;
+    private final ConcurrentHashMap<String, Object>[] specialMethods;// Kodlama biçimi, metot tipi ve üst sınıf taramasına göre ayrılmış 'getter' - 'setter' önbelleği
+    private final ConcurrentHashMap<String, Object> accessibleFields = new ConcurrentHashMap<String, Object>();// Erişimi zorlanmış alan kopyaları
+    private final ConcurrentHashMap<Method, Object> accessibleMethods = new ConcurrentHashMap<Method, Object>();// Erişimi zorlanmış metot kopyaları
+    private final ConcurrentHashMap<String, Object>[] fieldAccessors;// Arka uca ve erişim zorlamasına göre ayrılmış alan erişimcileri
+    private final ConcurrentHashMap<Method, Object>[] methodAccessors;// Arka uca ve erişim zorlamasına göre ayrılmış metot erişimcileri
+    private final ConcurrentHashMap<Integer, ObjectInjector<?>> injectors = new ConcurrentHashMap<Integer, ObjectInjector<?>>();// Kodlama biçimi ve ayarlara göre zerk planları
+    private final ConcurrentHashMap<List<Field>, FieldValueMap.Schema> fieldSchemas = new ConcurrentHashMap<List<Field>, FieldValueMap.Schema>();// Alan kümelerine göre 'getValueOfFields()' şemaları
+    private volatile DeepCopier.Plan copyPlan;// 'deepCopy()' kopyalama planı
+    private volatile AccessorGenerator accessorGenerator;// 'GENERATED' arka ucu için erişimci sınıfı üreticisi
+    private volatile Object precompiledAccessor;// 'ReflectableProcessor' ile üretilmiş erişimci veyâ 'NOT_FOUND'
+    private volatile Object constructorBinding;// Yapıcı yöntemle zerk bağı veyâ 'NOT_FOUND'
+    private volatile Instantiator instantiator;// 'produceInstance()' üreticisi
+    private final ConcurrentHashMap<Integer, ObjectDiffer> differs = new ConcurrentHashMap<Integer, ObjectDiffer>();// Kodlama biçimi ve ayarlara göre 'diff()' planları
+
+    ClassMetadata(Class<?> cls, Reflector reflector){
+        this.cls = cls;
+        this.reflector = new WeakReference<Reflector>(reflector);
+        Field[] fields;
+        Method[] methods;
+        try{
+            fields = cls.getDeclaredFields();
+        }
+        catch(SecurityException exc){
+            System.err.println("exc : " + exc.toString());
+            fields = new Field[0];
+        }
+        try{
+            methods = cls.getDeclaredMethods();
+        }
+        catch(SecurityException exc){
+            System.err.println("exc : " + exc.toString());
+            methods = new Method[0];
+        }
+        this.declaredFields = fields;
+        this.declaredMethods = methods;
+        Map<String, Field> mapOfFields = new HashMap<String, Field>();
+        for(Field fl : fields){
+            if(mapOfFields.get(fl.getName()) == null)
+                mapOfFields.put(fl.getName(), fl);
+        }
+        this.declaredFieldMap = Collections.unmodifiableMap(mapOfFields);
+        Map<String, Method> mapOfMethods = new HashMap<String, Method>();
+        for(Method m : methods){
+            if(mapOfMethods.get(m.getName()) == null)
+                mapOfMethods.put(m.getName(), m);
+        }
+        this.declaredMethodMap = Collections.unmodifiableMap(mapOfMethods);
+        this.specialMethods = newMapArray(CODING_STYLE_COUNT * METHOD_TYPE_COUNT * 2);
+        for(int sayac = 0; sayac < specialMethods.length; sayac++){
+            specialMethods[sayac] = new ConcurrentHashMap<String, Object>();
+        }
+        this.fieldAccessors = newMapArray(BACKEND_COUNT * 2);
+        this.methodAccessors = newMapArray(BACKEND_COUNT * 2);
+        for(int sayac = 0; sayac < fieldAccessors.length; sayac++){
+            fieldAccessors[sayac] = new ConcurrentHashMap<String, Object>();
+            methodAccessors[sayac] = new ConcurrentHashMap<Method, Object>();
+        }
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Sınıfın alanlarını isimleriyle birlikte döndürür<br>
+     * Üst sınıflar taranırsa, çakışma durumunda alt sınıftaki alan geçerlidir
+     * @param scanSuperClasses Üst sınıfların taranması durumu
+     * @return Alan ismi - alan haritası (değiştirilemez)
+     */
+    Map<String, Field> getFieldMap(boolean scanSuperClasses){
+        if(!scanSuperClasses)
+            return declaredFieldMap;
+        Map<String, Field> map = fieldMapWithSupers;
+        if(map == null){
+            ClassMetadata superMetadata = getSuperMetadata();
+            if(superMetadata == null)
+                map = declaredFieldMap;
+            else{
+                Map<String, Field> merged = new HashMap<String, Field>(declaredFieldMap);
+                for(Map.Entry<String, Field> entry : superMetadata.getFieldMap(true).entrySet()){
+                    // Üst sınıftaki alanların alt sınıftakilerin yerine geçmemesi
+                    // için şu şart eklenmelidir:
+                    if(merged.get(entry.getKey()) == null)
+                        merged.put(entry.getKey(), entry.getValue());
+                }
+                map = Collections.unmodifiableMap(merged);
+            }
+            fieldMapWithSupers = map;
+        }
+        return map;
+    }
+    /**
+     * Sınıfın metotlarını isimleriyle birlikte döndürür<br>
+     * Aynı isimde birden fazla metot varsa ilk bulunan alınır; üst sınıflar
+     * taranırsa, çakışma durumunda alt sınıftaki metot geçerlidir
+     * @param scanSuperClasses Üst sınıfların taranması durumu
+     * @return Metot ismi - metot haritası (değiştirilemez)
+     */
+    Map<String, Method> getMethodMap(boolean scanSuperClasses){
+        if(!scanSuperClasses)
+            return declaredMethodMap;
+        Map<String, Method> map = methodMapWithSupers;
+        if(map == null){
+            ClassMetadata superMetadata = getSuperMetadata();
+            if(superMetadata == null)
+                map = declaredMethodMap;
+            else{
+                Map<String, Method> merged = new HashMap<String, Method>(declaredMethodMap);
+                for(Map.Entry<String, Method> entry : superMetadata.getMethodMap(true).entrySet()){
+                    if(merged.get(entry.getKey()) == null)
+                        merged.put(entry.getKey(), entry.getValue());
+                }
+                map = Collections.unmodifiableMap(merged);
+            }
+            methodMapWithSupers = map;
+        }
+        return map;
+    }
+    /**
+     * Verilen alan için kodlama biçimine uygun 'getter' veyâ 'setter'
+     * metodunu döndürür<br>
+     * Aynı isimde birden fazla metot varsa son bulunan alınır<br>
+     * Sonuç (bulunamama durumu dâhil) önbelleğe alınır
+     * @param fieldName Alanın ismi
+     * @param methodType Aranan metodun tipi
+     * @param codingStyle Metot isminin çıkartılabilmesi için kodlama biçimi
+     * @param scanSuperClasses Üst sınıfların taranmasını ifâde eden parametre
+     * @return Aranan metot veyâ {@code null}
+     */
+    Method getSpecialMethod(String fieldName, Reflector.METHOD_TYPES methodType,
+            Reflector.CODING_STYLE codingStyle, boolean scanSuperClasses){
+        if(codingStyle == null)// Kodlama biçimi olmadan metot ismi çıkartılamaz
+            return null;
+        ConcurrentHashMap<String, Object> methods = specialMethods[
+            (codingStyle.ordinal() * METHOD_TYPE_COUNT + methodType.ordinal()) * 2 + (scanSuperClasses ? 1 : 0)];
+        Object found = methods.get(fieldName);
+        if(found == null){
+            Method m = findSpecialMethod(fieldName, methodType, codingStyle, scanSuperClasses);
+            found = (m == null ? NOT_FOUND : m);
+            methods.putIfAbsent(fieldName, found);
+        }
+        return (found == NOT_FOUND ? null : (Method) found);
+    }
+    /**
+     * Bu sınıfta tanımlanan, verilen isimdeki alanın erişimi zorlanmış bir
+     * kopyasını döndürür<br>
+     * Dışarıya verilen {@code Field} nesneleri paylaşıldığından erişim
+     * zorlaması onlar üzerinde yapılmaz; bunun yerine ayrı bir kopya
+     * oluşturulup, önbelleğe alınır<br>
+     * @param fieldName Alanın ismi
+     * @return Erişilebilir alan kopyası veyâ erişim sağlanamıyorsa {@code null}
+     */
+    Field getAccessibleField(String fieldName){
+        Object found = accessibleFields.get(fieldName);
+        if(found == null){
+            try{
+                Field fl = cls.getDeclaredField(fieldName);// Yeni bir kopya döndürür
+                fl.setAccessible(true);
+                found = fl;
+            }
+            catch(NoSuchFieldException | SecurityException exc){
+                found = NOT_FOUND;
+            }
+            accessibleFields.putIfAbsent(fieldName, found);
+        }
+        return (found == NOT_FOUND ? null : (Field) found);
+    }
+    /**
+     * Bu sınıfta tanımlanan, verilen metodun erişimi zorlanmış bir kopyasını
+     * döndürür<br>
+     * @param m Metot, bu sınıfta tanımlanmış olmalıdır
+     * @return Erişilebilir metot kopyası veyâ erişim sağlanamıyorsa {@code null}
+     */
+    Method getAccessibleMethod(Method m){
+        Object found = accessibleMethods.get(m);
+        if(found == null){
+            try{
+                Method copy = cls.getDeclaredMethod(m.getName(), m.getParameterTypes());
+                copy.setAccessible(true);
+                found = copy;
+            }
+            catch(NoSuchMethodException | SecurityException exc){
+                found = NOT_FOUND;
+            }
+            accessibleMethods.putIfAbsent(m, found);
+        }
+        return (found == NOT_FOUND ? null : (Method) found);
+    }
+    /**
+     * Bu sınıfta tanımlanan, verilen isimdeki alanın erişimcisini döndürür<br>
+     * Erişimci ilk istekte oluşturulur ve saklanır<br>
+     * Erişim zorlanmıyorsa erişimci, alana erişim izni olmadığında
+     * {@code Field.get} gibi {@code IllegalAccessException} fırlatır;
+     * derleme zamânında üretilmiş erişimcinin kapsadığı alanlar, yansıma arka
+     * ucu dışında, erişim zorlanmadan bu erişimciyle okunup yazılır
+     * @param fieldName Alanın ismi
+     * @param forceAccessibility Erişimin zorlanmasını ifâde eden parametre
+     * @param backend Kullanılacak arka uç
+     * @return Alan erişimcisi veyâ alan yoksa ya da erişim zorlanamıyorsa
+     * {@code null}
+     */
+    FieldAccessor getFieldAccessor(String fieldName, boolean forceAccessibility, Reflector.ACCESSOR_BACKEND backend){
+        ConcurrentHashMap<String, Object> accessors = fieldAccessors[backend.ordinal() * 2 + (forceAccessibility ? 1 : 0)];
+        Object found = accessors.get(fieldName);
+        if(found == null){
+            Field fl = (forceAccessibility ? getAccessibleField(fieldName) : declaredFieldMap.get(fieldName));
+            int precompiledIndex = (fl == null || backend == Reflector.ACCESSOR_BACKEND.REFLECTION ? -1 : indexOfPrecompiledField(fieldName));
+            if(precompiledIndex != -1 && forceAccessibility && !getPrecompiledAccessor().isWritable(precompiledIndex))
+                precompiledIndex = -1;// Erişimi zorlanan 'final' alana yazılabilmesi için diğer arka uçlar kullanılır
+            if(fl == null)
+                found = NOT_FOUND;
+            else if(precompiledIndex != -1)// Derleme zamânında üretilmiş erişimci alanı kapsıyor; başka erişimci gerekmez
+                found = new FieldAccessor.PrecompiledFieldAccessor(fl, getPrecompiledAccessor(), precompiledIndex, backend);
+            else{
+                found = FieldAccessor.create(fl, backend);
+                if(backend == Reflector.ACCESSOR_BACKEND.GENERATED)
+                    found = new FieldAccessor.GeneratedFieldAccessor((FieldAccessor) found, getAccessorGenerator(), indexOfField(fieldName));
+            }
+            accessors.putIfAbsent(fieldName, found);
+        }
+        return (found == NOT_FOUND ? null : (FieldAccessor) found);
+    }
+    /**
+     * Bu sınıfta tanımlanan, verilen metodun erişimcisini döndürür<br>
+     * Erişimci ilk istekte oluşturulur ve saklanır
+     * @param m Metot, bu sınıfta tanımlanmış olmalıdır
+     * @param forceAccessibility Erişimin zorlanmasını ifâde eden parametre
+     * @param backend Kullanılacak arka uç
+     * @return Metot erişimcisi veyâ erişim zorlanamıyorsa {@code null}
+     */
+    MethodAccessor getMethodAccessor(Method m, boolean forceAccessibility, Reflector.ACCESSOR_BACKEND backend){
+        ConcurrentHashMap<Method, Object> accessors = methodAccessors[backend.ordinal() * 2 + (forceAccessibility ? 1 : 0)];
+        Object found = accessors.get(m);
+        if(found == null){
+            Method target = (forceAccessibility ? getAccessibleMethod(m) : m);
+            found = (target == null ? NOT_FOUND : MethodAccessor.create(target, backend));
+            if(target != null && backend == Reflector.ACCESSOR_BACKEND.GENERATED)
+                found = new MethodAccessor.GeneratedMethodAccessor((MethodAccessor) found, getAccessorGenerator(), indexOfMethod(m));
+            accessors.putIfAbsent(m, found);
+        }
+        return (found == NOT_FOUND ? null : (MethodAccessor) found);
+    }
+    /**
+     * Verilen alan dizisi için alan değeri haritalarının paylaşacağı şemayı
+     * döndürür<br>
+     * Şema ilk istekte oluşturulur ve saklanır; verilen dizi saklanmaz<br>
+     * Sınıf için {@code FieldValueMap.MAX_CACHED_SCHEMAS} kadar farklı alan
+     * dizisi saklandıysa yeni diziler için şema saklanmadan oluşturulur
+     * @param fields Değerleri alınacak alanlar
+     * @return Şema
+     */
+    FieldValueMap.Schema getFieldSchema(Field[] fields){
+        List<Field> key = Arrays.asList(fields);
+        FieldValueMap.Schema schema = fieldSchemas.get(key);
+        if(schema == null){
+            FieldValueMap.Schema created = new FieldValueMap.Schema(fields);
+            if(fieldSchemas.size() >= FieldValueMap.MAX_CACHED_SCHEMAS)// Her çağrıda farklı alan kümesi verilirse önbellek sınırsız büyümesin
+                return created;
+            schema = fieldSchemas.putIfAbsent(Arrays.asList(fields.clone()), created);
+            if(schema == null)
+                schema = created;
+        }
+        return schema;
+    }
+    /**
+     * Sınıfın nesneleri için derin kopyalama planını döndürür<br>
+     * Plan ilk istekte oluşturulur ve saklanır
+     * @return Kopyalama planı
+     */
+    DeepCopier.Plan getCopyPlan(){
+        DeepCopier.Plan plan = copyPlan;
+        if(plan == null){
+            plan = DeepCopier.Plan.create(reflector.get(), cls);
+            copyPlan = plan;
+        }
+        return plan;
+    }
+    /**
+     * Sınıfın yeni örneklerini {@code produceInstance()} kurallarıyla üreten
+     * üreticiyi döndürür<br>
+     * Üretici ilk istekte oluşturulur ve saklanır
+     * @return Üretici
+     */
+    Instantiator getInstantiator(){
+        Instantiator found = instantiator;
+        if(found == null){
+            found = Instantiator.create(reflector.get(), cls);
+            instantiator = found;
+        }
+        return found;
+    }
+    /**
+     * Sınıfın nesnelerini yapıcı yöntem parametreleriyle üretmek için
+     * hazırlanan bağı döndürür<br>
+     * Bağ ilk istekte oluşturulur ve saklanır; ayrıntılar için
+     * {@code ConstructorBinding.create()} yöntemine bakınız
+     * @return Yapıcı yöntem bağı veyâ sınıf parametresiz yapıcı yöntemle
+     * üretilecekse ya da uygun yapıcı yöntem yoksa {@code null}
+     */
+    ConstructorBinding getConstructorBinding(){
+        Object found = constructorBinding;
+        if(found == null){
+            found = ConstructorBinding.create(reflector.get(), cls);
+            if(found == null)
+                found = NOT_FOUND;
+            constructorBinding = found;
+        }
+        return (found == NOT_FOUND ? null : (ConstructorBinding) found);
+    }
+    /**
+     * Sınıf için verilen kodlama biçimi ve ayarlara âit zerk planını döndürür<br>
+     * Plan ilk istekte oluşturulur ve saklanır
+     * @param codingStyle 'setter' metotlarının aranmasında kullanılacak kodlama biçimi
+     * @param tryForceCasting Veri tipi uyuşmadığında dönüşüm yapılması durumu
+     * @param scanSuperClasses Üst sınıfların taranması durumu
+     * @param forceAccessibility Erişimin zorlanması durumu
+     * @return Zerk planı
+     */
+    ObjectInjector<?> getObjectInjector(Reflector.CODING_STYLE codingStyle,
+            boolean tryForceCasting, boolean scanSuperClasses, boolean forceAccessibility){
+        int key = (codingStyle == null ? CODING_STYLE_COUNT : codingStyle.ordinal()) * 8
+            + (tryForceCasting ? 4 : 0) + (scanSuperClasses ? 2 : 0) + (forceAccessibility ? 1 : 0);
+        ObjectInjector<?> injector = injectors.get(key);
+        if(injector == null){
+            ObjectInjector<?> created = newObjectInjector(cls, codingStyle, tryForceCasting, scanSuperClasses, forceAccessibility);
+            injector = injectors.putIfAbsent(key, created);
+            if(injector == null)
+                injector = created;
+        }
+        return injector;
+    }
+    /**
+     * Sınıf için verilen kodlama biçimi ve ayarlara âit karşılaştırma planını
+     * döndürür<br>
+     * Plan ilk istekte oluşturulur ve saklanır
+     * @param codingStyle "getter" metotlarının aranmasında kullanılacak kodlama biçimi
+     * @param forceAccessibility Erişimin zorlanması durumu
+     * @param scanSuperClasses Üst sınıfların taranması durumu
+     * @return Karşılaştırma planı
+     */
+    ObjectDiffer getObjectDiffer(Reflector.CODING_STYLE codingStyle, boolean forceAccessibility, boolean scanSuperClasses){
+        int key = (codingStyle == null ? CODING_STYLE_COUNT : codingStyle.ordinal()) * 4
+            + (scanSuperClasses ? 2 : 0) + (forceAccessibility ? 1 : 0);
+        ObjectDiffer differ = differs.get(key);
+        if(differ == null){
+            ObjectDiffer created = new ObjectDiffer(reflector.get(), cls, codingStyle, forceAccessibility, scanSuperClasses);
+            differ = differs.putIfAbsent(key, created);
+            if(differ == null)
+                differ = created;
+        }
+        return differ;
+    }
+    /**
+     * Sınıf için {@code ReflectableProcessor} ile derleme zamânında üretilmiş
+     * erişimciyi döndürür<br>
+     * Erişimci yalnızca {@code @Reflectable} ile işâretlenen sınıflar için,
+     * sınıfın yükleyicisinde {@code <Sınıf>$$ReflectorAccessor} ismiyle ilk
+     * istekte aranır; sonuç saklanır
+     * @return Üretilmiş erişimci veyâ yoksa {@code null}
+     */
+    GeneratedAccessor getPrecompiledAccessor(){
+        Object found = precompiledAccessor;
+        if(found == null){
+            found = NOT_FOUND;
+            try{
+                if(cls.isAnnotationPresent(Reflectable.class)){// İşâretlenmeyen sınıflar için başarısız sınıf araması yapılmasın
+                    Class<?> accessorClass = Class.forName(cls.getName() + AccessorGenerator.SUFFIX, true, cls.getClassLoader());
+                    if(GeneratedAccessor.class.isAssignableFrom(accessorClass))
+                        found = accessorClass.getDeclaredConstructor().newInstance();
+                }
+            }
+            catch(ClassNotFoundException exc){
+                // Sınıf işlemci olmadan derlenmiş; yansıma kullanılır
+            }
+            catch(ReflectiveOperationException | LinkageError | SecurityException exc){
+                System.err.println("exc : " + exc.toString());
+            }
+            precompiledAccessor = found;
+        }
+        return (found == NOT_FOUND ? null : (GeneratedAccessor) found);
+    }
+    /**
+     * @return Sınıfta tanımlanan alanlar (değiştirilmemelidir)
+     */
+    Field[] getDeclaredFields(){
+        return declaredFields;
+    }
+    /**
+     * @return Bilgileri tutulan sınıf
+     */
+    Class<?> getTargetClass(){
+        return cls;
+    }
+
+    /**
+     * {@code GENERATED} arka ucu için sınıfın erişimci sınıfı üreticisini
+     * döndürür<br>
+     * Üretici ilk istekte oluşturulur ve saklanır; alan ve metot indisleri
+     * {@code getDeclaredFields()} ve {@code getDeclaredMethods()} sırasıdır
+     * @return Erişimci sınıfı üreticisi
+     */
+    AccessorGenerator getAccessorGenerator(){
+        AccessorGenerator generator = accessorGenerator;
+        if(generator == null){
+            synchronized(this){// Kullanım sayısı tek bir üreticide toplanmalı
+                generator = accessorGenerator;
+                if(generator == null){
+                    generator = new AccessorGenerator(cls, declaredFields, declaredMethods);
+                    accessorGenerator = generator;
+                }
+            }
+        }
+        return generator;
+    }
+    /**
+     * @param fieldName Alan ismi
+     * @return Bu sınıfta tanımlanan, verilen isimdeki alanın
+     * {@code getDeclaredFields()} içerisindeki indisi veyâ yoksa {@code -1}
+     */
+    int indexOfField(String fieldName){
+        for(int sayac = 0; sayac < declaredFields.length; sayac++){
+            if(declaredFields[sayac].getName().equals(fieldName))
+                return sayac;
+        }
+        return -1;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    @SuppressWarnings("unchecked")// Genel tipli dizi oluşturulamaz; dizi yalnızca bu sınıfta, elemanları 'K' anahtarlı haritalarla doldurularak kullanılır
+    private static <K> ConcurrentHashMap<K, Object>[] newMapArray(int length){
+        return (ConcurrentHashMap<K, Object>[]) new ConcurrentHashMap<?, ?>[length];
+    }
+    private <T> ObjectInjector<T> newObjectInjector(Class<T> target, Reflector.CODING_STYLE codingStyle,
+            boolean tryForceCasting, boolean scanSuperClasses, boolean forceAccessibility){
+        return new ObjectInjector<T>(reflector.get(), target, codingStyle, tryForceCasting, scanSuperClasses, forceAccessibility);
+    }
+    /**
+     * @return Verilen alanın, derleme zamânında üretilmiş erişimcideki indisi
+     * veyâ erişimci yoksa ya da alanı kapsamıyorsa {@code -1}
+     */
+    private int indexOfPrecompiledField(String fieldName){
+        GeneratedAccessor precompiled = getPrecompiledAccessor();
+        String[] names = (precompiled == null ? null : precompiled.getFieldNames());
+        if(names == null)
+            return -1;
+        for(int sayac = 0; sayac < names.length; sayac++){
+            if(names[sayac].equals(fieldName))
+                return sayac;
+        }
+        return -1;
+    }
+    private int indexOfMethod(Method m){
+        for(int sayac = 0; sayac < declaredMethods.length; sayac++){
+            if(declaredMethods[sayac].equals(m))
+                return sayac;
+        }
+        return -1;
+    }
+    private Method findSpecialMethod(String fieldName, Reflector.METHOD_TYPES methodType,
+            Reflector.CODING_STYLE codingStyle, boolean scanSuperClasses){
+        String methodName = reflector.get().getMethodNameDependsCodeStyle(fieldName, codingStyle, methodType);
+        Method found = null;
+        for(Method m : declaredMethods){
+            if(m.getName().equals(methodName))
+                found = m;
+        }
+        if(found == null && scanSuperClasses){
+            ClassMetadata superMetadata = getSuperMetadata();
+            if(superMetadata != null)
+                return superMetadata.getSpecialMethod(fieldName, methodType, codingStyle, true);
+        }
+        return found;
+    }
+    private ClassMetadata getSuperMetadata(){
+        Class<?> clsSuper = cls.getSuperclass();
+        if(clsSuper == null || clsSuper.equals(Object.class))
+            return null;
+        return reflector.get().getClassMetadata(clsSuper);
+    }
+}
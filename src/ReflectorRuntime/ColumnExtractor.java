@@ -0,0 +1,131 @@
+package ReflectorRuntime;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Bir nesne dizisinin verilen alanlarını sütun dizilerine çıkaran sınıftır<br>
+ * Her alan için erişimci bir kez seçilir ve satırlar bu erişimciyle
+ * okunur; temel tipteki alanlar kutulanmadan temel tipte dizilere yazılır<br>
+ * Alana doğrudan erişilemeyen nesnelerde, {@code getValueOfFields()} gibi
+ * 'getter' metodu kullanılır<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class ColumnExtractor{
+    private final Reflector reflector;
+    private final Reflector.CODING_STYLE codingStyle;
+    private final boolean forceAccessibility;
+
+    ColumnExtractor(Reflector reflector, Reflector.CODING_STYLE codingStyle, boolean forceAccessibility){
+        this.reflector = reflector;
+        this.codingStyle = codingStyle;
+        this.forceAccessibility = forceAccessibility;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen satırlardan verilen alanların sütunlarını çıkarır
+     * @param rows Nesneler; {@code null} elemanlar olabilir
+     * @param fields Sütunları çıkarılacak alanlar
+     * @return Sütunlar
+     */
+    FieldColumns extract(Object[] rows, Field[] fields){
+        String[] names = new String[fields.length];
+        Object[] columns = new Object[fields.length];
+        for(int sayac = 0; sayac < fields.length; sayac++){
+            names[sayac] = fields[sayac].getName();
+            columns[sayac] = extractColumn(rows, fields[sayac]);
+        }
+        return new FieldColumns(names, columns, rows.length);
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private Object extractColumn(Object[] rows, Field fl){
+        FieldAccessor accessor = reflector.getFieldAccessor(fl, false);
+        if(!accessor.isReadable)
+            accessor = (forceAccessibility ? reflector.getFieldAccessor(fl, true) : null);
+        if(accessor != null && !accessor.isReadable)
+            accessor = null;
+        Class<?> type = fl.getType();
+        if(type.equals(int.class) || type.equals(short.class) || type.equals(byte.class) || type.equals(char.class)){
+            int[] column = new int[rows.length];
+            for(int sayac = 0; sayac < rows.length; sayac++){
+                Object row = rows[sayac];
+                if(row == null)
+                    continue;
+                if(accessor != null && accessor.canGet(row)){
+                    try{
+                        column[sayac] = accessor.getInt(row);
+                        continue;
+                    }
+                    catch(IllegalAccessException | IllegalArgumentException | ExceptionInInitializerError exc){}
+                }
+                Object value = readByGetter(row, fl);
+                if(value instanceof Number)
+                    column[sayac] = ((Number) value).intValue();
+                else if(value instanceof Character)
+                    column[sayac] = (Character) value;
+            }
+            return column;
+        }
+        if(type.equals(long.class)){
+            long[] column = new long[rows.length];
+            for(int sayac = 0; sayac < rows.length; sayac++){
+                Object row = rows[sayac];
+                if(row == null)
+                    continue;
+                if(accessor != null && accessor.canGet(row)){
+                    try{
+                        column[sayac] = accessor.getLong(row);
+                        continue;
+                    }
+                    catch(IllegalAccessException | IllegalArgumentException | ExceptionInInitializerError exc){}
+                }
+                Object value = readByGetter(row, fl);
+                if(value instanceof Number)
+                    column[sayac] = ((Number) value).longValue();
+            }
+            return column;
+        }
+        if(type.equals(double.class) || type.equals(float.class)){
+            double[] column = new double[rows.length];
+            for(int sayac = 0; sayac < rows.length; sayac++){
+                Object row = rows[sayac];
+                if(row == null)
+                    continue;
+                if(accessor != null && accessor.canGet(row)){
+                    try{
+                        column[sayac] = accessor.getDouble(row);
+                        continue;
+                    }
+                    catch(IllegalAccessException | IllegalArgumentException | ExceptionInInitializerError exc){}
+                }
+                Object value = readByGetter(row, fl);
+                if(value instanceof Number)
+                    column[sayac] = ((Number) value).doubleValue();
+            }
+            return column;
+        }
+        Object[] column = new Object[rows.length];
+        for(int sayac = 0; sayac < rows.length; sayac++){
+            Object row = rows[sayac];
+            if(row == null)
+                continue;
+            if(accessor != null && accessor.canGet(row)){
+                try{
+                    column[sayac] = accessor.get(row);
+                    continue;
+                }
+                catch(IllegalAccessException | IllegalArgumentException | ExceptionInInitializerError exc){}
+            }
+            column[sayac] = readByGetter(row, fl);
+        }
+        return column;
+    }
+    private Object readByGetter(Object row, Field fl){
+        Method m = reflector.getSpecialMethod(row.getClass(), fl.getName(), Reflector.METHOD_TYPES.GET, codingStyle);
+        if(m == null)
+            return null;
+        return reflector.invokeMethod(row, m, null, forceAccessibility);
+    }
+}
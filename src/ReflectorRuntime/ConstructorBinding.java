@@ -0,0 +1,326 @@
+package ReflectorRuntime;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Parametresiz yapıcı yöntemi olmayan sınıfların ve kayıtların ('record')
+ * nesnelerini, özellik haritasındaki değerleri yapıcı yönteme vererek tek
+ * çağrıda üreten, sınıf başına bir kez hazırlanan bağdır<br>
+ * Kullanılan yapıcı yöntem şöyle seçilir:<br>
+ * - Kayıtlar için kanonik yapıcı yöntem; parametreler kayıt bileşenlerinin
+ * isimleriyle eşleşir<br>
+ * - Diğer sınıflar için tüm parametrelerine isim bulunabilen yapıcı
+ * yöntemlerden en çok parametreli olanı. Parametre ismi
+ * {@code @ParameterName} bildiriminden, yoksa ({@code -parameters} ile
+ * derlenmişse) parametrenin kendi isminden alınır. İkisi de yoksa ve
+ * parametre tipleri, sınıfta tanımlanan statik olmayan alanların tipleriyle
+ * sırasıyla aynıysa alan isimleri kullanılır<br>
+ * Her parametreye {@code ObjectInjector} ile aynı dönüşüm kuralları
+ * uygulanır; haritada bulunmayan veyâ dönüştürülemeyen parametrelere
+ * varsayılan değer ({@code null}, {@code 0}, {@code false}) verilir<br>
+ * Java 16'dan eski sürümlerde kayıtlar bulunmadığından kayıt tespiti
+ * yansımayla yapılır<br>
+ * Nesne iş parçacıkları arasında güvenle paylaşılabilir<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class ConstructorBinding{
+    private static final Method IS_RECORD;// Class.isRecord(); Java 16 ve üstü
+    private static final Method GET_RECORD_COMPONENTS;// Class.getRecordComponents()
+    private static final Method GET_COMPONENT_NAME;// RecordComponent.getName()
+    private static final Method GET_COMPONENT_TYPE;// RecordComponent.getType()
+    private final WeakReference<Reflector> reflector;// Bağ sınıfta saklandığından zayıf referans
+    private final Constructor<?> constructor;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final String[] genericTypeNames;// Koleksiyon veyâ harita olan parametreler için jenerik tip ismi, diğerleri için 'null'
+    private final Map<String, Integer> indexes;
+    private volatile Constructor<?> accessible;// Erişimi zorlanmış kopya
+
+    static{
+        Method isRecord = null;
+        Method getComponents = null;
+        Method getName = null;
+        Method getType = null;
+        try{
+            isRecord = Class.class.getMethod("isRecord");
+            getComponents = Class.class.getMethod("getRecordComponents");
+            Class<?> component = Class.forName("java.lang.reflect.RecordComponent");
+            getName = component.getMethod("getName");
+            getType = component.getMethod("getType");
+        }
+        catch(NoSuchMethodException | ClassNotFoundException exc){
+            isRecord = null;// Kayıtlar desteklenmiyor
+        }
+        IS_RECORD = isRecord;
+        GET_RECORD_COMPONENTS = (isRecord == null ? null : getComponents);
+        GET_COMPONENT_NAME = getName;
+        GET_COMPONENT_TYPE = getType;
+    }
+    private ConstructorBinding(Reflector reflector, Constructor<?> constructor, String[] names){
+        this.reflector = new WeakReference<Reflector>(reflector);
+        this.constructor = constructor;
+        this.names = names;
+        this.types = constructor.getParameterTypes();
+        this.genericTypeNames = new String[types.length];
+        this.indexes = new HashMap<String, Integer>();
+        Type[] genericTypes = constructor.getGenericParameterTypes();
+        boolean isGenericAligned = (genericTypes.length == types.length);// İç sınıflarda ve bâzı derleyicilerde farklı olabilir
+        for(int sayac = 0; sayac < types.length; sayac++){
+            indexes.put(names[sayac], sayac);
+            if(reflector.isCollectionOrMap(types[sayac]))
+                genericTypeNames[sayac] = (isGenericAligned ? genericTypes[sayac] : types[sayac]).getTypeName();
+        }
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen sınıf için yapıcı yöntem bağını hazırlar<br>
+     * Sınıf bir kayıt değilse ve parametresiz yapıcı yöntemi varsa, nesneler
+     * önceki gibi parametresiz yapıcı yöntemle üretileceğinden bağ
+     * hazırlanmaz
+     * @param reflector Dönüşümlerde kullanılacak {@code Reflector}
+     * @param cls Hedef sınıf
+     * @return Yapıcı yöntem bağı veyâ uygun yapıcı yöntem yoksa {@code null}
+     */
+    static ConstructorBinding create(Reflector reflector, Class<?> cls){
+        if(cls.isInterface() || cls.isArray() || cls.isEnum() || cls.isPrimitive()
+            || Modifier.isAbstract(cls.getModifiers()))
+            return null;
+        if(cls.isMemberClass() && !Modifier.isStatic(cls.getModifiers()))// İç sınıfın ilk parametresi dış nesnedir
+            return null;
+        try{
+            if(isRecord(cls))
+                return createForRecord(reflector, cls);
+            Constructor<?>[] constructors = cls.getDeclaredConstructors();
+            for(Constructor<?> cs : constructors){
+                if(cs.getParameterCount() == 0)
+                    return null;
+            }
+            Constructor<?> chosen = null;
+            String[] chosenNames = null;
+            for(Constructor<?> cs : constructors){
+                if(cs.isSynthetic() || (chosen != null && cs.getParameterCount() <= chosen.getParameterCount()))
+                    continue;
+                String[] names = resolveNames(cs);
+                if(names != null){
+                    chosen = cs;
+                    chosenNames = names;
+                }
+            }
+            return (chosen == null ? null : new ConstructorBinding(reflector, chosen, chosenNames));
+        }
+        catch(SecurityException exc){
+            System.err.println("exc : " + exc.toString());
+            return null;
+        }
+    }
+    /**
+     * Verilen haritadaki değerleri yapıcı yönteme vererek yeni bir nesne üretir
+     * @param data Özellik değerleri
+     * @param codingStyle Kullanıcı tanımlı tiplere dönüşümde kullanılacak
+     * kodlama biçimi
+     * @param tryForceCasting Veri tipi uyuşmadığında dönüşüm yapılması durumu
+     * @param forceAccessibility Erişimin zorlanması durumu
+     * @return Üretilen nesne veyâ başarısız olunursa {@code null}
+     */
+    Object newInstance(Map<String, ? extends Object> data, Reflector.CODING_STYLE codingStyle,
+            boolean tryForceCasting, boolean forceAccessibility){
+        Object[] args = new Object[types.length];
+        for(int sayac = 0; sayac < types.length; sayac++){
+            args[sayac] = data.get(names[sayac]);
+        }
+        return newInstance(args, codingStyle, tryForceCasting, forceAccessibility);
+    }
+    /**
+     * Parametre sırasıyla verilen değerleri yapıcı yönteme vererek yeni bir
+     * nesne üretir<br>
+     * Değerler dönüştürülürken dizinin üzerine yazılır; dizi çağrı başına
+     * yeni oluşturulmalıdır
+     * @param args Parametre sırasıyla değerler; uzunluğu parametre sayısı
+     * kadar olmalıdır
+     * @param codingStyle Kullanıcı tanımlı tiplere dönüşümde kullanılacak
+     * kodlama biçimi
+     * @param tryForceCasting Veri tipi uyuşmadığında dönüşüm yapılması durumu
+     * @param forceAccessibility Erişimin zorlanması durumu
+     * @return Üretilen nesne veyâ başarısız olunursa {@code null}
+     */
+    Object newInstance(Object[] args, Reflector.CODING_STYLE codingStyle,
+            boolean tryForceCasting, boolean forceAccessibility){
+        for(int sayac = 0; sayac < types.length; sayac++){
+            args[sayac] = toArgument(sayac, args[sayac], codingStyle, tryForceCasting);
+        }
+        try{
+            return (forceAccessibility ? getAccessible() : constructor).newInstance(args);
+        }
+        catch(InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException exc){
+            System.err.println("exc : " + exc.toString());
+            return null;
+        }
+    }
+    /**
+     * @param key Özellik ismi
+     * @return Özellik bir yapıcı yöntem parametresine karşılık geliyorsa
+     * {@code true}
+     */
+    boolean isBound(String key){
+        return indexes.containsKey(key);
+    }
+    /**
+     * @param key Özellik ismi
+     * @return Özelliğe karşılık gelen yapıcı yöntem parametresinin indisi
+     * veyâ özellik bir parametreye karşılık gelmiyorsa {@code -1}
+     */
+    int indexOf(String key){
+        Integer index = indexes.get(key);
+        return (index == null ? -1 : index);
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Kullanılan yapıcı yöntem
+     */
+    Constructor<?> getConstructor(){
+        return constructor;
+    }
+    /**
+     * @return Yapıcı yöntem parametrelerine karşılık gelen özellik isimleri,
+     * parametre sırasıyla (değiştirilmemelidir)
+     */
+    String[] getParameterNames(){
+        return names;
+    }
+    /**
+     * @return Yapıcı yöntemin parametre sayısı
+     */
+    int getParameterCount(){
+        return types.length;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private Object toArgument(int index, Object value, Reflector.CODING_STYLE codingStyle, boolean tryForceCasting){
+        Class<?> type = types[index];
+        if(value == null)
+            return defaultValueOf(type);
+        if(genericTypeNames[index] != null)
+            value = reflector.get().getCastedCollectionOrMap(type, genericTypeNames[index], value);
+        else if(type == UUID.class && value.getClass() == String.class){
+            try{
+                value = UUID.fromString((String) value);
+            }
+            catch(IllegalArgumentException excForUUID){}
+        }
+        if(TypeRules.isAssignable(type, value))
+            return TypeRules.adapt(type, value);
+        if(tryForceCasting && value != null){
+            Object casted = reflector.get().getCastedObject(type, value, codingStyle);
+            if(casted != null && TypeRules.isAssignable(type, casted))
+                return TypeRules.adapt(type, casted);
+        }
+        return defaultValueOf(type);
+    }
+    private Constructor<?> getAccessible(){
+        Constructor<?> found = accessible;
+        if(found == null){
+            found = constructor;
+            try{
+                Constructor<?> copy = constructor.getDeclaringClass().getDeclaredConstructor(types);
+                copy.setAccessible(true);
+                found = copy;
+            }
+            catch(NoSuchMethodException | RuntimeException exc){// Erişim zorlanamıyorsa (modül sınırı vb.) olduğu gibi kullan
+                System.err.println("exc : " + exc.toString());
+            }
+            accessible = found;
+        }
+        return found;
+    }
+    private static boolean isRecord(Class<?> cls){
+        if(IS_RECORD == null)
+            return false;
+        try{
+            return (Boolean) IS_RECORD.invoke(cls);
+        }
+        catch(IllegalAccessException | InvocationTargetException exc){
+            return false;
+        }
+    }
+    private static ConstructorBinding createForRecord(Reflector reflector, Class<?> cls){
+        try{
+            Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(cls);
+            String[] names = new String[components.length];
+            Class<?>[] types = new Class<?>[components.length];
+            for(int sayac = 0; sayac < components.length; sayac++){
+                names[sayac] = (String) GET_COMPONENT_NAME.invoke(components[sayac]);
+                types[sayac] = (Class<?>) GET_COMPONENT_TYPE.invoke(components[sayac]);
+            }
+            return new ConstructorBinding(reflector, cls.getDeclaredConstructor(types), names);
+        }
+        catch(IllegalAccessException | InvocationTargetException | NoSuchMethodException exc){
+            System.err.println("exc : " + exc.toString());
+            return null;
+        }
+    }
+    /**
+     * Yapıcı yöntemin parametrelerine karşılık gelen özellik isimlerini bulur
+     * @return Özellik isimleri veyâ bir parametrenin ismi bulunamıyorsa
+     * {@code null}
+     */
+    private static String[] resolveNames(Constructor<?> cs){
+        Parameter[] parameters = cs.getParameters();
+        String[] names = new String[parameters.length];
+        boolean isComplete = true;
+        for(int sayac = 0; sayac < parameters.length; sayac++){
+            ParameterName annotation = parameters[sayac].getAnnotation(ParameterName.class);
+            if(annotation != null)
+                names[sayac] = annotation.value();
+            else if(parameters[sayac].isNamePresent())
+                names[sayac] = parameters[sayac].getName();
+            else
+                isComplete = false;
+        }
+        if(isComplete)
+            return names;
+        // İsimler bilinmiyor; tüm alanları sırasıyla alan yapıcı yöntemse alan isimlerini kullan:
+        List<Field> fields = new ArrayList<Field>();
+        for(Field fl : cs.getDeclaringClass().getDeclaredFields()){
+            if(!Modifier.isStatic(fl.getModifiers()) && !fl.isSynthetic())
+                fields.add(fl);
+        }
+        if(fields.size() != parameters.length)
+            return null;
+        for(int sayac = 0; sayac < parameters.length; sayac++){
+            if(parameters[sayac].getType() != fields.get(sayac).getType())
+                return null;
+            if(names[sayac] == null)
+                names[sayac] = fields.get(sayac).getName();
+        }
+        return names;
+    }
+    private static Object defaultValueOf(Class<?> type){
+        if(!type.isPrimitive())
+            return null;
+        switch(TypeRules.rankOf(type)){
+            case TypeRules.BOOLEAN : return false;
+            case TypeRules.BYTE : return (byte) 0;
+            case TypeRules.SHORT : return (short) 0;
+            case TypeRules.CHAR : return '\0';
+            case TypeRules.INT : return 0;
+            case TypeRules.LONG : return 0L;
+            case TypeRules.FLOAT : return 0.0f;
+            case TypeRules.DOUBLE : return 0.0d;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package ReflectorRuntime;
+
+/**
+ * Bir veri tipindeki değeri başka bir veri tipine dönüştüren fonksiyondur<br>
+ * {@code Reflector.registerConverter()} ile kaynak - hedef sınıf çiftine
+ * kaydedilen dönüştürücüler, {@code getCastedObject()} ve onu kullanan zerk
+ * işlemlerinde yerleşik dönüşümlerden önce kullanılır<br>
+ * Dönüştürücü aynı anda birden fazla iş parçacığından çağrılabilir; bu
+ * sebeple durum saklamamalıdır<br>
+ * Dönüşüm başarısız olursa hatâ fırlatmak yerine {@code null} döndürülmelidir
+ * @author Mehmet Âkif SOLAK
+ * @param <S> Kaynak veri tipi
+ * @param <T> Hedef veri tipi
+ */
+public interface Converter<S, T>{
+    /**
+     * Verilen değeri hedef veri tipine dönüştürür
+     * @param value Kaynak veri tipindeki değer, {@code null} olmaz
+     * @return Hedef veri tipindeki değer veyâ dönüşüm başarısızsa {@code null}
+     */
+    T convert(S value);
+}
@@ -0,0 +1,353 @@
+package ReflectorRuntime;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kaynak - hedef sınıf çiftine göre dönüştürücüleri çözümleyip, saklayan
+ * sınıftır<br>
+ * Bir çift ilk defa görüldüğünde, {@code getCastedObject()} yönteminin
+ * uyguladığı karar zinciri bir kez işletilir ve çifte uygun dönüştürücü
+ * saklanır; sonraki dönüşümler bir arama ve doğrudan bir çağrıdan ibârettir<br>
+ * Kullanıcının kaydettiği dönüştürücüler yerleşik dönüşümlerden önce gelir;
+ * kaynak sınıf için kayıt yoksa üst sınıfları için kaydedilenlere bakılır<br>
+ * Kayıtlar ve çözümlenmiş dönüştürücüler değiştirilemez bir tablo grubunda
+ * tutulur; kayıt değiştiğinde yeni bir tablo grubu oluşturulduğundan okuma
+ * işlemleri kilitsizdir<br>
+ * Çözümlenmiş dönüştürücüler, yükleyicisi diğerini görebilen sınıfta
+ * saklanır (genelde uygulama sınıfı); böylece yerleşik bir sınıfın önbelleği
+ * uygulama sınıflarını ve yükleyicilerini bellekte tutmaz. Birbirini
+ * görmeyen yükleyicilerden gelen çiftler saklanmaz, her seferinde
+ * çözümlenir. Yerleşik sınıfların ({@code Integer}, {@code String} gibi)
+ * tabloları, {@code ClassCache} gereği sınıfta değil kütüphânede tutulur;
+ * böylece kütüphâneyi yükleyen yükleyici de bellekte kalmaz<br>
+ * Saklanan dönüştürücüler statik yöntemlerde oluşturulur ve
+ * {@code Reflector} nesnesini zayıf referansla tutar; böylece sınıfta saklanan
+ * değer, onu saklayan önbelleği bellekte tutmaz<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class ConverterRegistry{
+    private static final int CODING_STYLE_COUNT = Reflector.CODING_STYLE.values().length;
+    private static final Converter<Object, Object> IDENTITY = new Converter<Object, Object>(){
+        @Override
+        public Object convert(Object value){
+            return value;
+        }
+    };
+    private static final Converter<String, Object> NONE = new Converter<String, Object>(){
+        @Override
+        public Object convert(String value){
+            return null;
+        }
+    };
+    private final WeakReference<Reflector> reflector;// Dönüştürücüler sınıflarda saklandığından zayıf referans
+    private volatile Tables tables;
+
+    ConverterRegistry(Reflector reflector){
+        this.reflector = new WeakReference<Reflector>(reflector);
+        this.tables = new Tables(Collections.<Class<?>, Map<Class<?>, Converter<?, ?>>>emptyMap());
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen çift için dönüştürücüyü döndürür, yoksa çözümleyip saklar<br>
+     * Dönüştürücünün davranışı {@code getCastedObject()} ile aynıdır
+     * @param source Kaynak sınıf
+     * @param target Hedef sınıf
+     * @param codingStyle Hedef kullanıcı sınıfı ise 'setter' metotları için
+     * kodlama biçimi
+     * @return Dönüştürücü
+     */
+    Converter<Object, Object> get(Class<?> source, Class<?> target, Reflector.CODING_STYLE codingStyle){
+        if(source.equals(target))
+            return IDENTITY;
+        Tables current = tables;
+        int style = (codingStyle == null ? CODING_STYLE_COUNT : codingStyle.ordinal());
+        ConcurrentHashMap<Class<?>, Converter<Object, Object>> pairs;
+        Class<?> other;
+        if(ClassCache.isVisibleFrom(target, source)){// Çift kaynak sınıfta saklanır
+            pairs = current.bySource.get(style).get(source);
+            other = target;
+        }
+        else if(ClassCache.isVisibleFrom(source, target)){// Çift hedef sınıfta saklanır
+            pairs = current.byTarget.get(style).get(target);
+            other = source;
+        }
+        else// Sınıflar birbirini görmüyor; saklanırsa yükleyicilerden biri bellekte kalır
+            return resolve(reflector, current, source, target, codingStyle);
+        Converter<Object, Object> converter = pairs.get(other);
+        if(converter == null){
+            converter = resolve(reflector, current, source, target, codingStyle);
+            Converter<Object, Object> previous = pairs.putIfAbsent(other, converter);
+            if(previous != null)
+                converter = previous;
+        }
+        return converter;
+    }
+    /**
+     * Metînden verilen hedef sınıfa dönüştürücüyü döndürür, yoksa çözümleyip
+     * saklar<br>
+     * Dönüştürücünün davranışı {@code getCastedObjectFromString()} ile aynıdır;
+     * boş metîn ve {@code null} denetimi çağıran tarafta yapılmalıdır
+     * @param target Hedef sınıf
+     * @return Dönüştürücü
+     */
+    Converter<String, Object> getFromString(Class<?> target){
+        return tables.fromString.get(target);
+    }
+    /**
+     * Verilen çift için dönüştürücüyü kaydeder; çift için önceden kaydedilmiş
+     * dönüştürücü varsa onun yerine geçer
+     * @param source Kaynak sınıf
+     * @param target Hedef sınıf
+     * @param converter Dönüştürücü
+     */
+    synchronized void register(Class<?> source, Class<?> target, Converter<?, ?> converter){
+        Map<Class<?>, Map<Class<?>, Converter<?, ?>>> copy = copyOfRegistered();
+        Map<Class<?>, Converter<?, ?>> byTarget = copy.get(source);
+        if(byTarget == null){
+            byTarget = new HashMap<Class<?>, Converter<?, ?>>();
+            copy.put(source, byTarget);
+        }
+        byTarget.put(target, converter);
+        tables = new Tables(copy);
+    }
+    /**
+     * Verilen çift için kaydedilmiş dönüştürücüyü kaldırır
+     * @param source Kaynak sınıf
+     * @param target Hedef sınıf
+     * @return Kaldırılacak bir kayıt varsa {@code true}, aksi hâlde {@code false}
+     */
+    synchronized boolean unregister(Class<?> source, Class<?> target){
+        Map<Class<?>, Converter<?, ?>> current = tables.registered.get(source);
+        if(current == null || !current.containsKey(target))
+            return false;
+        Map<Class<?>, Map<Class<?>, Converter<?, ?>>> copy = copyOfRegistered();
+        copy.get(source).remove(target);
+        if(copy.get(source).isEmpty())
+            copy.remove(source);
+        tables = new Tables(copy);
+        return true;
+    }
+    /**
+     * Verilen hedef sınıf için herhangi bir kaynaktan kaydedilmiş dönüştürücü
+     * olup, olmadığını sorgular
+     * @param target Hedef sınıf
+     * @return Kayıt varsa {@code true}, aksi hâlde {@code false}
+     */
+    boolean hasRegisteredFor(Class<?> target){
+        for(Map<Class<?>, Converter<?, ?>> byTarget : tables.registered.values()){
+            if(byTarget.containsKey(target))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return Çözümlenmiş dönüştürücü önbelleklerinin toplam istatistikleri
+     */
+    CacheStats getStats(){
+        Tables current = tables;
+        CacheStats stats = current.fromString.getStats();
+        for(int sayac = 0; sayac < current.bySource.size(); sayac++){
+            stats = stats.plus(current.bySource.get(sayac).getStats()).plus(current.byTarget.get(sayac).getStats());
+        }
+        return stats;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private Map<Class<?>, Map<Class<?>, Converter<?, ?>>> copyOfRegistered(){
+        Map<Class<?>, Map<Class<?>, Converter<?, ?>>> copy = new HashMap<Class<?>, Map<Class<?>, Converter<?, ?>>>();
+        for(Map.Entry<Class<?>, Map<Class<?>, Converter<?, ?>>> entry : tables.registered.entrySet()){
+            copy.put(entry.getKey(), new HashMap<Class<?>, Converter<?, ?>>(entry.getValue()));
+        }
+        return copy;
+    }
+    @SuppressWarnings("unchecked")// Dönüştürücü, kaydedildiği kaynak sınıfın ve alt sınıflarının değerleri için çağrılır
+    private static <S> Converter<S, Object> findRegistered(Tables current, Class<?> source, Class<?> target){
+        for(Class<?> cls = source; cls != null; cls = cls.getSuperclass()){
+            Map<Class<?>, Converter<?, ?>> byTarget = current.registered.get(cls);
+            if(byTarget != null){
+                Converter<?, ?> found = byTarget.get(target);
+                if(found != null)
+                    return (Converter<S, Object>) found;
+            }
+        }
+        return null;
+    }
+    private static Converter<Object, Object> resolve(final WeakReference<Reflector> reflector, Tables current,
+            Class<?> source, final Class<?> target, final Reflector.CODING_STYLE codingStyle){
+        Converter<Object, Object> registered = findRegistered(current, source, target);
+        if(registered != null)
+            return registered;
+        if(target == Number.class && Number.class.isAssignableFrom(source))
+            return IDENTITY;
+        NumberConverter numeric = NumberConverter.of(source, target);
+        if(numeric != null)// Sayılar arası dönüşüm metne çevrilmeden yapılıyor
+            return numeric;
+        if(!reflector.get().isNotUserDefinedClass(target) && Map.class.isAssignableFrom(source)){// Kullanıcı tanımlı sınıfa harita verildiyse;
+            return new Converter<Object, Object>(){
+                @Override
+                public Object convert(Object value){
+                    return reflector.get().getSharedInjector(target, codingStyle, true, true, true).produce(asPropertyMap(value));
+                }
+            };
+        }
+        final boolean isAboutListArray = reflector.get().isAboutListArrayConvertingByClass(target, source);
+        final Converter<String, Object> fromString = current.fromString.get(target);
+        return new Converter<Object, Object>(){
+            @Override
+            public Object convert(Object value){
+                if(isAboutListArray){
+                    Object casted = reflector.get().checkAndConvertListAndArrayFixed(value, target);
+                    if(casted != null)
+                        return casted;
+                }
+                String asString = String.valueOf(value);
+                Object casted = (asString.isEmpty() ? null : fromString.convert(asString));
+                if(casted == null){
+                    try{
+                        casted = target.cast(value);
+                    }
+                    catch(ClassCastException exc){
+                        System.err.println("Dönüşüm hatâsı : " + exc.toString());
+                    }
+                }
+                return casted;
+            }
+        };
+    }
+    private static Converter<String, Object> resolveFromString(final WeakReference<Reflector> reflector, Tables current, final Class<?> target){
+        Converter<String, Object> registered = findRegistered(current, String.class, target);
+        if(registered != null)
+            return registered;
+        if(target == String.class){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    return new String(value);
+                }
+            };
+        }
+        if(target.equals(Class.class)){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    return reflector.get().getLoadedClass(value, false);
+                }
+            };
+        }
+        if(target.isEnum()){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    return reflector.get().getEnumByData(target, value);
+                }
+            };
+        }
+        if(reflector.get().isAboutDateTime(target)){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    return reflector.get().getDateObjectFromString(target, value);
+                }
+            };
+        }
+        if(target.equals(File.class)){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    return new File(value);
+                }
+            };
+        }
+        if(target.equals(UUID.class)){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    try{
+                        return UUID.fromString(value);
+                    }
+                    catch(IllegalArgumentException exc){return null;}
+                }
+            };
+        }
+        if(reflector.get().isAboutNumber(target)){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    return reflector.get().getCastedNumberFromString(target, value);// Boşluklar ayrıştırıcı tarafından atlanıyor
+                }
+            };
+        }
+        if(target.equals(Boolean.class) || target.equals(boolean.class)){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    switch(value.trim().toLowerCase()){
+                        case "true" : return Boolean.TRUE;
+                        case "false" : return Boolean.FALSE;
+                        case "1" : return Boolean.TRUE;
+                        case "0" : return Boolean.FALSE;
+                    }
+                    return null;
+                }
+            };
+        }
+        if(target.equals(Character.class) || target.equals(char.class)){
+            return new Converter<String, Object>(){
+                @Override
+                public Object convert(String value){
+                    return value.trim().charAt(0);// İlk karakter alınıyor
+                }
+            };
+        }
+        return NONE;
+    }
+    @SuppressWarnings("unchecked")// Yalnızca kaynak sınıfı 'Map' olan çiftlerde çağrılır; anahtarlar özellik (alan) isimleridir
+    private static Map<String, ? extends Object> asPropertyMap(Object value){
+        return (Map<String, ? extends Object>) value;
+    }
+
+    /**
+     * Kayıtlı dönüştürücüler ve bunlara göre çözümlenmiş dönüştürücüler<br>
+     * Kayıt değiştiğinde tablo grubu bütünüyle yenilenir
+     */
+    private final class Tables{
+        final Map<Class<?>, Map<Class<?>, Converter<?, ?>>> registered;// Değiştirilmez
+        final List<ClassCache<ConcurrentHashMap<Class<?>, Converter<Object, Object>>>> bySource;// Kodlama biçimine göre; kaynak sınıf -> hedef sınıf -> dönüştürücü
+        final List<ClassCache<ConcurrentHashMap<Class<?>, Converter<Object, Object>>>> byTarget;// Kodlama biçimine göre; hedef sınıf -> kaynak sınıf -> dönüştürücü
+        final ClassCache<Converter<String, Object>> fromString;
+
+        Tables(Map<Class<?>, Map<Class<?>, Converter<?, ?>>> registered){
+            this.registered = registered;
+            this.bySource = new ArrayList<ClassCache<ConcurrentHashMap<Class<?>, Converter<Object, Object>>>>(CODING_STYLE_COUNT + 1);
+            this.byTarget = new ArrayList<ClassCache<ConcurrentHashMap<Class<?>, Converter<Object, Object>>>>(CODING_STYLE_COUNT + 1);
+            for(int sayac = 0; sayac <= CODING_STYLE_COUNT; sayac++){// Son eleman kodlama biçimi verilmediği durum için
+                bySource.add(newPairCache());
+                byTarget.add(newPairCache());
+            }
+            this.fromString = new ClassCache<Converter<String, Object>>(){
+                @Override
+                protected Converter<String, Object> computeValue(Class<?> cls){
+                    return resolveFromString(reflector, Tables.this, cls);
+                }
+            };
+        }
+        private ClassCache<ConcurrentHashMap<Class<?>, Converter<Object, Object>>> newPairCache(){
+            return new ClassCache<ConcurrentHashMap<Class<?>, Converter<Object, Object>>>(){
+                @Override
+                protected ConcurrentHashMap<Class<?>, Converter<Object, Object>> computeValue(Class<?> cls){
+                    return new ConcurrentHashMap<Class<?>, Converter<Object, Object>>();
+                }
+            };
+        }
+    }
+}
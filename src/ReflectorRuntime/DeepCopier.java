@@ -0,0 +1,305 @@
+package ReflectorRuntime;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Bir nesne çizgesinin derin kopyasını, serileştirme kullanmadan üreten
+ * sınıftır<br>
+ * Her sınıf için kopyalama planı ({@code Plan}) bir kez çıkarılıp
+ * {@code ClassMetadata} içerisinde saklanır; plan, sınıfın (üst sınıflar
+ * dâhil) tüm statik olmayan alanlarının erişimi zorlanmış erişimcilerini ve
+ * örnek üretmek için kullanılacak yapıcı yöntemi içerir<br>
+ * Kopyalama kuralları:<br>
+ * - {@code isNotUserDefinedClass()}'ın bildiği değişmez tipler (sarmalayıcılar,
+ * {@code String}, {@code enum}, {@code BigDecimal}, {@code UUID}, zamân
+ * tipleri...) kopyalanmaz, aynı referans kullanılır<br>
+ * - {@code java.util.Date} ve alt sınıfları {@code clone()} ile kopyalanır<br>
+ * - Temel tipteki diziler {@code clone()} ile, diğer diziler eleman eleman
+ * kopyalanır<br>
+ * - Koleksiyonlar ve haritalar aynı sınıfın yeni bir örneğine (sıralı
+ * olanlarda aynı karşılaştırıcıyla) kopyalanır; sınıfın erişilebilir
+ * parametresiz yapıcısı yoksa en yakın standart karşılığı
+ * ({@code ArrayList}, {@code LinkedHashSet}, {@code LinkedHashMap}...)
+ * kullanılır<br>
+ * - Kullanıcı sınıflarının tüm alanları kopyalanır<br>
+ * - Alanlarına erişilemeyen veyâ örneği üretilemeyen sınıfların nesneleri
+ * kopyalanmaz, aynı referans kullanılır<br>
+ * Aynı nesneye verilen birden fazla referans kopyada da tek bir nesneyi
+ * gösterir; döngüsel referanslar korunur<br>
+ * Nesne yalnızca bir kopyalama işlemi için kullanılır<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class DeepCopier{
+    private static final int SHARED = 0;// Kopyalanmaz, aynı referans kullanılır
+    private static final int PRIMITIVE_ARRAY = 1;
+    private static final int OBJECT_ARRAY = 2;
+    private static final int DATE = 3;
+    private static final int COLLECTION = 4;
+    private static final int MAP = 5;
+    private static final int BEAN = 6;
+    private final Reflector reflector;
+    private final IdentityHashMap<Object, Object> copies = new IdentityHashMap<Object, Object>();// Kaynak nesne - kopya
+
+    DeepCopier(Reflector reflector){
+        this.reflector = reflector;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen nesnenin derin kopyasını üretir
+     * @param source Kaynak nesne
+     * @return Kopya, kopyalanamayan nesneler için nesnenin kendisi
+     */
+    Object copy(Object source){
+        if(source == null)
+            return null;
+        Object copied = copies.get(source);
+        if(copied != null)
+            return copied;
+        Plan plan = reflector.getClassMetadata(source.getClass()).getCopyPlan();
+        switch(plan.kind){
+            case PRIMITIVE_ARRAY :{
+                copied = copyPrimitiveArray(source);
+                copies.put(source, copied);
+                return copied;
+            }
+            case OBJECT_ARRAY :{
+                Object[] array = (Object[]) source;
+                Object[] target = (Object[]) Array.newInstance(source.getClass().getComponentType(), array.length);
+                copies.put(source, target);
+                for(int sayac = 0; sayac < array.length; sayac++){
+                    target[sayac] = copy(array[sayac]);
+                }
+                return target;
+            }
+            case DATE :{
+                copied = ((Date) source).clone();
+                copies.put(source, copied);
+                return copied;
+            }
+            case COLLECTION :{
+                return copyCollection(source, plan);
+            }
+            case MAP :{
+                return copyMap(source, plan);
+            }
+            case BEAN :{
+                return copyBean(source, plan);
+            }
+            default : return source;
+        }
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private Object copyBean(Object source, Plan plan){
+        Object target;
+        try{
+            target = plan.constructor.newInstance();
+        }
+        catch(InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException exc){
+            System.err.println("exc : " + exc.toString());
+            return source;
+        }
+        copies.put(source, target);
+        for(int sayac = 0; sayac < plan.accessors.length; sayac++){
+            FieldAccessor accessor = plan.accessors[sayac];
+            try{
+                Object value = accessor.get(source);
+                accessor.set(target, (plan.isPrimitive[sayac] ? value : copy(value)));
+            }
+            catch(IllegalAccessException | IllegalArgumentException exc){
+                System.err.println("exc : " + exc.toString());
+            }
+        }
+        return target;
+    }
+    @SuppressWarnings("unchecked")// Kaynak, planı gereği koleksiyondur; yeni örnek kaynakla aynı sınıftan üretilir, elemanlar 'Object' olarak yazılır
+    private Object copyCollection(Object value, Plan plan){
+        Collection<Object> source = (Collection<Object>) value;
+        if(source instanceof EnumSet){// Elemanları değişmez
+            Object target = ((EnumSet<?>) source).clone();
+            copies.put(source, target);
+            return target;
+        }
+        Collection<Object> target = (Collection<Object>) newInstance(plan);
+        if(target == null){
+            if(source instanceof SortedSet)
+                target = new TreeSet<Object>(((SortedSet<Object>) source).comparator());
+            else if(source instanceof PriorityQueue)
+                target = new PriorityQueue<Object>(Math.max(1, source.size()), ((PriorityQueue<Object>) source).comparator());
+            else if(source instanceof List)
+                target = new ArrayList<Object>(source.size());
+            else if(source instanceof Set)
+                target = new LinkedHashSet<Object>();
+            else if(source instanceof Queue)
+                target = new LinkedList<Object>();
+            else
+                target = new ArrayList<Object>(source.size());
+        }
+        copies.put(source, target);
+        for(Object element : source){
+            target.add(copy(element));
+        }
+        return target;
+    }
+    @SuppressWarnings("unchecked")// Kaynak, planı gereği haritadır; yeni örnek kaynakla aynı sınıftan üretilir, elemanlar 'Object' olarak yazılır
+    private Object copyMap(Object value, Plan plan){
+        Map<Object, Object> source = (Map<Object, Object>) value;
+        if(source instanceof EnumMap)
+            return copyEnumMap((EnumMap<?, ?>) source);
+        Map<Object, Object> target = (Map<Object, Object>) newInstance(plan);
+        if(target == null){
+            if(source instanceof SortedMap)
+                target = new TreeMap<Object, Object>(((SortedMap<Object, Object>) source).comparator());
+            else
+                target = new LinkedHashMap<Object, Object>();
+        }
+        copies.put(source, target);
+        for(Map.Entry<Object, Object> entry : source.entrySet()){
+            target.put(copy(entry.getKey()), copy(entry.getValue()));
+        }
+        return target;
+    }
+    private <K extends Enum<K>> Object copyEnumMap(EnumMap<K, ?> source){
+        EnumMap<K, Object> target = new EnumMap<K, Object>(source);// Anahtar tipi boş haritada bilinmediğinden kopyalanarak oluşturulur
+        copies.put(source, target);
+        for(Map.Entry<K, ?> entry : source.entrySet()){
+            target.put(entry.getKey(), copy(entry.getValue()));// Anahtarlar 'enum' sâbiti, değişmez
+        }
+        return target;
+    }
+    /**
+     * Koleksiyonun yeni bir örneğini üretir; karşılaştırıcı kullanan
+     * sınıflarda bu yapıcı kullanılmaz
+     * @return Boş koleksiyon veyâ {@code null}
+     */
+    private Object newInstance(Plan plan){
+        if(plan.constructor == null || plan.isSorted)
+            return null;
+        try{
+            return plan.constructor.newInstance();
+        }
+        catch(InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException exc){
+            return null;
+        }
+    }
+    private static Object copyPrimitiveArray(Object source){
+        if(source instanceof int[])
+            return ((int[]) source).clone();
+        if(source instanceof long[])
+            return ((long[]) source).clone();
+        if(source instanceof double[])
+            return ((double[]) source).clone();
+        if(source instanceof byte[])
+            return ((byte[]) source).clone();
+        if(source instanceof char[])
+            return ((char[]) source).clone();
+        if(source instanceof boolean[])
+            return ((boolean[]) source).clone();
+        if(source instanceof float[])
+            return ((float[]) source).clone();
+        return ((short[]) source).clone();
+    }
+
+    /**
+     * Bir sınıfın nesnelerinin nasıl kopyalanacağını tutan, değiştirilemez
+     * plandır
+     */
+    static final class Plan{
+        final int kind;
+        final Constructor<?> constructor;// Parametresiz yapıcı veyâ 'null'
+        final FieldAccessor[] accessors;// Kullanıcı sınıfının alan erişimcileri
+        final boolean[] isPrimitive;// Alanın temel tipte olup, olmadığı
+        final boolean isSorted;// Sıralı koleksiyon veyâ harita; karşılaştırıcı korunmalı
+
+        private Plan(int kind, Constructor<?> constructor, FieldAccessor[] accessors, boolean isSorted){
+            this.kind = kind;
+            this.constructor = constructor;
+            this.accessors = accessors;
+            this.isSorted = isSorted;
+            this.isPrimitive = new boolean[(accessors == null ? 0 : accessors.length)];
+            for(int sayac = 0; sayac < isPrimitive.length; sayac++){
+                isPrimitive[sayac] = accessors[sayac].type.isPrimitive();
+            }
+        }
+
+        /**
+         * Verilen sınıf için kopyalama planını çıkarır
+         * @param reflector Sınıf bilgilerine ve erişimcilere erişmek için
+         * @param cls Hedef sınıf
+         * @return Kopyalama planı
+         */
+        static Plan create(Reflector reflector, Class<?> cls){
+            if(cls.isArray())
+                return new Plan((cls.getComponentType().isPrimitive() ? PRIMITIVE_ARRAY : OBJECT_ARRAY), null, null, false);
+            if(Date.class.isAssignableFrom(cls))
+                return new Plan(DATE, null, null, false);
+            if(Collection.class.isAssignableFrom(cls))
+                return new Plan(COLLECTION, findPublicConstructor(cls), null,
+                    SortedSet.class.isAssignableFrom(cls) || PriorityQueue.class.isAssignableFrom(cls));
+            if(Map.class.isAssignableFrom(cls))
+                return new Plan(MAP, findPublicConstructor(cls), null, SortedMap.class.isAssignableFrom(cls));
+            if(Enum.class.isAssignableFrom(cls) || reflector.isNotUserDefinedClass(cls))
+                return new Plan(SHARED, null, null, false);
+            Constructor<?> constructor = findAccessibleConstructor(cls);
+            if(constructor == null)
+                return new Plan(SHARED, null, null, false);
+            List<FieldAccessor> accessors = new ArrayList<FieldAccessor>();
+            for(Class<?> current = cls; current != null && current != Object.class; current = current.getSuperclass()){
+                for(Field fl : reflector.getClassMetadata(current).getDeclaredFields()){
+                    if(Modifier.isStatic(fl.getModifiers()))
+                        continue;
+                    FieldAccessor accessor = reflector.getFieldAccessor(fl, true);
+                    if(accessor == null || !accessor.isReadable || !accessor.isWritable)// Eksik kopya üretmektense paylaşılsın
+                        return new Plan(SHARED, null, null, false);
+                    accessors.add(accessor);
+                }
+            }
+            return new Plan(BEAN, constructor, accessors.toArray(new FieldAccessor[accessors.size()]), false);
+        }
+        private static Constructor<?> findPublicConstructor(Class<?> cls){
+            if(!Modifier.isPublic(cls.getModifiers()))
+                return null;
+            try{
+                return cls.getConstructor();
+            }
+            catch(NoSuchMethodException | SecurityException exc){
+                return null;
+            }
+        }
+        private static Constructor<?> findAccessibleConstructor(Class<?> cls){
+            if(Modifier.isAbstract(cls.getModifiers()) || cls.isInterface())
+                return null;
+            try{
+                Constructor<?> constructor = cls.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor;
+            }
+            catch(NoSuchMethodException | RuntimeException exc){// Java 9+ 'InaccessibleObjectException' da 'RuntimeException'
+                return null;
+            }
+        }
+    }
+}
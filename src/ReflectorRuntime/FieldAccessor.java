@@ -0,0 +1,585 @@
+package ReflectorRuntime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Bir alanın değerini okuyup, yazmak için kullanılan erişimcidir<br>
+ * Alan başına bir kez oluşturulup, {@code ClassMetadata} içerisinde saklanır<br>
+ * Hatâ durumlarında {@code Field.get} ve {@code Field.set} ile aynı
+ * istisnaları fırlatır; böylece hangi arka uç kullanılırsa kullanılsın
+ * çağıran tarafın akışı değişmez<br>
+ * @author Mehmet Âkif SOLAK
+ */
+abstract class FieldAccessor{
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    final Field field;
+    final Class<?> type;
+    final boolean isStatic;
+    final boolean isReadable;// Okuma erişim hatâsı almayacak
+    final boolean isWritable;// Yazma erişim hatâsı almayacak ('final' alanlar için genelde 'false')
+
+    FieldAccessor(Field field, boolean isReadable, boolean isWritable){
+        this.field = field;
+        this.type = field.getType();
+        this.isStatic = Modifier.isStatic(field.getModifiers());
+        this.isReadable = isReadable;
+        this.isWritable = isWritable;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen nesnedeki alan değerini okur
+     * @param target Alanın okunacağı nesne (statik alanlar için önemsiz)
+     * @return Alan değeri
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    abstract Object get(Object target) throws IllegalAccessException;
+    /**
+     * Verilen nesnedeki alan değerini kutulama yapmadan {@code int} olarak
+     * okur<br>
+     * {@code byte}, {@code short} ve {@code char} alanlar genişletilir; diğer
+     * tiplerde {@code Field.getInt} ile aynı kurallar geçerlidir
+     * @param target Alanın okunacağı nesne (statik alanlar için önemsiz)
+     * @return Alan değeri
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    int getInt(Object target) throws IllegalAccessException{
+        return field.getInt(target);
+    }
+    /**
+     * Verilen nesnedeki alan değerini kutulama yapmadan {@code long} olarak
+     * okur
+     * @param target Alanın okunacağı nesne (statik alanlar için önemsiz)
+     * @return Alan değeri
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    long getLong(Object target) throws IllegalAccessException{
+        return field.getLong(target);
+    }
+    /**
+     * Verilen nesnedeki alan değerini kutulama yapmadan {@code double} olarak
+     * okur
+     * @param target Alanın okunacağı nesne (statik alanlar için önemsiz)
+     * @return Alan değeri
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    double getDouble(Object target) throws IllegalAccessException{
+        return field.getDouble(target);
+    }
+    /**
+     * Verilen nesnedeki alana değer yazar<br>
+     * Değer alan tipine atanamıyorsa {@code IllegalArgumentException} fırlatılır
+     * @param target Alanın yazılacağı nesne (statik alanlar için önemsiz)
+     * @param value Yazılacak değer
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    abstract void set(Object target, Object value) throws IllegalAccessException;
+    /**
+     * Verilen nesnedeki {@code int} alana kutulama yapmadan değer yazar<br>
+     * Alan {@code int} değilse {@code Field.setInt} ile aynı kurallar geçerlidir
+     * @param target Alanın yazılacağı nesne (statik alanlar için önemsiz)
+     * @param value Yazılacak değer
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    void setInt(Object target, int value) throws IllegalAccessException{
+        field.setInt(target, value);
+    }
+    /**
+     * Verilen nesnedeki {@code long} alana kutulama yapmadan değer yazar
+     * @param target Alanın yazılacağı nesne (statik alanlar için önemsiz)
+     * @param value Yazılacak değer
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    void setLong(Object target, long value) throws IllegalAccessException{
+        field.setLong(target, value);
+    }
+    /**
+     * Verilen nesnedeki {@code double} alana kutulama yapmadan değer yazar
+     * @param target Alanın yazılacağı nesne (statik alanlar için önemsiz)
+     * @param value Yazılacak değer
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    void setDouble(Object target, double value) throws IllegalAccessException{
+        field.setDouble(target, value);
+    }
+    /**
+     * Verilen nesnedeki {@code boolean} alana kutulama yapmadan değer yazar
+     * @param target Alanın yazılacağı nesne (statik alanlar için önemsiz)
+     * @param value Yazılacak değer
+     * @throws IllegalAccessException Alana erişim izni yoksa
+     */
+    void setBoolean(Object target, boolean value) throws IllegalAccessException{
+        field.setBoolean(target, value);
+    }
+    /**
+     * Verilen alan için seçilen arka uca uygun erişimciyi oluşturur<br>
+     * {@code MethodHandle} üretilemezse yansıma tabanlı erişimci döndürülür<br>
+     * {@code GENERATED} arka ucu için {@code MethodHandle} erişimcisi
+     * döndürülür; üretilen sınıfa geçiş {@code GeneratedFieldAccessor} ile
+     * sarmalanarak yapılır
+     * @param field Hedef alan; erişim zorlanacaksa erişilebilir kopya verilmeli
+     * @param backend Kullanılacak arka uç
+     * @return Alan erişimcisi
+     */
+    static FieldAccessor create(Field field, Reflector.ACCESSOR_BACKEND backend){
+        if(backend != Reflector.ACCESSOR_BACKEND.REFLECTION){
+            try{
+                return new MethodHandleAccessor(field);
+            }
+            catch(IllegalAccessException | RuntimeException exc){}// Erişim yoksa yansımayla aynı hatâ alınsın
+        }
+        return new ReflectiveAccessor(field);
+    }
+
+    /**
+     * Verilen nesneye verilen değerin yazılmasının hatâ alıp, almayacağını
+     * hatâ fırlatmadan sorgular
+     * @param target Alanın yazılacağı nesne
+     * @param value Yazılacak değer
+     * @return Yazma işlemi hatâsız yapılabilecekse {@code true}
+     */
+    boolean canSet(Object target, Object value){
+        return (isWritable && (isStatic || field.getDeclaringClass().isInstance(target))
+            && TypeRules.isAssignable(type, value));
+    }
+    /**
+     * Verilen nesneden okuma yapılmasının hatâ alıp, almayacağını hatâ
+     * fırlatmadan sorgular
+     * @param target Alanın okunacağı nesne
+     * @return Okuma işlemi hatâsız yapılabilecekse {@code true}
+     */
+    boolean canGet(Object target){
+        return (isReadable && (isStatic || field.getDeclaringClass().isInstance(target)));
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    void checkTarget(Object target){
+        if(isStatic)
+            return;
+        if(target == null)
+            throw new NullPointerException();
+        if(!field.getDeclaringClass().isInstance(target))
+            throw new IllegalArgumentException("Can not access " + field + " on " + target.getClass().getName());
+    }
+    void checkValue(Object value){
+        if(!TypeRules.isAssignable(type, value))
+            throw new IllegalArgumentException("Can not set " + type.getName() + " field " + field.getName()
+                + " to " + (value == null ? "null value" : value.getClass().getName()));
+    }
+    /**
+     * Alan için yazma tutamacı üretir; alana bu paketten yazılamıyorsa
+     * ('final' alan gibi) {@code null} döndürür
+     */
+    static MethodHandle findSetter(Field field){
+        try{
+            return LOOKUP.unreflectSetter(field);
+        }
+        catch(IllegalAccessException exc){
+            return null;
+        }
+    }
+    static boolean checkReadAccess(Field field){
+        try{
+            LOOKUP.unreflectGetter(field);
+            return true;
+        }
+        catch(IllegalAccessException exc){
+            return false;
+        }
+    }
+    static RuntimeException rethrow(Throwable exc){
+        if(exc instanceof RuntimeException)
+            throw (RuntimeException) exc;
+        if(exc instanceof Error)
+            throw (Error) exc;
+        return new IllegalStateException(exc);
+    }
+
+    /**
+     * {@code Field.get} ve {@code Field.set} yöntemlerini doğrudan kullanır
+     */
+    static final class ReflectiveAccessor extends FieldAccessor{
+        ReflectiveAccessor(Field field){
+            super(field, checkReadAccess(field), findSetter(field) != null);
+        }
+        @Override
+        Object get(Object target) throws IllegalAccessException{
+            return field.get(target);
+        }
+        @Override
+        void set(Object target, Object value) throws IllegalAccessException{
+            field.set(target, value);
+        }
+    }
+    /**
+     * Alan için bir kez derlenen {@code MethodHandle} nesnelerini kullanır<br>
+     * 'final' alanlar gibi yazma tutamacı üretilemeyen durumlarda yazma
+     * işlemi yansıma ile yapılır
+     */
+    static final class MethodHandleAccessor extends FieldAccessor{
+        private final MethodHandle getter;// (Object)Object
+        private final MethodHandle primitiveGetter;// (Object)<alan tipi>; alan temel tipte değilse null
+        private final MethodHandle setter;// (Object, Object)void veyâ null
+        private final MethodHandle primitiveSetter;// (Object, <alan tipi>)void; alan temel tipte değilse veyâ yazılamıyorsa null
+
+        MethodHandleAccessor(Field field) throws IllegalAccessException{
+            this(field, LOOKUP.unreflectGetter(field), findSetter(field));
+        }
+        private MethodHandleAccessor(Field field, MethodHandle mhGetter, MethodHandle mhSetter){
+            super(field, true, mhSetter != null);
+            MethodHandle mhPrimitiveGetter = null;
+            if(type.isPrimitive()){
+                mhPrimitiveGetter = (isStatic ? MethodHandles.dropArguments(mhGetter, 0, Object.class)
+                    : mhGetter.asType(MethodType.methodType(type, Object.class)));
+            }
+            MethodHandle mhPrimitiveSetter = null;
+            if(mhSetter != null && type.isPrimitive()){
+                mhPrimitiveSetter = (isStatic ? MethodHandles.dropArguments(mhSetter, 0, Object.class)
+                    : mhSetter.asType(MethodType.methodType(void.class, Object.class, type)));
+            }
+            if(isStatic){
+                mhGetter = MethodHandles.dropArguments(mhGetter.asType(MethodType.methodType(Object.class)), 0, Object.class);
+                if(mhSetter != null)
+                    mhSetter = MethodHandles.dropArguments(mhSetter.asType(MethodType.methodType(void.class, Object.class)), 0, Object.class);
+            }
+            else{
+                mhGetter = mhGetter.asType(MethodType.methodType(Object.class, Object.class));
+                if(mhSetter != null)
+                    mhSetter = mhSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            }
+            this.getter = mhGetter;
+            this.setter = mhSetter;
+            this.primitiveSetter = mhPrimitiveSetter;
+            this.primitiveGetter = mhPrimitiveGetter;
+        }
+        @Override
+        Object get(Object target) throws IllegalAccessException{
+            checkTarget(target);
+            try{
+                return (Object) getter.invokeExact(target);
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+        @Override
+        void set(Object target, Object value) throws IllegalAccessException{
+            if(setter == null){
+                field.set(target, value);
+                return;
+            }
+            checkTarget(target);
+            checkValue(value);
+            try{
+                setter.invokeExact(target, TypeRules.adapt(type, value));
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+        @Override
+        int getInt(Object target) throws IllegalAccessException{
+            if(type != int.class)
+                return super.getInt(target);
+            checkTarget(target);
+            try{
+                return (int) primitiveGetter.invokeExact(target);
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+        @Override
+        long getLong(Object target) throws IllegalAccessException{
+            if(type != long.class)
+                return super.getLong(target);
+            checkTarget(target);
+            try{
+                return (long) primitiveGetter.invokeExact(target);
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+        @Override
+        double getDouble(Object target) throws IllegalAccessException{
+            if(type != double.class)
+                return super.getDouble(target);
+            checkTarget(target);
+            try{
+                return (double) primitiveGetter.invokeExact(target);
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+        @Override
+        void setInt(Object target, int value) throws IllegalAccessException{
+            if(type != int.class || primitiveSetter == null){
+                super.setInt(target, value);
+                return;
+            }
+            checkTarget(target);
+            try{
+                primitiveSetter.invokeExact(target, value);
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+        @Override
+        void setLong(Object target, long value) throws IllegalAccessException{
+            if(type != long.class || primitiveSetter == null){
+                super.setLong(target, value);
+                return;
+            }
+            checkTarget(target);
+            try{
+                primitiveSetter.invokeExact(target, value);
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+        @Override
+        void setDouble(Object target, double value) throws IllegalAccessException{
+            if(type != double.class || primitiveSetter == null){
+                super.setDouble(target, value);
+                return;
+            }
+            checkTarget(target);
+            try{
+                primitiveSetter.invokeExact(target, value);
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+        @Override
+        void setBoolean(Object target, boolean value) throws IllegalAccessException{
+            if(type != boolean.class || primitiveSetter == null){
+                super.setBoolean(target, value);
+                return;
+            }
+            checkTarget(target);
+            try{
+                primitiveSetter.invokeExact(target, value);
+            }
+            catch(Throwable exc){
+                throw rethrow(exc);
+            }
+        }
+    }
+    /**
+     * {@code ReflectableProcessor} ile derleme zamânında üretilmiş erişimcinin
+     * kapsadığı alanlar için kullanılan erişimcidir<br>
+     * Üretilen sınıf hedef sınıfın paketinde olduğundan alan 'private' olmasa
+     * da okunabilir ve ('final' değilse) yazılabilir; erişim zorlanmaz ve
+     * {@code MethodHandle} ya da yansıma erişimcisi oluşturulmaz. Yalnızca
+     * üretilen sınıfın yazamadığı alanlara yazarken seçilen arka ucun
+     * erişimcisi ilk ihtiyaçta oluşturulur<br>
+     * Temel tipteki okuma ve yazmalar {@code Field.getInt} gibi yöntemlerle
+     * aynı genişletme kurallarıyla kutulu değer üzerinden yapılır
+     */
+    static final class PrecompiledFieldAccessor extends FieldAccessor{
+        private final GeneratedAccessor accessor;
+        private final int index;// Alanın, üretilen erişimcideki indisi
+        private final Reflector.ACCESSOR_BACKEND backend;
+        private volatile FieldAccessor fallback;// Üretilen erişimcinin yazamadığı alanlar için
+
+        PrecompiledFieldAccessor(Field field, GeneratedAccessor accessor, int index, Reflector.ACCESSOR_BACKEND backend){
+            super(field, true, accessor.isWritable(index));
+            this.accessor = accessor;
+            this.index = index;
+            this.backend = backend;
+        }
+        @Override
+        Object get(Object target) throws IllegalAccessException{
+            checkTarget(target);
+            return accessor.get(target, index);
+        }
+        @Override
+        void set(Object target, Object value) throws IllegalAccessException{
+            if(!isWritable){
+                getFallback().set(target, value);
+                return;
+            }
+            checkTarget(target);
+            checkValue(value);
+            accessor.set(target, index, TypeRules.adapt(type, value));
+        }
+        @Override
+        int getInt(Object target) throws IllegalAccessException{
+            if(type == int.class || type == short.class || type == byte.class)
+                return ((Number) get(target)).intValue();
+            if(type == char.class)
+                return (Character) get(target);
+            throw illegalConversion("int");
+        }
+        @Override
+        long getLong(Object target) throws IllegalAccessException{
+            if(type == long.class || type == int.class || type == short.class || type == byte.class)
+                return ((Number) get(target)).longValue();
+            if(type == char.class)
+                return (Character) get(target);
+            throw illegalConversion("long");
+        }
+        @Override
+        double getDouble(Object target) throws IllegalAccessException{
+            if(type.isPrimitive() && type != boolean.class && type != char.class)
+                return ((Number) get(target)).doubleValue();
+            if(type == char.class)
+                return (Character) get(target);
+            throw illegalConversion("double");
+        }
+        @Override
+        void setInt(Object target, int value) throws IllegalAccessException{
+            set(target, value);
+        }
+        @Override
+        void setLong(Object target, long value) throws IllegalAccessException{
+            set(target, value);
+        }
+        @Override
+        void setDouble(Object target, double value) throws IllegalAccessException{
+            set(target, value);
+        }
+        @Override
+        void setBoolean(Object target, boolean value) throws IllegalAccessException{
+            set(target, value);
+        }
+
+        // ARKAPLAN İŞLEM YÖNTEMLERİ:
+        private FieldAccessor getFallback(){
+            FieldAccessor found = fallback;
+            if(found == null){
+                found = create(field, backend);
+                fallback = found;
+            }
+            return found;
+        }
+        private IllegalArgumentException illegalConversion(String target){
+            return new IllegalArgumentException("Attempt to get " + type.getName() + " field \""
+                + field.getDeclaringClass().getName() + "." + field.getName() + "\" with illegal data type conversion to " + target);
+        }
+    }
+    /**
+     * {@code ACCESSOR_BACKEND.GENERATED} arka ucunun erişimcisidir<br>
+     * Sınıf için erişimci sınıfı üretilene kadar, üretilemezse veyâ alan
+     * üretilen sınıfça kapsanmıyorsa {@code MethodHandle} erişimcisini
+     * kullanır. Üretimden sonra kullanılacak erişimci bir kez seçilip
+     * saklanır; sonraki çağrılar kullanım sayacına ve 'volatile' alanlara
+     * dokunmaz<br>
+     * Erişim izinleri ve hatâlar {@code MethodHandle} erişimcisiyle aynıdır
+     */
+    static final class GeneratedFieldAccessor extends FieldAccessor{
+        private final FieldAccessor delegate;
+        private final AccessorGenerator generator;
+        private final int index;// Alanın, sınıfta tanımlanan alanlar içerisindeki indisi
+        private FieldAccessor resolved;// Üretimden sonraki erişimci; değişmez nesne olduğundan yarışta da güvenle okunur
+
+        GeneratedFieldAccessor(FieldAccessor delegate, AccessorGenerator generator, int index){
+            super(delegate.field, delegate.isReadable, delegate.isWritable);
+            this.delegate = delegate;
+            this.generator = generator;
+            this.index = index;
+        }
+        @Override
+        Object get(Object target) throws IllegalAccessException{
+            return resolve().get(target);
+        }
+        @Override
+        void set(Object target, Object value) throws IllegalAccessException{
+            resolve().set(target, value);
+        }
+        @Override
+        int getInt(Object target) throws IllegalAccessException{
+            return delegate.getInt(target);
+        }
+        @Override
+        long getLong(Object target) throws IllegalAccessException{
+            return delegate.getLong(target);
+        }
+        @Override
+        double getDouble(Object target) throws IllegalAccessException{
+            return delegate.getDouble(target);
+        }
+        @Override
+        void setInt(Object target, int value) throws IllegalAccessException{
+            delegate.setInt(target, value);
+        }
+        @Override
+        void setLong(Object target, long value) throws IllegalAccessException{
+            delegate.setLong(target, value);
+        }
+        @Override
+        void setDouble(Object target, double value) throws IllegalAccessException{
+            delegate.setDouble(target, value);
+        }
+        @Override
+        void setBoolean(Object target, boolean value) throws IllegalAccessException{
+            delegate.setBoolean(target, value);
+        }
+
+        // ARKAPLAN İŞLEM YÖNTEMLERİ:
+        private FieldAccessor resolve(){
+            FieldAccessor found = resolved;
+            if(found != null)
+                return found;
+            GeneratedAccessor generated = generator.use();
+            if(generated == null){
+                if(generator.isDone())// Üretilemedi
+                    resolved = delegate;
+                return delegate;
+            }
+            boolean canGet = (isReadable && generator.canGet(index));
+            boolean canSet = (isWritable && generator.canSet(index));
+            found = (canGet || canSet ? new DirectAccessor(delegate, generated, index, canGet, canSet) : delegate);
+            resolved = found;
+            return found;
+        }
+    }
+    /**
+     * Alana çalışma zamânında üretilen sınıfla erişen erişimcidir; üretilen
+     * sınıfın kapsamadığı işlemler {@code MethodHandle} erişimcisiyle yapılır<br>
+     * Yalnızca {@code GeneratedFieldAccessor} içerisinde okuma ve yazma için
+     * kullanılır
+     */
+    private static final class DirectAccessor extends FieldAccessor{
+        private final FieldAccessor delegate;
+        private final GeneratedAccessor generated;
+        private final int index;
+        private final boolean canGet;
+        private final boolean canSet;
+
+        DirectAccessor(FieldAccessor delegate, GeneratedAccessor generated, int index, boolean canGet, boolean canSet){
+            super(delegate.field, delegate.isReadable, delegate.isWritable);
+            this.delegate = delegate;
+            this.generated = generated;
+            this.index = index;
+            this.canGet = canGet;
+            this.canSet = canSet;
+        }
+        @Override
+        Object get(Object target) throws IllegalAccessException{
+            if(!canGet)
+                return delegate.get(target);
+            checkTarget(target);
+            return generated.get(target, index);
+        }
+        @Override
+        void set(Object target, Object value) throws IllegalAccessException{
+            if(!canSet){
+                delegate.set(target, value);
+                return;
+            }
+            checkTarget(target);
+            checkValue(value);
+            generated.set(target, index, TypeRules.adapt(type, value));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ReflectorRuntime;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bir nesne listesinden alan alan çıkarılmış değerleri sütunlar hâlinde
+ * tutan sınıftır ({@code getColumnsOfFields()} sonucu)<br>
+ * Her alan için bir sütun dizisi bulunur; {@code i}. eleman listenin
+ * {@code i}. nesnesine âittir:<br>
+ * - {@code int}, {@code short}, {@code byte}, {@code char} alanlar :
+ * {@code int[]}<br>
+ * - {@code long} alanlar : {@code long[]}<br>
+ * - {@code double}, {@code float} alanlar : {@code double[]}<br>
+ * - Diğer alanlar : {@code Object[]}<br>
+ * Listedeki {@code null} nesneler ve okunamayan değerler için temel tipteki
+ * sütunlarda {@code 0}, diğerlerinde {@code null} bulunur<br>
+ * Sütun dizileri kopyalanmadan döndürülür<br>
+ * @author Mehmet Âkif SOLAK
+ */
+public final class FieldColumns{
+    private final String[] names;
+    private final Object[] columns;
+    private final int size;
+
+    FieldColumns(String[] names, Object[] columns, int size){
+        this.names = names;
+        this.columns = columns;
+        this.size = size;
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Satır (nesne) sayısı
+     */
+    public int size(){
+        return size;
+    }
+    /**
+     * @return Sütunların alan isimleri, sütun sırasıyla
+     */
+    public List<String> getFieldNames(){
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+    /**
+     * Verilen alanın sütun dizisini döndürür<br>
+     * Dizi {@code int[]}, {@code long[]}, {@code double[]} veyâ
+     * {@code Object[]} tipindedir
+     * @param fieldName Alan ismi
+     * @return Sütun dizisi veyâ alan yoksa {@code null}
+     */
+    public Object getColumn(String fieldName){
+        int index = indexOf(fieldName);
+        return (index == -1 ? null : columns[index]);
+    }
+    /**
+     * @param fieldName Alan ismi
+     * @return Sütun dizisi veyâ alan yoksa ya da sütun {@code int[]} değilse
+     * {@code null}
+     */
+    public int[] getIntColumn(String fieldName){
+        Object column = getColumn(fieldName);
+        return (column instanceof int[] ? (int[]) column : null);
+    }
+    /**
+     * @param fieldName Alan ismi
+     * @return Sütun dizisi veyâ alan yoksa ya da sütun {@code long[]}
+     * değilse {@code null}
+     */
+    public long[] getLongColumn(String fieldName){
+        Object column = getColumn(fieldName);
+        return (column instanceof long[] ? (long[]) column : null);
+    }
+    /**
+     * @param fieldName Alan ismi
+     * @return Sütun dizisi veyâ alan yoksa ya da sütun {@code double[]}
+     * değilse {@code null}
+     */
+    public double[] getDoubleColumn(String fieldName){
+        Object column = getColumn(fieldName);
+        return (column instanceof double[] ? (double[]) column : null);
+    }
+    /**
+     * @param fieldName Alan ismi
+     * @return Sütun dizisi veyâ alan yoksa ya da sütun {@code Object[]}
+     * değilse {@code null}
+     */
+    public Object[] getObjectColumn(String fieldName){
+        Object column = getColumn(fieldName);
+        return (column instanceof Object[] ? (Object[]) column : null);
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private int indexOf(String fieldName){
+        if(fieldName == null)
+            return -1;
+        for(int sayac = 0; sayac < names.length; sayac++){
+            if(names[sayac].equals(fieldName))
+                return sayac;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,350 @@
+package ReflectorRuntime;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * {@code getValueOfFields()} tarafından döndürülen, alan değerlerini bir
+ * dizide tutan haritadır<br>
+ * Anahtarlar ve anahtarların indisleri ({@code Schema}) aynı alan kümesi için
+ * bir kez oluşturulup, tüm haritalarca paylaşılır; her harita yalnızca değer
+ * dizisini taşır. Böylece her çağrıda {@code HashMap} tablosu ve düğümleri
+ * oluşturulmaz<br>
+ * Harita tam olarak değiştirilebilir: Şemadaki anahtarlar dizide, şemada
+ * olmayan anahtarlar ise ihtiyaç olduğunda oluşturulan ek bir haritada
+ * tutulur<br>
+ * {@code ObjectInjector}, ek haritası olmayan örnekleri anahtar aramadan,
+ * indisle zerk eder<br>
+ * Harita serileştirildiğinde aynı girdileri içeren bir {@code HashMap}
+ * olarak yazılır; böylece önceki sonuçlarla uyumlu kalır ve paylaşılan şema
+ * serileştirilmez<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class FieldValueMap extends AbstractMap<String, Object> implements Serializable{
+    private static final long serialVersionUID = 1L;
+    private static final Object ABSENT = new Object();// Kaldırılmış anahtarların değeri
+    static final int MAX_CACHED_SCHEMAS = 64;// Bir sınıf için saklanacak en fazla şema (alan kümesi) sayısı; fazlası her seferinde oluşturulur
+    private final Schema schema;
+    private final Object[] values;
+    private int count;// Dizideki anahtar sayısı
+    private HashMap<String, Object> extra;// Şemada olmayan anahtarlar
+    private Set<Map.Entry<String, Object>> entries;
+
+    FieldValueMap(Schema schema, Object[] values){
+        this.schema = schema;
+        this.values = values;
+        this.count = values.length;
+    }
+    /**
+     * Şemadaki anahtarların hiçbirini içermeyen boş bir harita oluşturur;
+     * anahtarlar {@code putAt()} ile eklenir
+     * @param schema Anahtarların şeması
+     */
+    FieldValueMap(Schema schema){
+        this.schema = schema;
+        this.values = new Object[schema.size()];
+        for(int sayac = 0; sayac < values.length; sayac++){
+            values[sayac] = ABSENT;
+        }
+        this.count = 0;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    @Override
+    public int size(){
+        return count + (extra == null ? 0 : extra.size());
+    }
+    @Override
+    public boolean containsKey(Object key){
+        int index = schema.indexOf(key);
+        if(index != -1)
+            return values[index] != ABSENT;
+        return (extra != null && extra.containsKey(key));
+    }
+    @Override
+    public Object get(Object key){
+        int index = schema.indexOf(key);
+        if(index != -1){
+            Object value = values[index];
+            return (value == ABSENT ? null : value);
+        }
+        return (extra == null ? null : extra.get(key));
+    }
+    @Override
+    public Object put(String key, Object value){
+        int index = schema.indexOf(key);
+        if(index != -1){
+            Object previous = values[index];
+            values[index] = value;
+            if(previous == ABSENT){
+                count++;
+                return null;
+            }
+            return previous;
+        }
+        if(extra == null)
+            extra = new HashMap<String, Object>();
+        return extra.put(key, value);
+    }
+    @Override
+    public Object remove(Object key){
+        int index = schema.indexOf(key);
+        if(index != -1){
+            Object previous = values[index];
+            if(previous == ABSENT)
+                return null;
+            values[index] = ABSENT;
+            count--;
+            return previous;
+        }
+        return (extra == null ? null : extra.remove(key));
+    }
+    @Override
+    public void clear(){
+        for(int sayac = 0; sayac < values.length; sayac++){
+            values[sayac] = ABSENT;
+        }
+        count = 0;
+        extra = null;
+    }
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet(){
+        if(entries == null){
+            entries = new AbstractSet<Map.Entry<String, Object>>(){
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator(){
+                    return new EntryIterator();
+                }
+                @Override
+                public int size(){
+                    return FieldValueMap.this.size();
+                }
+                @Override
+                public void clear(){
+                    FieldValueMap.this.clear();
+                }
+            };
+        }
+        return entries;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private Object writeReplace(){// Serileştirmede 'HashMap' olarak yazılır
+        return new HashMap<String, Object>(this);
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Anahtarların paylaşılan şeması
+     */
+    Schema getSchema(){
+        return schema;
+    }
+    /**
+     * @return Şemada olmayan bir anahtar eklenmediyse {@code true}; bu durumda
+     * haritanın tüm anahtarları şemadadır
+     */
+    boolean hasOnlySchemaKeys(){
+        return (extra == null || extra.isEmpty());
+    }
+    /**
+     * @param index Şemadaki anahtar indisi
+     * @return Anahtar haritada bulunuyorsa {@code true}
+     */
+    boolean isPresent(int index){
+        return values[index] != ABSENT;
+    }
+    /**
+     * Şemadaki anahtarı, anahtarı aramadan indisle ekler veyâ değerini
+     * değiştirir
+     * @param index Şemadaki anahtar indisi
+     * @param value Değer
+     */
+    void putAt(int index, Object value){
+        if(values[index] == ABSENT)
+            count++;
+        values[index] = value;
+    }
+    /**
+     * @param index Şemadaki anahtar indisi
+     * @return Anahtarın değeri; anahtar kaldırıldıysa {@code null}
+     */
+    Object valueAt(int index){
+        Object value = values[index];
+        return (value == ABSENT ? null : value);
+    }
+
+    /**
+     * Bir alan kümesinin anahtarlarını ve indislerini tutan, değiştirilemez
+     * şemadır<br>
+     * Anahtarlar, aynı alanlarla doldurulan bir {@code HashMap}'in gezinme
+     * sırasıyla dizilir; böylece haritanın gezinme sırası ve metîn karşılığı
+     * önceki {@code HashMap} sonuçlarıyla aynı kalır
+     */
+    static final class Schema{
+        private final String[] keys;
+        private final HashMap<String, Integer> indexes;
+        private final int[] positions;// Alan dizisindeki her alanın şemadaki indisi; 'null' alanlar için -1
+        private volatile int[] accessorPlan;// Üretilen erişimciyle okunacak alan indisleri (anahtar sırasıyla)
+        private volatile int[] forcedAccessorPlan;// Erişim zorlanırken okunacak alan indisleri
+
+        Schema(Field[] fields){
+            HashMap<String, Integer> order = new HashMap<String, Integer>();
+            for(Field fl : fields){
+                if(fl != null)
+                    order.put(fl.getName(), 0);
+            }
+            this.keys = order.keySet().toArray(new String[order.size()]);
+            for(int sayac = 0; sayac < keys.length; sayac++){
+                order.put(keys[sayac], sayac);
+            }
+            this.indexes = order;
+            this.positions = new int[fields.length];
+            for(int sayac = 0; sayac < fields.length; sayac++){
+                positions[sayac] = (fields[sayac] == null ? -1 : order.get(fields[sayac].getName()));
+            }
+        }
+
+        /**
+         * @return Şemadaki anahtar sayısı
+         */
+        int size(){
+            return keys.length;
+        }
+        /**
+         * @param index Anahtar indisi
+         * @return Anahtar
+         */
+        String keyAt(int index){
+            return keys[index];
+        }
+        /**
+         * @param key Anahtar
+         * @return Anahtarın indisi veyâ anahtar şemada yoksa {@code -1}
+         */
+        int indexOf(Object key){
+            Integer index = indexes.get(key);
+            return (index == null ? -1 : index);
+        }
+        /**
+         * @param fieldIndex Şemayı oluşturan alan dizisindeki indis
+         * @return Alanın şemadaki indisi veyâ alan {@code null} ise {@code -1}
+         */
+        int positionOf(int fieldIndex){
+            return positions[fieldIndex];
+        }
+        /**
+         * @param forceAccessibility Erişimin zorlanıp, zorlanmadığı
+         * @return Şemanın anahtarları için {@code GeneratedAccessor.getAll()}
+         * yöntemine verilecek alan indisleri veyâ henüz hesaplanmadıysa
+         * {@code null}
+         */
+        int[] getAccessorPlan(boolean forceAccessibility){
+            return (forceAccessibility ? forcedAccessorPlan : accessorPlan);
+        }
+        /**
+         * @param forceAccessibility Erişimin zorlanıp, zorlanmadığı
+         * @param plan Şemanın anahtarları için alan indisleri; üretilen
+         * erişimciyle okunmayacak anahtarlar için {@code -1}
+         */
+        void setAccessorPlan(boolean forceAccessibility, int[] plan){
+            if(forceAccessibility)
+                forcedAccessorPlan = plan;
+            else
+                accessorPlan = plan;
+        }
+    }
+    /**
+     * Önce dizideki, ardından ek haritadaki girdileri gezer
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>>{
+        private int next = findNext(0);
+        private int last = -1;// Son döndürülen dizi girdisi; ek haritadaysa -2
+        private Iterator<Map.Entry<String, Object>> extraIterator;
+
+        @Override
+        public boolean hasNext(){
+            if(next < values.length)
+                return true;
+            if(extraIterator == null)
+                extraIterator = (extra == null ? null : extra.entrySet().iterator());
+            return (extraIterator != null && extraIterator.hasNext());
+        }
+        @Override
+        public Map.Entry<String, Object> next(){
+            if(next < values.length){
+                final int index = next;
+                last = index;
+                next = findNext(index + 1);
+                return new Map.Entry<String, Object>(){
+                    @Override
+                    public String getKey(){
+                        return schema.keyAt(index);
+                    }
+                    @Override
+                    public Object getValue(){
+                        return valueAt(index);
+                    }
+                    @Override
+                    public Object setValue(Object value){
+                        Object previous = values[index];
+                        values[index] = value;
+                        if(previous == ABSENT){// Girdi kaldırıldıktan sonra yeniden eklendi
+                            count++;
+                            return null;
+                        }
+                        return previous;
+                    }
+                    @Override
+                    public boolean equals(Object obj){
+                        if(!(obj instanceof Map.Entry))
+                            return false;
+                        Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+                        Object value = getValue();
+                        return (getKey().equals(other.getKey())
+                            && (value == null ? other.getValue() == null : value.equals(other.getValue())));
+                    }
+                    @Override
+                    public int hashCode(){
+                        Object value = getValue();
+                        return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+                    }
+                    @Override
+                    public String toString(){
+                        return getKey() + "=" + getValue();
+                    }
+                };
+            }
+            if(!hasNext())
+                throw new NoSuchElementException();
+            last = -2;
+            return extraIterator.next();
+        }
+        @Override
+        public void remove(){
+            if(last == -1)
+                throw new IllegalStateException();
+            if(last == -2)
+                extraIterator.remove();
+            else{
+                values[last] = ABSENT;
+                count--;
+            }
+            last = -1;
+        }
+        private int findNext(int from){
+            int index = from;
+            while(index < values.length && values[index] == ABSENT){
+                index++;
+            }
+            return index;
+        }
+    }
+}
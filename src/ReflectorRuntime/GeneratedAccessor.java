@@ -0,0 +1,111 @@
+package ReflectorRuntime;
+
+/**
+ * Bir sınıfın alanlarına, alan indisine göre seçim yapan bir {@code switch}
+ * ile doğrudan ({@code getfield} / {@code putfield}) erişen, üretilmiş
+ * erişimci sınıflarının temel sınıfıdır<br>
+ * Çalışma zamânında üretilen sınıflar ayrıca 'getter' - 'setter' metotlarını
+ * doğrudan çağıran {@code invoke} yöntemini ve birden çok alanı tek çağrıda
+ * okuyup, yazan {@code getAll} - {@code setAll} yöntemlerini kendileri
+ * tanımlar; bu sınıftaki tanımlar yalnızca derleme zamânında üretilen
+ * sınıflar içindir<br>
+ * Alt sınıflar iki yolla üretilir:<br>
+ * - {@code ACCESSOR_BACKEND.GENERATED} arka ucu seçildiğinde yoğun kullanılan
+ * sınıflar için çalışma zamânında; alan indisleri, sınıfın
+ * {@code getDeclaredFields()} ile alınan alanlarının sırasıdır<br>
+ * - {@code @Reflectable} ile işâretlenen sınıflar için derleme zamânında
+ * {@code ReflectableProcessor} ile; alan indisleri
+ * {@code getFieldNames()} sırasıdır, yazılabilen alanlar
+ * {@code isWritable()} ile bildirilir. Bu sınıflar
+ * {@code <Sınıf>$$ReflectorAccessor} ismiyle hedef sınıfın paketinde bulunur
+ * ve {@code Reflector} tarafından kendiliğinden kullanılır<br>
+ * Doğrudan kullanılmak veyâ elle kalıtılmak için tasarlanmamıştır<br>
+ * Üretilen sınıf başka bir pakette tanımlandığından bu sınıf ve yöntemleri
+ * açıktır ('public' ve 'protected')
+ * @author Mehmet Âkif SOLAK
+ */
+public abstract class GeneratedAccessor{
+    protected GeneratedAccessor(){}
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen nesnedeki, verilen indisteki alanın değerini okur<br>
+     * Temel tipteki değerler kutulanarak döndürülür
+     * @param target Hedef sınıfın bir örneği
+     * @param index Alan indisi
+     * @return Alan değeri veyâ indis üretilen erişimcide yoksa {@code null}
+     */
+    protected abstract Object get(Object target, int index);
+    /**
+     * Verilen nesnedeki, verilen indisteki alana değer yazar<br>
+     * Değer alanın tipinde (temel tipler için sarmalayıcı tipinde) olmalıdır
+     * @param target Hedef sınıfın bir örneği
+     * @param index Alan indisi
+     * @param value Yazılacak değer
+     */
+    protected abstract void set(Object target, int index, Object value);
+    /**
+     * Verilen nesnedeki, verilen indislerdeki alanların değerlerini okur<br>
+     * İndisi negatif olan değerler atlanır
+     * @param target Hedef sınıfın bir örneği
+     * @param indexes Alan indisleri
+     * @param values Değerlerin, indislerle aynı sırada yazılacağı dizi
+     */
+    protected void getAll(Object target, int[] indexes, Object[] values){
+        for(int sayac = 0; sayac < indexes.length; sayac++){
+            if(indexes[sayac] >= 0)
+                values[sayac] = get(target, indexes[sayac]);
+        }
+    }
+    /**
+     * Verilen nesnedeki, verilen indislerdeki alanlara değerleri yazar<br>
+     * Değerler alanların tipinde (temel tipler için sarmalayıcı tipinde)
+     * olmalıdır
+     * @param target Hedef sınıfın bir örneği
+     * @param indexes Alan indisleri
+     * @param values Yazılacak değerler, indislerle aynı sırada
+     * @param count Yazılacak değer sayısı
+     */
+    protected void setAll(Object target, int[] indexes, Object[] values, int count){
+        for(int sayac = 0; sayac < count; sayac++){
+            set(target, indexes[sayac], values[sayac]);
+        }
+    }
+    /**
+     * Verilen nesnede, verilen indisteki parametresiz veyâ tek parametreli
+     * metodu çalıştırır<br>
+     * Girdi metodun parametre tipinde (temel tipler için sarmalayıcı tipinde)
+     * olmalıdır; metodun fırlattığı hatâlar sarmalanmadan fırlatılır
+     * @param target Hedef sınıfın bir örneği
+     * @param index Metot indisi
+     * @param value Parametreli metotlar için girdi, diğerleri için önemsiz
+     * @return Metottan dönen değer; {@code void} metotlar ve indis
+     * üretilen erişimcide yoksa {@code null}
+     */
+    protected Object invoke(Object target, int index, Object value){
+        return null;
+    }
+    /**
+     * @return Erişimcinin kapsadığı alanların isimleri, indis sırasıyla;
+     * indisler sınıfın {@code getDeclaredFields()} sırasıysa {@code null}
+     */
+    protected String[] getFieldNames(){
+        return null;
+    }
+    /**
+     * @param index Alan indisi
+     * @return Alana üretilen erişimciyle yazılabiliyorsa {@code true}<br>
+     * Yalnızca derleme zamânında üretilen erişimciler bu bilgiyi verir;
+     * çalışma zamânında üretilenler için {@code false} döndürülür
+     */
+    protected boolean isWritable(int index){
+        return false;
+    }
+    /**
+     * Hedef sınıfın parametresiz yapıcı yöntemiyle yeni bir örneğini üretir
+     * @return Yeni örnek veyâ erişimci örnek üretmiyorsa {@code null}
+     */
+    protected Object newInstance(){
+        return null;
+    }
+}
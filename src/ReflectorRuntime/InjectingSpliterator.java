@@ -0,0 +1,80 @@
+package ReflectorRuntime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Özellik haritalarını sağlayan bir {@code Spliterator}'ı, bu haritalardan
+ * üretilen nesneleri sağlayan bir {@code Spliterator}'a çeviren sınıftır<br>
+ * Her nesne, kaynaktan harita alındığı anda {@code ObjectInjector} ile
+ * üretilir; hiçbir harita veyâ nesne önceden toplanmaz<br>
+ * Tam olarak bölünebilen ({@code SUBSIZED}) kaynakların bölünmesi kaynağa
+ * bırakılır. Diğer kaynaklarda ('Iterator', dosya satırları vb.) her bölmede
+ * kaynaktan en fazla {@code batchSize} harita alınıp, ayrı bir parça olarak
+ * verilir; böylece bir parçanın tuttuğu satır sayısı grup boyutunu aşmaz
+ * ({@code Spliterators.spliteratorUnknownSize()} grupları her bölmede
+ * büyütür, 2^25 satıra kadar)<br>
+ * Nesnesi üretilemeyen satırlar için {@code null} sağlanır<br>
+ * @author Mehmet Âkif SOLAK
+ * @param <T> Üretilen nesnelerin sınıfı
+ */
+final class InjectingSpliterator<T> implements Spliterator<T>{
+    static final int DEFAULT_BATCH_SIZE = 1024;// Paralel akışta bir parçaya verilen satır sayısı
+    private final ObjectInjector<T> injector;
+    private final Spliterator<? extends Map<String, ? extends Object>> source;
+    private final int batchSize;
+
+    InjectingSpliterator(ObjectInjector<T> injector, Spliterator<? extends Map<String, ? extends Object>> source, int batchSize){
+        this.injector = injector;
+        this.source = source;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action){
+        return source.tryAdvance(new Consumer<Map<String, ? extends Object>>(){
+            @Override
+            public void accept(Map<String, ? extends Object> row){
+                action.accept(injector.produce(row));
+            }
+        });
+    }
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action){
+        source.forEachRemaining(new Consumer<Map<String, ? extends Object>>(){
+            @Override
+            public void accept(Map<String, ? extends Object> row){
+                action.accept(injector.produce(row));
+            }
+        });
+    }
+    @Override
+    public Spliterator<T> trySplit(){
+        if(source.hasCharacteristics(SUBSIZED)){
+            Spliterator<? extends Map<String, ? extends Object>> prefix = source.trySplit();
+            return (prefix == null ? null : new InjectingSpliterator<T>(injector, prefix, batchSize));
+        }
+        final List<Map<String, ? extends Object>> batch = new ArrayList<Map<String, ? extends Object>>(
+            (int) Math.min(batchSize, source.estimateSize()));
+        Consumer<Map<String, ? extends Object>> collector = new Consumer<Map<String, ? extends Object>>(){
+            @Override
+            public void accept(Map<String, ? extends Object> row){
+                batch.add(row);
+            }
+        };
+        while(batch.size() < batchSize && source.tryAdvance(collector));
+        return (batch.isEmpty() ? null : new InjectingSpliterator<T>(injector, batch.spliterator(), batchSize));
+    }
+    @Override
+    public long estimateSize(){
+        return source.estimateSize();
+    }
+    @Override
+    public int characteristics(){// Üretilen nesneler için SORTED, DISTINCT ve NONNULL özellikleri korunamaz
+        return source.characteristics() & (ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT);
+    }
+}
@@ -0,0 +1,213 @@
+package ReflectorRuntime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * {@code Reflector.produceInstance()} için bir sınıfın yeni örneğini üreten,
+ * sınıf başına bir kez hazırlanan üreticidir<br>
+ * Sınıfın temel veri tipi, dizi, {@code enum}, arayüz veyâ kullanıcı sınıfı
+ * olup, olmadığı ve parametresiz yapıcı yöntemin aranması yalnızca üretici
+ * hazırlanırken yapılır; sonraki çağrılar tek bir doğrudan çağrıdır:<br>
+ * - Temel veri tipleri ve {@code enum} için önceden üretilmiş değer<br>
+ * - Diziler ve bilinen arayüzler ({@code List}, {@code Map} vb.) için
+ * doğrudan {@code new} ile çalışan fabrika<br>
+ * - {@code @Reflectable} sınıflar için derleme zamânında üretilmiş erişimci<br>
+ * - Açık ('public') yapıcı yöntemler için {@code MethodHandle}; diğerleri için
+ * {@code Constructor}<br>
+ * Hatâ durumlarında {@code produceInstance()} ile aynı biçimde hatâ yazılır ve
+ * {@code null} döndürülür<br>
+ * Nesne iş parçacıkları arasında güvenle paylaşılabilir<br>
+ * @author Mehmet Âkif SOLAK
+ */
+abstract class Instantiator{
+    private static final int ARRAY_LIST = 0;
+    private static final int HASH_MAP = 1;
+    private static final int TREE_SET = 2;
+    private static final int LINKED_LIST = 3;
+    private static final int HASH_SET = 4;
+    private static final int RANDOM_UUID = 5;
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * @return Yeni örnek veyâ üretilemiyorsa {@code null}
+     */
+    abstract Object newInstance();
+    /**
+     * Verilen sınıf için, {@code produceInstance()} ile aynı sonucu üreten
+     * üreticiyi hazırlar
+     * @param reflector Temel veri tiplerinin ve yapıcı yöntemin bulunmasında
+     * kullanılacak {@code Reflector}
+     * @param cls Hedef sınıf
+     * @return Üretici
+     */
+    static Instantiator create(Reflector reflector, Class<?> cls){
+        if(cls.isPrimitive() || reflector.isWrapperClassOfBasic(cls) || cls.isEnum())
+            return new Constant(reflector.produceBasicInstance(cls));
+        if(cls.isArray())
+            return new ArrayFactory(cls.getComponentType());
+        if(cls.isInterface()){
+            if(cls == List.class || cls.getName().equals("java.util.Collection"))
+                return new Factory(ARRAY_LIST);
+            if(cls == Map.class)
+                return new Factory(HASH_MAP);
+            if(cls.getName().equals("java.util.SortedSet"))
+                return new Factory(TREE_SET);
+            if(cls.getName().equals("java.util.Queue"))
+                return new Factory(LINKED_LIST);
+            if(cls.getName().equals("java.util.Set"))
+                return new Factory(HASH_SET);
+            return new Constant(null);
+        }
+        if(cls == UUID.class)
+            return new Factory(RANDOM_UUID);
+        GeneratedAccessor precompiled = reflector.getClassMetadata(cls).getPrecompiledAccessor();
+        if(precompiled != null && overridesNewInstance(precompiled))
+            return new Precompiled(precompiled);
+        Constructor<?> noParamCs = reflector.getConstructorForNoParameter(cls);
+        if(noParamCs == null)
+            return new Constant(null);
+        Class<?> declaring = noParamCs.getDeclaringClass();
+        if(Modifier.isPublic(noParamCs.getModifiers()) && Modifier.isPublic(declaring.getModifiers())
+            && !Modifier.isAbstract(declaring.getModifiers())){
+            try{
+                return new ConstructorHandle(MethodHandles.publicLookup().unreflectConstructor(noParamCs)
+                    .asType(MethodType.methodType(Object.class)));
+            }
+            catch(IllegalAccessException | RuntimeException exc){}// Yansımayla aynı hatâ alınsın
+        }
+        return new ReflectiveConstructor(noParamCs);
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private static boolean overridesNewInstance(GeneratedAccessor accessor){
+        try{
+            accessor.getClass().getDeclaredMethod("newInstance");// Yalnızca sınıfta tanımlananlar bulunur
+            return true;
+        }
+        catch(NoSuchMethodException | SecurityException exc){
+            return false;
+        }
+    }
+
+    /**
+     * Her çağrıda aynı değeri döndüren üretici; temel veri tipleri, değişmez
+     * sarmalayıcılar ve {@code enum} sâbitleri içindir
+     */
+    private static final class Constant extends Instantiator{
+        private final Object value;
+
+        Constant(Object value){
+            this.value = value;
+        }
+        @Override
+        Object newInstance(){
+            return value;
+        }
+    }
+    /**
+     * Tek elemanlı dizi üreten üretici
+     */
+    private static final class ArrayFactory extends Instantiator{
+        private final Class<?> componentType;
+
+        ArrayFactory(Class<?> componentType){
+            this.componentType = componentType;
+        }
+        @Override
+        Object newInstance(){
+            return Array.newInstance(componentType, 1);
+        }
+    }
+    /**
+     * Bilinen arayüzler için varsayılan gerçekleştirimi üreten üretici
+     */
+    private static final class Factory extends Instantiator{
+        private final int kind;
+
+        Factory(int kind){
+            this.kind = kind;
+        }
+        @Override
+        Object newInstance(){
+            switch(kind){
+                case ARRAY_LIST : return new ArrayList<Object>();
+                case HASH_MAP : return new HashMap<Object, Object>();
+                case TREE_SET : return new TreeSet<Object>();
+                case LINKED_LIST : return new LinkedList<Object>();
+                case HASH_SET : return new HashSet<Object>();
+                case RANDOM_UUID : return UUID.randomUUID();
+            }
+            return null;
+        }
+    }
+    /**
+     * {@code ReflectableProcessor} ile üretilmiş erişimcinin yapıcı yöntem
+     * çağrısını kullanan üretici
+     */
+    private static final class Precompiled extends Instantiator{
+        private final GeneratedAccessor accessor;
+
+        Precompiled(GeneratedAccessor accessor){
+            this.accessor = accessor;
+        }
+        @Override
+        Object newInstance(){
+            return accessor.newInstance();
+        }
+    }
+    /**
+     * Açık parametresiz yapıcı yöntemi {@code MethodHandle} ile çağıran üretici
+     */
+    private static final class ConstructorHandle extends Instantiator{
+        private final MethodHandle handle;// () -> Object
+
+        ConstructorHandle(MethodHandle handle){
+            this.handle = handle;
+        }
+        @Override
+        Object newInstance(){
+            try{
+                return (Object) handle.invokeExact();
+            }
+            catch(Throwable exc){// 'Constructor.newInstance' yapıcı yöntemin hatâsını sarmalar
+                System.err.println("exc : " + new InvocationTargetException(exc).toString());
+                return null;
+            }
+        }
+    }
+    /**
+     * Parametresiz yapıcı yöntemi yansımayla çağıran üretici; erişim hatâları
+     * her çağrıda {@code produceInstance()} ile aynı biçimde yazılır
+     */
+    private static final class ReflectiveConstructor extends Instantiator{
+        private final Constructor<?> constructor;
+
+        ReflectiveConstructor(Constructor<?> constructor){
+            this.constructor = constructor;
+        }
+        @Override
+        Object newInstance(){
+            try{
+                return constructor.newInstance();
+            }
+            catch(InstantiationException | IllegalArgumentException | IllegalAccessException | InvocationTargetException exc){
+                System.err.println("exc : " + exc.toString());
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ReflectorRuntime;
+
+/**
+ * {@code Reflector.tryInvokeMethod()} ile yapılan metot çağrısının sonucunu
+ * tutan nesnedir<br>
+ * Çağrının durumu, metottan dönen değer ve metot hatâ fırlattıysa bu hatâ
+ * saklanır; böylece metottan dönen {@code null} değer ile başarısız çağrı
+ * birbirinden ayrılabilir<br>
+ * Nesne her çağrıda sıfırlanarak tekrar kullanılabilir; bu sebeple iş
+ * parçacıkları arasında paylaşılmamalıdır<br>
+ * @author Mehmet Âkif SOLAK
+ */
+public final class InvocationResult{
+    private STATUS status = STATUS.NOT_INVOKED;
+    private Object value;
+    private Throwable targetException;
+
+    /**
+     * Çağrının durumu<br>
+     * {@code NOT_INVOKED} : Henüz çağrı yapılmadı veyâ metot verilmedi<br>
+     * {@code SUCCESS} : Metot çalıştırıldı<br>
+     * {@code ILLEGAL_ACCESS} : Metoda erişim izni yok, erişim zorlanmadı veyâ
+     * zorlanamadı<br>
+     * {@code ILLEGAL_ARGUMENT} : Nesne veyâ girdiler metoda uygun değil<br>
+     * {@code TARGET_EXCEPTION} : Metot hatâ fırlattı
+     */
+    public enum STATUS{
+        NOT_INVOKED,
+        SUCCESS,
+        ILLEGAL_ACCESS,
+        ILLEGAL_ARGUMENT,
+        TARGET_EXCEPTION
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Sonucu ilk hâline döndürür
+     */
+    public void clear(){
+        set(STATUS.NOT_INVOKED, null, null);
+    }
+    /**
+     * @return Çağrının durumu
+     */
+    public STATUS getStatus(){
+        return status;
+    }
+    /**
+     * @return Metot çalıştırıldıysa {@code true}, aksi hâlde {@code false}
+     */
+    public boolean isSuccessful(){
+        return status == STATUS.SUCCESS;
+    }
+    /**
+     * @return Metottan dönen değer; çağrı başarısızsa {@code null}
+     */
+    public Object getValue(){
+        return value;
+    }
+    /**
+     * @return Metodun fırlattığı hatâ veyâ {@code null}
+     */
+    public Throwable getTargetException(){
+        return targetException;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    void set(STATUS status, Object value, Throwable targetException){
+        this.status = status;
+        this.value = value;
+        this.targetException = targetException;
+    }
+}
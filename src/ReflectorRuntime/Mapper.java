@@ -0,0 +1,274 @@
+package ReflectorRuntime;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bir sınıfın nesnelerini (DTO gibi) başka bir sınıfın nesnelerine, araya bir
+ * özellik haritası koymadan dönüştüren, önceden derlenmiş eşleyicidir<br>
+ * {@code Reflector.getMapper()} ile elde edilir<br>
+ * Kaynak ve hedef alanlar isimleriyle, verildiyse takma isimlerle
+ * ({@code kaynak alan ismi → hedef alan ismi}) bir kez eşleştirilir. Her alan
+ * çifti için okuma - yazma erişimcileri ve dönüşüm yolu da bir kez seçilir:<br>
+ * - Aynı temel tipteki ({@code int}, {@code long}, {@code double}) alanlar
+ * kutulanmadan kopyalanır<br>
+ * - Hedef tipe atanabilen değerler doğrudan kopyalanır<br>
+ * - Diğerleri, {@code getCastedObject()} kurallarını izleyen dönüştürücüyle
+ * dönüştürülür<br>
+ * Alana doğrudan yazılamayan, koleksiyon elemanlarının tipi farklı olan veyâ
+ * dönüştürülemeyen değerler bağlı olunan {@code ObjectInjector} üzerinden
+ * ('setter' dâhil) zerk edilir<br>
+ * Kaynak alanlar, okunamazsa "getter" metoduyla okunur<br>
+ * Nesne iş parçacıkları arasında güvenle paylaşılabilir<br>
+ * @author Mehmet Âkif SOLAK
+ * @param <S> Kaynak sınıf
+ * @param <T> Hedef sınıf
+ */
+public final class Mapper<S, T>{
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int DIRECT = 3;// Değer hedef tipe atanabilir
+    private static final int CONVERT = 4;// Değer çift için seçilen dönüştürücüyle dönüştürülür
+    private static final int CAST = 5;// Değerin sınıfı önceden bilinmiyor; 'getCastedObject()' kullanılır
+    private static final int INJECT = 6;// Değer 'ObjectInjector' ile zerk edilir
+    private final WeakReference<Reflector> reflector;// Eşleyici planda saklandığından zayıf referans
+    private final Reflector owner;// Kullanıcıya verilen kopyada 'Reflector' nesnesini canlı tutar; saklanan eşleyicide 'null'
+    private final ObjectInjector<T> injector;
+    private final Class<S> sourceClass;
+    private final Class<T> targetClass;
+    private final Reflector.CODING_STYLE codingStyle;
+    private final Pair[] pairs;
+    private final Map<String, String> fieldPairs;// Kaynak alan ismi - hedef alan ismi
+
+    Mapper(Reflector reflector, ObjectInjector<T> injector, Class<S> sourceClass, Map<String, String> aliases){
+        this.reflector = new WeakReference<Reflector>(reflector);
+        this.owner = null;
+        this.injector = injector;
+        this.sourceClass = sourceClass;
+        this.targetClass = injector.getTargetClass();
+        this.codingStyle = injector.getCodingStyle();
+        List<Pair> compiled = new ArrayList<Pair>();
+        Map<String, String> names = new LinkedHashMap<String, String>();
+        Map<String, Field> targetFields = injector.getFields();
+        if(targetFields != null && !reflector.isNotUserDefinedClass(sourceClass)){
+            for(Field fl : reflector.getClassMetadata(sourceClass).getFieldMap(true).values()){
+                if(Modifier.isStatic(fl.getModifiers()))
+                    continue;
+                String targetName = (aliases == null ? null : aliases.get(fl.getName()));
+                if(targetName == null)
+                    targetName = fl.getName();
+                Field target = targetFields.get(targetName);
+                if(target == null || Modifier.isStatic(target.getModifiers()))
+                    continue;
+                compiled.add(compile(fl, target));
+                names.put(fl.getName(), targetName);
+            }
+        }
+        this.pairs = compiled.toArray(new Pair[compiled.size()]);
+        this.fieldPairs = Collections.unmodifiableMap(names);
+    }
+    private Mapper(Mapper<S, T> shared, Reflector owner){
+        this.reflector = shared.reflector;
+        this.owner = owner;
+        this.injector = shared.injector;
+        this.sourceClass = shared.sourceClass;
+        this.targetClass = shared.targetClass;
+        this.codingStyle = shared.codingStyle;
+        this.pairs = shared.pairs;
+        this.fieldPairs = shared.fieldPairs;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen nesneden hedef sınıfın yeni bir örneğini üretir
+     * @param source Kaynak nesne
+     * @return Kaynak nesnenin alanlarıyla doldurulmuş hedef nesne veyâ
+     * {@code null}
+     */
+    public T map(S source){
+        return map(source, null);
+    }
+    /**
+     * Verilen nesnenin alanlarını verilen hedef nesneye kopyalar<br>
+     * Hedef nesne {@code null} ise hedef sınıfın yeni bir örneği üretilir
+     * @param source Kaynak nesne
+     * @param target Hedef nesne veyâ {@code null}
+     * @return Kaynak nesnenin alanlarıyla doldurulmuş hedef nesne veyâ
+     * {@code null}
+     */
+    public T map(S source, T target){
+        if(source == null)
+            return null;
+        T obj = target;
+        if(obj == null)
+            obj = reflector.get().produceInstance(targetClass);
+        if(obj == null)
+            return null;
+        for(Pair pair : pairs){
+            copy(source, obj, pair);
+        }
+        return obj;
+    }
+    /**
+     * Verilen nesnelerden hedef sınıfın yeni örneklerini üretir<br>
+     * {@code null} olan veyâ dönüştürülemeyen nesneler için listeye
+     * {@code null} eklenir
+     * @param sources Kaynak nesneler
+     * @return Hedef nesneler veyâ {@code sources} {@code null} ise {@code null}
+     */
+    public List<T> mapAll(List<? extends S> sources){
+        if(sources == null)
+            return null;
+        List<T> result = new ArrayList<T>(sources.size());
+        for(S source : sources){
+            result.add(map(source, null));
+        }
+        return result;
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Eşleme işleminin kaynak sınıfı
+     */
+    public Class<S> getSourceClass(){
+        return sourceClass;
+    }
+    /**
+     * @return Eşleme işleminin hedef sınıfı
+     */
+    public Class<T> getTargetClass(){
+        return targetClass;
+    }
+    /**
+     * @return Eşleştirilen kaynak alan isimleri ve karşılık gelen hedef alan
+     * isimleri (değiştirilemez)
+     */
+    public Map<String, String> getFieldPairs(){
+        return fieldPairs;
+    }
+    /**
+     * Bu eşleyiciyle aynı bilgileri paylaşan ve verilen {@code Reflector}
+     * nesnesini güçlü referansla tutan bir kopya döndürür; ayrıntılar için
+     * {@code ObjectInjector.withOwner()} yöntemine bakınız
+     * @param owner Eşleyiciyi veren {@code Reflector}
+     * @return Kopya
+     */
+    Mapper<S, T> withOwner(Reflector owner){
+        return new Mapper<S, T>(this, owner);
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private Pair compile(Field source, Field target){
+        FieldAccessor reader = reflector.get().getFieldAccessor(source, true);
+        if(reader != null && !reader.isReadable)
+            reader = null;
+        FieldAccessor writer = reflector.get().getFieldAccessor(target, injector.isForceAccessibility());
+        if(writer != null && !writer.isWritable)
+            writer = null;
+        Class<?> sourceType = source.getType();
+        Class<?> targetType = target.getType();
+        int kind;
+        Converter<Object, ?> converter = null;
+        if(writer == null)
+            kind = INJECT;
+        else if(sourceType == targetType && reader != null && sourceType == int.class)
+            kind = INT;
+        else if(sourceType == targetType && reader != null && sourceType == long.class)
+            kind = LONG;
+        else if(sourceType == targetType && reader != null && sourceType == double.class)
+            kind = DOUBLE;
+        else if(reflector.get().isCollectionOrMap(targetType))// Eleman tipleri aynı değilse elemanlar da dönüştürülmeli
+            kind = (source.getGenericType().equals(target.getGenericType()) ? DIRECT : INJECT);
+        else if(box(targetType).isAssignableFrom(box(sourceType)))
+            kind = DIRECT;
+        else if(sourceType.isPrimitive() || Modifier.isFinal(sourceType.getModifiers())){// Değerin sınıfı önceden biliniyor
+            kind = CONVERT;
+            converter = reflector.get().getConverter(box(sourceType), box(targetType), codingStyle);
+        }
+        else
+            kind = CAST;
+        return new Pair(source, target, reader, writer, kind, converter);
+    }
+    private void copy(S source, T obj, Pair pair){
+        try{
+            switch(pair.kind){
+                case INT :{
+                    pair.writer.setInt(obj, pair.reader.getInt(source));
+                    return;
+                }
+                case LONG :{
+                    pair.writer.setLong(obj, pair.reader.getLong(source));
+                    return;
+                }
+                case DOUBLE :{
+                    pair.writer.setDouble(obj, pair.reader.getDouble(source));
+                    return;
+                }
+            }
+            Object value = read(source, pair);
+            if(value == null){
+                if(!pair.targetType.isPrimitive())// Temel veri tipine 'null' değer yazılamaz
+                    pair.writer.set(obj, null);
+                return;
+            }
+            switch(pair.kind){
+                case DIRECT :{
+                    pair.writer.set(obj, value);
+                    return;
+                }
+                case CONVERT :
+                case CAST :{
+                    Object casted = (pair.kind == CONVERT ? pair.converter.convert(value)
+                        : reflector.get().getCastedObject(pair.targetType, value, codingStyle));
+                    if(casted != null && pair.writer.canSet(obj, casted)){
+                        pair.writer.set(obj, casted);
+                        return;
+                    }
+                    break;
+                }
+            }
+            injector.injectField(obj, pair.targetName, value);
+        }
+        catch(IllegalAccessException | IllegalArgumentException | NullPointerException exc){
+            System.err.println("exc : " + exc.toString());
+        }
+    }
+    private Object read(S source, Pair pair) throws IllegalAccessException{
+        if(pair.reader != null && pair.reader.canGet(source))
+            return pair.reader.get(source);
+        return reflector.get().getValueOfField(source, pair.source, codingStyle, true);
+    }
+    private Class<?> box(Class<?> cls){
+        return (cls.isPrimitive() ? reflector.get().getWrapperClassFromPrimitiveClass(cls) : cls);
+    }
+
+    /**
+     * Eşleştirilmiş bir alan çifti ve çift için seçilen kopyalama yoludur
+     */
+    private static final class Pair{
+        final Field source;
+        final String targetName;
+        final Class<?> targetType;
+        final FieldAccessor reader;// Kaynak alan okunamıyorsa 'null'; "getter" kullanılır
+        final FieldAccessor writer;// Hedef alana yazılamıyorsa 'null'; değer zerk edilir
+        final int kind;
+        final Converter<Object, ?> converter;// Hedef tipi derleme zamanında bilinmiyor
+
+        Pair(Field source, Field target, FieldAccessor reader, FieldAccessor writer, int kind, Converter<Object, ?> converter){
+            this.source = source;
+            this.targetName = target.getName();
+            this.targetType = target.getType();
+            this.reader = reader;
+            this.writer = writer;
+            this.kind = kind;
+            this.converter = converter;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package ReflectorRuntime;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Bir metodu çalıştırmak için kullanılan erişimcidir<br>
+ * Metot başına bir kez oluşturulup, {@code ClassMetadata} içerisinde saklanır<br>
+ * Hatâ durumlarında {@code Method.invoke} ile aynı istisnaları fırlatır;
+ * metodun kendi fırlattığı hatâlar {@code InvocationTargetException} ile
+ * sarmalanır<br>
+ * @author Mehmet Âkif SOLAK
+ */
+abstract class MethodAccessor{
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    final Method method;
+    final Class<?>[] parameterTypes;
+    final boolean isStatic;
+    final boolean isAccessible;// Çağrı erişim hatâsı almayacak
+
+    MethodAccessor(Method method, boolean isAccessible){
+        this.method = method;
+        this.parameterTypes = method.getParameterTypes();
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.isAccessible = isAccessible;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Metodu verilen nesne üzerinde, verilen girdilerle çalıştırır
+     * @param target Metodun çalıştırılacağı nesne (statik metotlar için önemsiz)
+     * @param inputs Metot girdileri, girdi yoksa {@code null} olabilir
+     * @return Metottan dönen değer, {@code void} metotlar için {@code null}
+     * @throws IllegalAccessException Metoda erişim izni yoksa
+     * @throws InvocationTargetException Metot bir hatâ fırlatırsa
+     */
+    abstract Object invoke(Object target, Object[] inputs) throws IllegalAccessException, InvocationTargetException;
+    /**
+     * Verilen metot için seçilen arka uca uygun erişimciyi oluşturur<br>
+     * Açık ('public') sınıfların açık, statik olmayan 'getter' ve 'setter'
+     * metotları için {@code LambdaMetafactory} ile fonksiyon üretilir; diğer
+     * metotlar için {@code MethodHandle} kullanılır<br>
+     * Bunlar üretilemezse yansıma tabanlı erişimci döndürülür<br>
+     * {@code GENERATED} arka ucu için de bu erişimci döndürülür; üretilen
+     * sınıfa geçiş {@code GeneratedMethodAccessor} ile sarmalanarak yapılır
+     * @param method Hedef metot; erişim zorlanacaksa erişilebilir kopya verilmeli
+     * @param backend Kullanılacak arka uç
+     * @return Metot erişimcisi
+     */
+    static MethodAccessor create(Method method, Reflector.ACCESSOR_BACKEND backend){
+        if(backend != Reflector.ACCESSOR_BACKEND.REFLECTION){
+            try{
+                MethodHandle handle = LOOKUP.unreflect(method).asFixedArity();
+                MethodAccessor lambda = createLambdaAccessor(method, handle);
+                if(lambda != null)
+                    return lambda;
+                return new MethodHandleAccessor(method, handle);
+            }
+            catch(IllegalAccessException | RuntimeException exc){}// Erişim yoksa yansımayla aynı hatâ alınsın
+        }
+        return new ReflectiveAccessor(method);
+    }
+
+    /**
+     * Verilen nesne ve girdilerle yapılacak çağrının girdi hatâsı
+     * ({@code IllegalArgumentException}, {@code NullPointerException}) alıp,
+     * almayacağını hatâ fırlatmadan sorgular
+     * @param target Metodun çalıştırılacağı nesne
+     * @param inputs Metot girdileri
+     * @return Girdiler uygunsa {@code true}, aksi hâlde {@code false}
+     */
+    boolean canInvoke(Object target, Object[] inputs){
+        if(!isStatic && !method.getDeclaringClass().isInstance(target))
+            return false;
+        int len = (inputs == null ? 0 : inputs.length);
+        if(len != parameterTypes.length)
+            return false;
+        for(int sayac = 0; sayac < len; sayac++){
+            if(!TypeRules.isAssignable(parameterTypes[sayac], inputs[sayac]))
+                return false;
+        }
+        return true;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    /**
+     * Girdileri {@code Method.invoke} kurallarına göre denetler ve gerekiyorsa
+     * temel veri tipi değerlerini genişletir<br>
+     * Verilen dizi değiştirilmez; genişletme gerekirse kopyası döndürülür
+     * @param target Metodun çalıştırılacağı nesne
+     * @param inputs Metot girdileri
+     * @return Metoda verilecek girdiler
+     */
+    Object[] checkAndAdapt(Object target, Object[] inputs){
+        if(!isStatic){
+            if(target == null)
+                throw new NullPointerException();
+            if(!method.getDeclaringClass().isInstance(target))
+                throw new IllegalArgumentException("object is not an instance of declaring class");
+        }
+        int len = (inputs == null ? 0 : inputs.length);
+        if(len != parameterTypes.length)
+            throw new IllegalArgumentException("wrong number of arguments");
+        Object[] adapted = inputs;
+        for(int sayac = 0; sayac < len; sayac++){
+            if(!TypeRules.isAssignable(parameterTypes[sayac], inputs[sayac]))
+                throw new IllegalArgumentException("argument type mismatch");
+            Object value = TypeRules.adapt(parameterTypes[sayac], inputs[sayac]);
+            if(value != inputs[sayac]){
+                if(adapted == inputs)
+                    adapted = inputs.clone();
+                adapted[sayac] = value;
+            }
+        }
+        return adapted;
+    }
+    private static MethodAccessor createLambdaAccessor(Method method, MethodHandle handle){
+        Class<?> declaring = method.getDeclaringClass();
+        if(Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())
+            || !Modifier.isPublic(declaring.getModifiers()) || method.getParameterCount() > 1)
+            return null;
+        Class<?> returnType = method.getReturnType();
+        if(!isVisible(declaring) || !isVisible(returnType) || (method.getParameterCount() == 1 && !isVisible(method.getParameterTypes()[0])))
+            return null;// Üretilen sınıf bu tiplere kendi sınıf yükleyicisi üzerinden erişir
+        try{
+            if(method.getParameterCount() == 0){// 'getter'
+                if(returnType == void.class)
+                    return null;
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                    MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class),
+                    handle, MethodType.methodType(wrap(returnType), declaring));
+                return new GetterLambdaAccessor(method, (Function<Object, Object>) site.getTarget().invoke());
+            }
+            Class<?> inputType = wrap(method.getParameterTypes()[0]);
+            if(returnType == void.class){// 'setter'
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                    MethodType.methodType(BiConsumer.class), MethodType.methodType(void.class, Object.class, Object.class),
+                    handle, MethodType.methodType(void.class, declaring, inputType));
+                return new SetterLambdaAccessor(method, (BiConsumer<Object, Object>) site.getTarget().invoke(), null);
+            }
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",// Değer döndüren 'setter'
+                MethodType.methodType(BiFunction.class), MethodType.methodType(Object.class, Object.class, Object.class),
+                handle, MethodType.methodType(wrap(returnType), declaring, inputType));
+            return new SetterLambdaAccessor(method, null, (BiFunction<Object, Object, Object>) site.getTarget().invoke());
+        }
+        catch(Throwable exc){
+            return null;// Fonksiyon üretilemezse MethodHandle kullanılır
+        }
+    }
+    /**
+     * Metoda bu paketten erişilip, erişilemeyeceğini sorgular<br>
+     * Denetim erişimci oluşturulurken bir kez yapılır
+     */
+    private static boolean checkAccess(Method method){
+        try{
+            LOOKUP.unreflect(method);
+            return true;
+        }
+        catch(IllegalAccessException exc){
+            return false;
+        }
+    }
+    private static boolean isVisible(Class<?> cls){
+        if(cls.isPrimitive())
+            return true;
+        while(cls.isArray())
+            cls = cls.getComponentType();
+        try{
+            return Class.forName(cls.getName(), false, MethodAccessor.class.getClassLoader()) == cls;
+        }
+        catch(ClassNotFoundException | LinkageError exc){
+            return false;
+        }
+    }
+    private static Class<?> wrap(Class<?> cls){
+        if(!cls.isPrimitive())
+            return cls;
+        return MethodType.methodType(cls).wrap().returnType();
+    }
+
+    /**
+     * {@code Method.invoke} yöntemini doğrudan kullanır
+     */
+    static final class ReflectiveAccessor extends MethodAccessor{
+        ReflectiveAccessor(Method method){
+            super(method, checkAccess(method));
+        }
+        @Override
+        Object invoke(Object target, Object[] inputs) throws IllegalAccessException, InvocationTargetException{
+            return method.invoke(target, inputs);
+        }
+    }
+    /**
+     * Metot için bir kez derlenen {@code MethodHandle} nesnesini kullanır
+     */
+    static final class MethodHandleAccessor extends MethodAccessor{
+        private final MethodHandle handle;// Girdi sayısına göre (Object)Object, (Object, Object)Object veyâ (Object, Object[])Object
+        private final int arity;
+
+        MethodHandleAccessor(Method method, MethodHandle handle){
+            super(method, true);
+            this.arity = parameterTypes.length;
+            if(isStatic)
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            if(arity == 0)
+                handle = handle.asType(MethodType.methodType(Object.class, Object.class));
+            else if(arity == 1)
+                handle = handle.asType(MethodType.methodType(Object.class, Object.class, Object.class));
+            else
+                handle = handle.asType(MethodType.genericMethodType(arity + 1)).asSpreader(Object[].class, arity);
+            this.handle = handle;
+        }
+        @Override
+        Object invoke(Object target, Object[] inputs) throws IllegalAccessException, InvocationTargetException{
+            Object[] adapted = checkAndAdapt(target, inputs);
+            try{
+                if(arity == 0)
+                    return (Object) handle.invokeExact(target);
+                if(arity == 1)
+                    return (Object) handle.invokeExact(target, adapted[0]);
+                return (Object) handle.invokeExact(target, adapted);
+            }
+            catch(Throwable exc){// Girdiler denetlendiğinden hatâ metodun kendisinden gelir
+                throw new InvocationTargetException(exc);
+            }
+        }
+    }
+    /**
+     * 'getter' metodu için {@code LambdaMetafactory} ile üretilen fonksiyonu
+     * kullanır
+     */
+    static final class GetterLambdaAccessor extends MethodAccessor{
+        private final Function<Object, Object> getter;
+
+        GetterLambdaAccessor(Method method, Function<Object, Object> getter){
+            super(method, true);
+            this.getter = getter;
+        }
+        @Override
+        Object invoke(Object target, Object[] inputs) throws IllegalAccessException, InvocationTargetException{
+            checkAndAdapt(target, inputs);
+            try{
+                return getter.apply(target);
+            }
+            catch(Throwable exc){
+                throw new InvocationTargetException(exc);
+            }
+        }
+    }
+    /**
+     * Tek girdili 'setter' metodu için {@code LambdaMetafactory} ile üretilen
+     * fonksiyonu kullanır; değer döndüren 'setter' metotları da desteklenir
+     */
+    static final class SetterLambdaAccessor extends MethodAccessor{
+        private final BiConsumer<Object, Object> setter;
+        private final BiFunction<Object, Object, Object> fluentSetter;
+
+        SetterLambdaAccessor(Method method, BiConsumer<Object, Object> setter, BiFunction<Object, Object, Object> fluentSetter){
+            super(method, true);
+            this.setter = setter;
+            this.fluentSetter = fluentSetter;
+        }
+        @Override
+        Object invoke(Object target, Object[] inputs) throws IllegalAccessException, InvocationTargetException{
+            Object[] adapted = checkAndAdapt(target, inputs);
+            try{
+                if(setter != null){
+                    setter.accept(target, adapted[0]);
+                    return null;
+                }
+                return fluentSetter.apply(target, adapted[0]);
+            }
+            catch(Throwable exc){
+                throw new InvocationTargetException(exc);
+            }
+        }
+    }
+    /**
+     * {@code ACCESSOR_BACKEND.GENERATED} arka ucunun metot erişimcisidir<br>
+     * Sınıf için erişimci sınıfı üretilene kadar, üretilemezse veyâ metot
+     * üretilen sınıfça kapsanmıyorsa verilen erişimciyi kullanır; üretimden
+     * sonra parametresiz ve tek parametreli metotları üretilen sınıfın
+     * {@code invoke} yöntemiyle doğrudan çağırır. Üretimden sonra kullanılacak
+     * erişimci bir kez seçilip saklanır<br>
+     * Erişim izinleri ve hatâlar verilen erişimciyle aynıdır
+     */
+    static final class GeneratedMethodAccessor extends MethodAccessor{
+        private final MethodAccessor delegate;
+        private final AccessorGenerator generator;
+        private final int index;// Metodun, sınıfta tanımlanan metotlar içerisindeki indisi
+        private MethodAccessor resolved;// Üretimden sonraki erişimci; değişmez nesne olduğundan yarışta da güvenle okunur
+
+        GeneratedMethodAccessor(MethodAccessor delegate, AccessorGenerator generator, int index){
+            super(delegate.method, delegate.isAccessible);
+            this.delegate = delegate;
+            this.generator = generator;
+            this.index = index;
+        }
+        @Override
+        Object invoke(Object target, Object[] inputs) throws IllegalAccessException, InvocationTargetException{
+            return resolve().invoke(target, inputs);
+        }
+
+        // ARKAPLAN İŞLEM YÖNTEMLERİ:
+        private MethodAccessor resolve(){
+            MethodAccessor found = resolved;
+            if(found != null)
+                return found;
+            GeneratedAccessor generated = generator.use();
+            if(generated == null){
+                if(generator.isDone())// Üretilemedi
+                    resolved = delegate;
+                return delegate;
+            }
+            found = (isAccessible && index != -1 && generator.canInvoke(index) ? new DirectAccessor(method, generated, index) : delegate);
+            resolved = found;
+            return found;
+        }
+    }
+    /**
+     * Metodu çalışma zamânında üretilen sınıfın {@code invoke} yöntemiyle
+     * çağıran erişimcidir; yalnızca {@code GeneratedMethodAccessor} içerisinde
+     * kullanılır
+     */
+    private static final class DirectAccessor extends MethodAccessor{
+        private final GeneratedAccessor generated;
+        private final int index;
+
+        DirectAccessor(Method method, GeneratedAccessor generated, int index){
+            super(method, true);
+            this.generated = generated;
+            this.index = index;
+        }
+        @Override
+        Object invoke(Object target, Object[] inputs) throws IllegalAccessException, InvocationTargetException{
+            Object[] adapted = checkAndAdapt(target, inputs);
+            try{
+                return generated.invoke(target, index, (adapted == null || adapted.length == 0 ? null : adapted[0]));
+            }
+            catch(Throwable exc){// Girdiler denetlendiğinden hatâ metodun kendisinden gelir
+                throw new InvocationTargetException(exc);
+            }
+        }
+    }
+}
\ No newline at end of file
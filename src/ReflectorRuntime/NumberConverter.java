@@ -0,0 +1,185 @@
+package ReflectorRuntime;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Sayı tipleri arasında metne çevirmeden, doğrudan dönüşüm yapan
+ * dönüştürücüdür<br>
+ * Temel sayı tipleri, sarmalayıcıları, {@code BigDecimal} ve
+ * {@code BigInteger} desteklenir; diğer {@code Number} alt sınıfları için
+ * dönüştürücü üretilmez<br>
+ * Dönüşüm kuralları:<br>
+ * - Tamsayı hedeflerde kesir kısmı 0 olmayan değerler dönüştürülmez<br>
+ * - Tamsayı hedeflerde hedefin sınırları dışındaki değerler dönüştürülmez;
+ * yuvarlama veyâ kırpma yapılmaz<br>
+ * - {@code NaN} ve sonsuz değerler tamsayı ve {@code BigDecimal} hedeflere
+ * dönüştürülmez<br>
+ * - Kayan noktalı hedeflerde Java'nın daraltma ve genişletme kuralları
+ * geçerlidir; sınırı aşan değerler sonsuz olur<br>
+ * - {@code float} kaynaklar ondalık gösterimleriyle ele alınır; misal,
+ * {@code 0.1f} {@code double} hedefe {@code 0.1} olarak çevrilir<br>
+ * - {@code double} kaynaklar {@code BigDecimal} hedefe
+ * {@code BigDecimal.valueOf()} ile, diğer hedeflere ikili değerleriyle çevrilir<br>
+ * Dönüştürülemeyen değerler için {@code null} döndürülür<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class NumberConverter implements Converter<Object, Object>{
+    static final int BIG_INTEGER = 8;
+    static final int BIG_DECIMAL = 9;
+    private final int source;
+    private final int target;
+
+    private NumberConverter(int source, int target){
+        this.source = source;
+        this.target = target;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen sınıflar arasında doğrudan dönüşüm yapan dönüştürücüyü üretir
+     * @param sourceClass Kaynak sınıf
+     * @param targetClass Hedef sınıf
+     * @return Dönüştürücü veyâ sınıflardan birisi desteklenmiyorsa {@code null}
+     */
+    static NumberConverter of(Class<?> sourceClass, Class<?> targetClass){
+        int sourceKind = kindOf(sourceClass);
+        int targetKind = kindOf(targetClass);
+        if(sourceKind == TypeRules.NONE || targetKind == TypeRules.NONE)
+            return null;
+        return new NumberConverter(sourceKind, targetKind);
+    }
+    /**
+     * Verilen sayıyı hedef tipe dönüştürür
+     * @param value Sayı
+     * @param targetClass Hedef sınıf
+     * @return Dönüştürülmüş değer veyâ {@code null}
+     */
+    static Object convert(Number value, Class<?> targetClass){
+        if(value == null)
+            return null;
+        int sourceKind = kindOf(value.getClass());
+        int targetKind = kindOf(targetClass);
+        if(sourceKind == TypeRules.NONE || targetKind == TypeRules.NONE)
+            return null;
+        return convert(value, sourceKind, targetKind);
+    }
+    @Override
+    public Object convert(Object value){
+        return convert((Number) value, source, target);
+    }
+    /**
+     * Verilen {@code double} değeri hedef tipe dönüştürür
+     * @param value Değer
+     * @param targetKind Hedef tipin sıra numarası
+     * @return Dönüştürülmüş değer veyâ {@code null}
+     */
+    static Object fromDouble(double value, int targetKind){
+        switch(targetKind){
+            case TypeRules.DOUBLE : return value;
+            case TypeRules.FLOAT : return (float) value;
+            case BIG_DECIMAL : {
+                if(Double.isNaN(value) || Double.isInfinite(value))
+                    return null;
+                return BigDecimal.valueOf(value);
+            }
+            case BIG_INTEGER : {
+                if(Double.isNaN(value) || Double.isInfinite(value) || Math.floor(value) != value)
+                    return null;
+                if(value > -9.223372036854775808E18 && value < 9.223372036854775808E18)
+                    return BigInteger.valueOf((long) value);
+                return new BigDecimal(value).toBigInteger();
+            }
+        }
+        if(Double.isNaN(value) || Double.isInfinite(value) || Math.floor(value) != value)
+            return null;// Kesir kısmı olan değerler tamsayıya çevrilmez
+        if(value < -9.223372036854775808E18 || value >= 9.223372036854775808E18)
+            return null;
+        return fromLong((long) value, targetKind);
+    }
+    /**
+     * Verilen {@code long} değeri hedef tipe dönüştürür
+     * @param value Değer
+     * @param targetKind Hedef tipin sıra numarası
+     * @return Dönüştürülmüş değer veyâ sınırlar aşılıyorsa {@code null}
+     */
+    static Object fromLong(long value, int targetKind){
+        switch(targetKind){
+            case TypeRules.LONG : return value;
+            case TypeRules.INT : return (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? null : (Object) (int) value);
+            case TypeRules.SHORT : return (value < Short.MIN_VALUE || value > Short.MAX_VALUE ? null : (Object) (short) value);
+            case TypeRules.BYTE : return (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE ? null : (Object) (byte) value);
+            case TypeRules.DOUBLE : return (double) value;
+            case TypeRules.FLOAT : return (float) value;
+            case BIG_INTEGER : return BigInteger.valueOf(value);
+            case BIG_DECIMAL : return BigDecimal.valueOf(value);
+        }
+        return null;
+    }
+    /**
+     * Sayı sınıfını sıra numarasıyla eşleştirir
+     * @param cls Sınıf
+     * @return Sıra numarası veyâ desteklenmiyorsa {@code TypeRules.NONE}
+     */
+    static int kindOf(Class<?> cls){
+        if(cls == BigDecimal.class)
+            return BIG_DECIMAL;
+        if(cls == BigInteger.class)
+            return BIG_INTEGER;
+        int rank = TypeRules.rankOf(cls);
+        if(rank == TypeRules.BOOLEAN || rank == TypeRules.CHAR)
+            return TypeRules.NONE;
+        return rank;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private static Object convert(Number value, int sourceKind, int targetKind){
+        switch(sourceKind){
+            case TypeRules.FLOAT : {// Ondalık gösterimi korunuyor
+                if(targetKind == BIG_DECIMAL){
+                    float f = value.floatValue();
+                    if(Float.isNaN(f) || Float.isInfinite(f))
+                        return null;
+                    return new BigDecimal(Float.toString(f));
+                }
+                if(targetKind == TypeRules.FLOAT)
+                    return value;
+                return fromDouble(Double.parseDouble(Float.toString(value.floatValue())), targetKind);
+            }
+            case TypeRules.DOUBLE : return fromDouble(value.doubleValue(), targetKind);
+            case BIG_INTEGER : return fromBigInteger((BigInteger) value, targetKind);
+            case BIG_DECIMAL : return fromBigDecimal((BigDecimal) value, targetKind);
+        }
+        return fromLong(value.longValue(), targetKind);// Tamsayı kaynak
+    }
+    private static Object fromBigInteger(BigInteger value, int targetKind){
+        switch(targetKind){
+            case BIG_INTEGER : return value;
+            case BIG_DECIMAL : return new BigDecimal(value);
+            case TypeRules.DOUBLE : return value.doubleValue();
+            case TypeRules.FLOAT : return value.floatValue();
+        }
+        if(value.bitLength() > 63)
+            return null;
+        return fromLong(value.longValue(), targetKind);
+    }
+    private static Object fromBigDecimal(BigDecimal value, int targetKind){
+        switch(targetKind){
+            case BIG_DECIMAL : return value;
+            case TypeRules.DOUBLE : return value.doubleValue();
+            case TypeRules.FLOAT : return value.floatValue();
+        }
+        if(value.signum() == 0)
+            return fromLong(0, targetKind);
+        if(targetKind != BIG_INTEGER && value.precision() - value.scale() > 19)
+            return null;// Tamsayı kısmı 19 basamaktan uzun; 'long' sınırları aşılıyor
+        BigInteger asInteger;
+        try{
+            asInteger = value.toBigIntegerExact();
+        }
+        catch(ArithmeticException exc){// Kesir kısmı 0 değil
+            return null;
+        }
+        return fromBigInteger(asInteger, targetKind);
+    }
+}
@@ -0,0 +1,394 @@
+package ReflectorRuntime;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Metîn ({@code CharSequence}) veyâ ASCII bayt dizisi ({@code byte[]})
+ * içerisindeki bir aralıktan sayı ayrıştıran sınıftır<br>
+ * Ayrıştırma sırasında alt metîn oluşturulmaz ve istisna fırlatılmaz; sonuç
+ * {@code STATUS} olarak döndürülür, değer ise {@code getLong()},
+ * {@code getInt()}, {@code getDouble()} gibi yöntemlerle alınır<br>
+ * Baştaki ve sondaki boşluklar ({@code String.trim()} gibi) görmezden
+ * gelinir<br>
+ * Kabul edilen biçim: {@code [+|-]rakamlar[.rakamlar][(e|E)[+|-]rakamlar]};
+ * {@code "5."} ve {@code ".5"} gibi yazımlar da kabul edilir<br>
+ * Tamsayı hedeflerde kesir kısmı 0 olan değerler ({@code "12.0"},
+ * {@code "1e3"}) kabul edilir; kesir kısmı olan değerler için
+ * {@code FRACTION}, sınırları aşan değerler için {@code OVERFLOW} döndürülür<br>
+ * Kayan noktalı hedeflerde değer tam olarak hesaplanabiliyorsa doğrudan
+ * hesaplanır; 15 basamaktan uzun veyâ üssü büyük değerler gibi nâdir
+ * durumlarda {@code Double.parseDouble()} kullanılır<br>
+ * Nesne, ayrıştırılan değeri içerisinde sakladığından iş parçacıkları
+ * arasında paylaşılmamalı; fakat her ayrıştırmada tekrar kullanılabilir<br>
+ * @author Mehmet Âkif SOLAK
+ */
+public final class NumberParser{
+    private static final long MULTIPLY_LIMIT = Long.MIN_VALUE / 10;
+    private static final int EXPONENT_LIMIT = 100000;
+    private static final long DOUBLE_EXACT_LIMIT = 1L << 53;
+    private static final long FLOAT_EXACT_LIMIT = 1L << 24;
+    private static final double[] DOUBLE_POWERS = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final float[] FLOAT_POWERS = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+    private CharSequence text;
+    private byte[] bytes;
+    private int start;// Boşluklar atıldıktan sonraki başlangıç
+    private int end;// Boşluklar atıldıktan sonraki bitiş
+    private boolean isNegative;
+    private boolean isOverflowed;// Anlamlı rakamlar 'long' sınırlarını aşıyor
+    private long significand;// Sondaki sıfırları atılmış anlamlı rakamlar, negatif olarak
+    private int scale;// Değer = anlamlı rakamlar x 10 ^ scale
+    private long longValue;
+    private double doubleValue;
+    private float floatValue;
+
+    /**
+     * Ayrıştırma sonucu<br>
+     * {@code OK} : Değer ayrıştırıldı<br>
+     * {@code EMPTY} : Aralık boş veyâ yalnızca boşluktan oluşuyor<br>
+     * {@code INVALID} : Aralık desteklenen sayı biçiminde değil<br>
+     * {@code FRACTION} : Tamsayı hedef için değerin kesir kısmı var<br>
+     * {@code OVERFLOW} : Değer hedef tipin sınırları dışında
+     */
+    public enum STATUS{
+        OK,
+        EMPTY,
+        INVALID,
+        FRACTION,
+        OVERFLOW
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen metîn aralığını {@code long} olarak ayrıştırır
+     * @param data Metîn
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getLong()} ile alınır
+     */
+    public STATUS parseLong(CharSequence data, int start, int end){
+        return parseIntegral(prepare(data, start, end), Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+    /**
+     * Verilen ASCII bayt aralığını {@code long} olarak ayrıştırır
+     * @param data ASCII bayt dizisi
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getLong()} ile alınır
+     */
+    public STATUS parseLong(byte[] data, int start, int end){
+        return parseIntegral(prepare(data, start, end), Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+    /**
+     * Verilen metîn aralığını {@code int} olarak ayrıştırır
+     * @param data Metîn
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getInt()} ile alınır
+     */
+    public STATUS parseInt(CharSequence data, int start, int end){
+        return parseIntegral(prepare(data, start, end), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+    /**
+     * Verilen ASCII bayt aralığını {@code int} olarak ayrıştırır
+     * @param data ASCII bayt dizisi
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getInt()} ile alınır
+     */
+    public STATUS parseInt(byte[] data, int start, int end){
+        return parseIntegral(prepare(data, start, end), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+    /**
+     * Verilen metîn aralığını {@code double} olarak ayrıştırır
+     * @param data Metîn
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getDouble()} ile alınır
+     */
+    public STATUS parseDouble(CharSequence data, int start, int end){
+        return parseDouble(prepare(data, start, end));
+    }
+    /**
+     * Verilen ASCII bayt aralığını {@code double} olarak ayrıştırır
+     * @param data ASCII bayt dizisi
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getDouble()} ile alınır
+     */
+    public STATUS parseDouble(byte[] data, int start, int end){
+        return parseDouble(prepare(data, start, end));
+    }
+    /**
+     * Verilen metîn aralığını {@code float} olarak ayrıştırır
+     * @param data Metîn
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getFloat()} ile alınır
+     */
+    public STATUS parseFloat(CharSequence data, int start, int end){
+        return parseFloat(prepare(data, start, end));
+    }
+    /**
+     * Verilen ASCII bayt aralığını {@code float} olarak ayrıştırır
+     * @param data ASCII bayt dizisi
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getFloat()} ile alınır
+     */
+    public STATUS parseFloat(byte[] data, int start, int end){
+        return parseFloat(prepare(data, start, end));
+    }
+    /**
+     * Verilen metîn aralığını verilen sayı tipinde ayrıştırır ve değeri
+     * sarmalayıcı olarak döndürür<br>
+     * {@code BigDecimal}, {@code BigInteger} ve diğer sınıflar desteklenmez
+     * @param target Hedef sınıf (temel sayı tipi veyâ sarmalayıcısı)
+     * @param data Metîn
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getValue()} ile alınır
+     */
+    STATUS parse(Class<?> target, CharSequence data, int start, int end){
+        return parseAs(TypeRules.rankOf(target), prepare(data, start, end));
+    }
+    /**
+     * Verilen ASCII bayt aralığını verilen sayı tipinde ayrıştırır
+     * @param target Hedef sınıf (temel sayı tipi veyâ sarmalayıcısı)
+     * @param data ASCII bayt dizisi
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return Ayrıştırma sonucu, değer {@code getValue()} ile alınır
+     */
+    STATUS parse(Class<?> target, byte[] data, int start, int end){
+        return parseAs(TypeRules.rankOf(target), prepare(data, start, end));
+    }
+    /**
+     * Verilen sınıfın bu sınıf tarafından ayrıştırılıp, ayrıştırılamayacağını
+     * sorgular
+     * @param target Hedef sınıf
+     * @return Temel sayı tipi veyâ sarmalayıcısı ise {@code true}
+     */
+    static boolean isSupported(Class<?> target){
+        int rank = TypeRules.rankOf(target);
+        return rank != TypeRules.NONE && rank != TypeRules.BOOLEAN && rank != TypeRules.CHAR;
+    }
+    /**
+     * Son başarılı ayrıştırmanın değerini verilen tipin sarmalayıcısı olarak
+     * döndürür
+     * @param target Hedef sınıf; ayrıştırmada kullanılanla aynı olmalıdır
+     * @return Değer
+     */
+    Object getValue(Class<?> target){
+        switch(TypeRules.rankOf(target)){
+            case TypeRules.INT : return (int) longValue;
+            case TypeRules.LONG : return longValue;
+            case TypeRules.SHORT : return (short) longValue;
+            case TypeRules.BYTE : return (byte) longValue;
+            case TypeRules.FLOAT : return floatValue;
+        }
+        return doubleValue;
+    }
+    /**
+     * @return Son tamsayı ayrıştırmasının değeri
+     */
+    public long getLong(){
+        return longValue;
+    }
+    /**
+     * @return Son {@code int} ayrıştırmasının değeri
+     */
+    public int getInt(){
+        return (int) longValue;
+    }
+    /**
+     * @return Son {@code double} ayrıştırmasının değeri
+     */
+    public double getDouble(){
+        return doubleValue;
+    }
+    /**
+     * @return Son {@code float} ayrıştırmasının değeri
+     */
+    public float getFloat(){
+        return floatValue;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private STATUS prepare(CharSequence data, int start, int end){
+        if(start < 0 || end > data.length() || start > end)
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + data.length());
+        this.text = data;
+        this.bytes = null;
+        return scan(start, end);
+    }
+    private STATUS prepare(byte[] data, int start, int end){
+        if(start < 0 || end > data.length || start > end)
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + data.length);
+        this.text = null;
+        this.bytes = data;
+        return scan(start, end);
+    }
+    private char charAt(int index){
+        return (text != null ? text.charAt(index) : (char) (bytes[index] & 0xFF));
+    }
+    /**
+     * Aralığı tarayıp; işâreti, anlamlı rakamları ve ölçeği çıkartır
+     */
+    private STATUS scan(int start, int end){
+        while(start < end && charAt(start) <= ' ')
+            start++;
+        while(end > start && charAt(end - 1) <= ' ')
+            end--;
+        this.start = start;
+        this.end = end;
+        if(start == end)
+            return STATUS.EMPTY;
+        int index = start;
+        char c = charAt(index);
+        isNegative = (c == '-');
+        if(c == '-' || c == '+')
+            index++;
+        long acc = 0;// Negatif biriktiriliyor; böylece Long.MIN_VALUE da ifâde edilebiliyor
+        boolean overflowed = false;
+        boolean isInFraction = false;
+        int digits = 0;
+        int fractionDigits = 0;
+        int pendingZeros = 0;// Son sıfır olmayan rakamdan sonraki sıfırlar
+        int exponent = 0;
+        for(; index < end; index++){
+            c = charAt(index);
+            if(c >= '0' && c <= '9'){
+                digits++;
+                if(isInFraction)
+                    fractionDigits++;
+                if(c == '0'){
+                    if(acc != 0 || overflowed)// Baştaki sıfırlar önemsiz
+                        pendingZeros++;
+                    continue;
+                }
+                int digit = c - '0';
+                if(!overflowed){
+                    for(; pendingZeros > 0; pendingZeros--){
+                        if(acc < MULTIPLY_LIMIT){
+                            overflowed = true;
+                            break;
+                        }
+                        acc *= 10;
+                    }
+                    if(!overflowed){
+                        if(acc < MULTIPLY_LIMIT || acc * 10 < Long.MIN_VALUE + digit)
+                            overflowed = true;
+                        else
+                            acc = acc * 10 - digit;
+                    }
+                }
+                pendingZeros = 0;
+            }
+            else if(c == '.'){
+                if(isInFraction)
+                    return STATUS.INVALID;
+                isInFraction = true;
+            }
+            else if((c == 'e' || c == 'E') && digits > 0){
+                index++;
+                if(index == end)
+                    return STATUS.INVALID;
+                c = charAt(index);
+                boolean isExponentNegative = (c == '-');
+                if(c == '-' || c == '+'){
+                    index++;
+                    if(index == end)
+                        return STATUS.INVALID;
+                }
+                for(; index < end; index++){
+                    c = charAt(index);
+                    if(c < '0' || c > '9')
+                        return STATUS.INVALID;
+                    if(exponent < EXPONENT_LIMIT)
+                        exponent = exponent * 10 + (c - '0');
+                }
+                if(isExponentNegative)
+                    exponent = -exponent;
+                break;
+            }
+            else
+                return STATUS.INVALID;
+        }
+        if(digits == 0)
+            return STATUS.INVALID;
+        this.significand = acc;
+        this.isOverflowed = overflowed;
+        this.scale = exponent - fractionDigits + pendingZeros;
+        return STATUS.OK;
+    }
+    private STATUS parseAs(int kind, STATUS scanned){
+        switch(kind){
+            case TypeRules.INT : return parseIntegral(scanned, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case TypeRules.LONG : return parseIntegral(scanned, Long.MIN_VALUE, Long.MAX_VALUE);
+            case TypeRules.SHORT : return parseIntegral(scanned, Short.MIN_VALUE, Short.MAX_VALUE);
+            case TypeRules.BYTE : return parseIntegral(scanned, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            case TypeRules.FLOAT : return parseFloat(scanned);
+            case TypeRules.DOUBLE : return parseDouble(scanned);
+        }
+        return STATUS.INVALID;
+    }
+    private STATUS parseIntegral(STATUS scanned, long min, long max){
+        if(scanned != STATUS.OK)
+            return scanned;
+        long value = significand;
+        if(value != 0 || isOverflowed){
+            if(scale < 0)// Anlamlı rakamların sonunda sıfır olmadığından kesir kısmı var
+                return STATUS.FRACTION;
+            if(isOverflowed)
+                return STATUS.OVERFLOW;
+            for(int sayac = 0; sayac < scale; sayac++){
+                if(value < MULTIPLY_LIMIT)
+                    return STATUS.OVERFLOW;
+                value *= 10;
+            }
+            if(!isNegative){
+                if(value == Long.MIN_VALUE)
+                    return STATUS.OVERFLOW;
+                value = -value;
+            }
+        }
+        if(value < min || value > max)
+            return STATUS.OVERFLOW;
+        longValue = value;
+        return STATUS.OK;
+    }
+    private STATUS parseDouble(STATUS scanned){
+        if(scanned != STATUS.OK)
+            return scanned;
+        if(significand == 0 && !isOverflowed)
+            doubleValue = (isNegative ? -0.0 : 0.0);
+        else if(!isOverflowed && significand >= -DOUBLE_EXACT_LIMIT && scale >= -22 && scale <= 22){
+            double value = (double) -significand;// Her iki işlenen de tam; tek yuvarlama yapılıyor
+            value = (scale >= 0 ? value * DOUBLE_POWERS[scale] : value / DOUBLE_POWERS[-scale]);
+            doubleValue = (isNegative ? -value : value);
+        }
+        else
+            doubleValue = Double.parseDouble(rangeAsString());// Biçim denetlendiğinden hatâ fırlatılmaz
+        return STATUS.OK;
+    }
+    private STATUS parseFloat(STATUS scanned){
+        if(scanned != STATUS.OK)
+            return scanned;
+        if(significand == 0 && !isOverflowed)
+            floatValue = (isNegative ? -0.0f : 0.0f);
+        else if(!isOverflowed && significand >= -FLOAT_EXACT_LIMIT && scale >= -10 && scale <= 10){
+            float value = (float) -significand;
+            value = (scale >= 0 ? value * FLOAT_POWERS[scale] : value / FLOAT_POWERS[-scale]);
+            floatValue = (isNegative ? -value : value);
+        }
+        else
+            floatValue = Float.parseFloat(rangeAsString());
+        return STATUS.OK;
+    }
+    private String rangeAsString(){
+        if(text != null)
+            return text.subSequence(start, end).toString();
+        return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+}
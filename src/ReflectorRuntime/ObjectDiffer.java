@@ -0,0 +1,136 @@
+package ReflectorRuntime;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Aynı sınıftan iki nesnenin alanlarını karşılaştırıp, değişen alanları
+ * bulan, sınıf ve ayarlar için önceden hazırlanmış karşılaştırma planıdır<br>
+ * Alanlar, alan erişimcileri ve alan değeri haritasının şeması sınıf başına
+ * bir kez çıkarılır. Karşılaştırmada:<br>
+ * - {@code int}, {@code long} ve {@code double} alanlar kutulanmadan
+ * karşılaştırılır<br>
+ * - Aynı referansı gösteren alanlar, {@code equals()} çağrılmadan eşit
+ * sayılır<br>
+ * - Diğer alanlar {@code equals()} ile, diziler içerikleriyle
+ * karşılaştırılır<br>
+ * Sonuç, yalnızca değişen alanları içeren bir alan değeri haritasıdır
+ * ({@code FieldValueMap}); bu harita {@code injectData()} ile anahtar
+ * aranmadan zerk edilebilir<br>
+ * Nesne iş parçacıkları arasında güvenle paylaşılabilir<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class ObjectDiffer{
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int OBJECT = 3;
+    private final WeakReference<Reflector> reflector;// Plan sınıfta saklandığından zayıf referans
+    private final Class<?> cls;
+    private final Reflector.CODING_STYLE codingStyle;
+    private final boolean forceAccessibility;
+    private final Field[] fields;
+    private final FieldAccessor[] accessors;// Alan doğrudan okunamıyorsa 'null'; "getter" kullanılır
+    private final int[] kinds;
+    private final FieldValueMap.Schema schema;
+
+    ObjectDiffer(Reflector reflector, Class<?> cls, Reflector.CODING_STYLE codingStyle,
+            boolean forceAccessibility, boolean scanSuperClasses){
+        this.reflector = new WeakReference<Reflector>(reflector);
+        this.cls = cls;
+        this.codingStyle = codingStyle;
+        this.forceAccessibility = forceAccessibility;
+        List<Field> instanceFields = new ArrayList<Field>();
+        for(Field fl : reflector.getClassMetadata(cls).getFieldMap(scanSuperClasses).values()){
+            if(!Modifier.isStatic(fl.getModifiers()))
+                instanceFields.add(fl);
+        }
+        this.fields = instanceFields.toArray(new Field[instanceFields.size()]);
+        this.accessors = new FieldAccessor[fields.length];
+        this.kinds = new int[fields.length];
+        for(int sayac = 0; sayac < fields.length; sayac++){
+            FieldAccessor accessor = reflector.getFieldAccessor(fields[sayac], forceAccessibility);
+            if(accessor != null && accessor.isReadable)
+                accessors[sayac] = accessor;
+            Class<?> type = fields[sayac].getType();
+            if(accessors[sayac] == null)
+                kinds[sayac] = OBJECT;
+            else if(type == int.class)
+                kinds[sayac] = INT;
+            else if(type == long.class)
+                kinds[sayac] = LONG;
+            else if(type == double.class)
+                kinds[sayac] = DOUBLE;
+            else
+                kinds[sayac] = OBJECT;
+        }
+        this.schema = reflector.getClassMetadata(cls).getFieldSchema(fields);
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen iki nesnenin değişen alanlarını bulur
+     * @param oldEntity Nesnenin eski hâli
+     * @param newEntity Nesnenin yeni hâli
+     * @return Değişen alanların isimleri ve yeni değerleri
+     */
+    FieldValueMap diff(Object oldEntity, Object newEntity){
+        FieldValueMap changes = new FieldValueMap(schema);
+        if(oldEntity == newEntity)
+            return changes;
+        for(int sayac = 0; sayac < fields.length; sayac++){
+            try{
+                switch(kinds[sayac]){
+                    case INT :{
+                        int value = accessors[sayac].getInt(newEntity);
+                        if(accessors[sayac].getInt(oldEntity) != value)
+                            changes.putAt(schema.positionOf(sayac), value);
+                        break;
+                    }
+                    case LONG :{
+                        long value = accessors[sayac].getLong(newEntity);
+                        if(accessors[sayac].getLong(oldEntity) != value)
+                            changes.putAt(schema.positionOf(sayac), value);
+                        break;
+                    }
+                    case DOUBLE :{
+                        double value = accessors[sayac].getDouble(newEntity);
+                        if(Double.doubleToLongBits(accessors[sayac].getDouble(oldEntity)) != Double.doubleToLongBits(value))
+                            changes.putAt(schema.positionOf(sayac), value);
+                        break;
+                    }
+                    default :{
+                        Object value = read(newEntity, sayac);
+                        Object previous = read(oldEntity, sayac);
+                        if(previous != value && !Objects.deepEquals(previous, value))
+                            changes.putAt(schema.positionOf(sayac), value);
+                    }
+                }
+            }
+            catch(IllegalAccessException | IllegalArgumentException exc){
+                System.err.println("exc : " + exc.toString());
+            }
+        }
+        return changes;
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Karşılaştırılan sınıf
+     */
+    Class<?> getTargetClass(){
+        return cls;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private Object read(Object entity, int index) throws IllegalAccessException{
+        FieldAccessor accessor = accessors[index];
+        if(accessor != null && accessor.canGet(entity))
+            return accessor.get(entity);
+        return reflector.get().getValueOfField(entity, fields[index], codingStyle, forceAccessibility);
+    }
+}
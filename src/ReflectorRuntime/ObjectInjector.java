@@ -0,0 +1,858 @@
+package ReflectorRuntime;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Bir sınıfa, belirli bir kodlama biçimi ve ayarlarla veri zerk etmek için
+ * önceden hazırlanmış zerk planıdır<br>
+ * {@code Reflector.getObjectInjector()} ile elde edilir ve
+ * {@code Reflector.produceInjectedObject()} ile aynı sonucu üretir<br>
+ * Her anahtar için alan, alanın tipi ve 'setter' metodu bir kez çözümlenir;
+ * ayrıca verilen değerin sınıfına göre hangi yolun (alana doğrudan yazma,
+ * erişimi zorlanmış yazma, 'setter' veyâ veri dönüştürme) kullanıldığı
+ * kaydedilir. Aynı biçimdeki sonraki haritalarda başarısız olacağı bilinen
+ * adımlar atlanır; böylece keşif maliyetini yalnızca ilk satır öder<br>
+ * {@code GENERATED} arka ucunda, hedef sınıf için erişimci sınıfı üretildikten
+ * sonra alana doğrudan yazılacağı bilinen değerler toplanır ve üretilen
+ * sınıfın {@code setAll} yöntemiyle tek çağrıda yazılır<br>
+ * Hedef sınıf bir kayıtsa ('record') veyâ parametresiz yapıcı yöntemi yoksa
+ * yeni nesneler, eşleşen özellikler yapıcı yönteme verilerek tek çağrıda
+ * üretilir ({@code ConstructorBinding}); kalan özellikler sonra zerk edilir<br>
+ * Nesne iş parçacıkları arasında güvenle paylaşılabilir<br>
+ * @author Mehmet Âkif SOLAK
+ * @param <T> Zerk işleminin hedef sınıfı
+ */
+public final class ObjectInjector<T>{
+    private static final int FIELD = 0;// Alana doğrudan yazılabiliyor
+    private static final int FORCED_FIELD = 1;// Alana erişim zorlanarak yazılabiliyor
+    private static final int SETTER = 2;// Alana yazılamıyor, 'setter' denenecek
+    private static final int SETTER_AND_CAST = 3;// Alana yazılamıyor, 'setter' ve dönüştürme denenecek
+    private static final int SKIP = 4;// Alana erişim yok, erişim de zorlanmıyor
+    private static final int BATCH_CHUNK_SIZE = 256;// Toplu zerkte bir iş parçacığına verilen en az satır sayısı
+    private final WeakReference<Reflector> reflector;// Plan sınıfta saklandığından zayıf referans
+    private final Reflector owner;// Kullanıcıya verilen kopyada 'Reflector' nesnesini canlı tutar; saklanan planda 'null'
+    private final ObjectInjector<T> shared;// Saklanan plan; kopyalar, önbelleğe girecek nesneleri onda oluşturur
+    private final Class<T> targetClass;
+    private final Reflector.CODING_STYLE codingStyle;
+    private final boolean tryForceCasting;
+    private final boolean scanSuperClasses;
+    private final boolean forceAccessibility;
+    private final boolean isUnsupported;
+    private final Map<String, Field> fields;
+    private final ConstructorBinding binding;// Nesneler yapıcı yöntem parametreleriyle üretilecekse bağ, aksi hâlde 'null'
+    private final AccessorGenerator generator;// Hedef sınıfın erişimci sınıfı üreticisi veyâ sınıf desteklenmiyorsa 'null'
+    private final ConcurrentHashMap<String, Slot> slots;
+    private volatile ResultSetMapper<T> resultSetMapper;
+    private final ConcurrentHashMap<Class<?>, Mapper<?, T>> mappers;// Kaynak sınıflara göre eşleyiciler
+    private final ConcurrentHashMap<FieldValueMap.Schema, Object[]> schemaColumns;// Alan değeri haritası şemalarına göre çözümlenmiş sütunlar
+
+    /**
+     * Zerk işleminde bir anahtar için izlenen yol<br>
+     * {@code FIELD} : Değer alana (gerekirse erişim zorlanarak) yazıldı<br>
+     * {@code SETTER} : Değer 'setter' metoduyla yazıldı<br>
+     * {@code CONVERTER} : Değer dönüştürülerek yazıldı<br>
+     * {@code NONE} : Değer zerk edilemedi<br>
+     * {@code UNKNOWN} : Anahtar henüz kullanılmadı veyâ bir alana karşılık
+     * gelmiyor
+     */
+    public enum ROUTE{
+        UNKNOWN,
+        FIELD,
+        SETTER,
+        CONVERTER,
+        NONE
+    }
+
+    ObjectInjector(Reflector reflector, Class<T> targetClass, Reflector.CODING_STYLE codingStyle,
+            boolean tryForceCasting, boolean scanSuperClasses, boolean forceAccessibility){
+        this.reflector = new WeakReference<Reflector>(reflector);
+        this.owner = null;
+        this.shared = this;
+        this.targetClass = targetClass;
+        this.codingStyle = codingStyle;
+        this.tryForceCasting = tryForceCasting;
+        this.scanSuperClasses = scanSuperClasses;
+        this.forceAccessibility = forceAccessibility;
+        boolean unsupported;
+        try{// Hedef veri tipinin uygunluğunu kontrol et
+            unsupported = reflector.isNotUserDefinedClass(targetClass);
+        }
+        catch(IllegalArgumentException exc){
+            System.err.println(exc.toString());
+            unsupported = true;
+        }
+        this.isUnsupported = unsupported;
+        this.fields = (unsupported ? null : reflector.getClassMetadata(targetClass).getFieldMap(scanSuperClasses));
+        this.binding = (unsupported ? null : reflector.getClassMetadata(targetClass).getConstructorBinding());
+        this.generator = (unsupported ? null : reflector.getClassMetadata(targetClass).getAccessorGenerator());
+        this.slots = new ConcurrentHashMap<String, Slot>();
+        this.mappers = new ConcurrentHashMap<Class<?>, Mapper<?, T>>();
+        this.schemaColumns = new ConcurrentHashMap<FieldValueMap.Schema, Object[]>();
+    }
+    private ObjectInjector(ObjectInjector<T> shared, Reflector owner){
+        this.reflector = shared.reflector;
+        this.owner = owner;
+        this.shared = shared;
+        this.targetClass = shared.targetClass;
+        this.codingStyle = shared.codingStyle;
+        this.tryForceCasting = shared.tryForceCasting;
+        this.scanSuperClasses = shared.scanSuperClasses;
+        this.forceAccessibility = shared.forceAccessibility;
+        this.isUnsupported = shared.isUnsupported;
+        this.fields = shared.fields;
+        this.binding = shared.binding;
+        this.generator = shared.generator;
+        this.slots = shared.slots;
+        this.mappers = shared.mappers;
+        this.schemaColumns = shared.schemaColumns;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Hedef sınıfın yeni bir örneğini üretir ve verilen veriyi zerk eder<br>
+     * Verilen özellik haritası {@code null} ise {@code null} döndürülür<br>
+     * Verilen özellik haritası boş ise, yeni oluşturulan nesne döndürülür
+     * @param data Sınıfın örneğine zerk edilmesi istenen özellik değerleri
+     * @return Verilen verilerin zerk edildiği sınıf örneği veyâ {@code null}
+     */
+    public T produce(Map<String, ? extends Object> data){
+        return inject(null, data);
+    }
+    /**
+     * Verilen veriyi verilen nesneye zerk eder<br>
+     * Verilen nesne {@code null} ise hedef sınıfın yeni bir örneği üretilir
+     * @param instance Verilerin zerk edileceği nesne veyâ {@code null}
+     * @param data Nesneye zerk edilmesi istenen özellik değerleri
+     * @return Verilen verilerin zerk edildiği nesne veyâ {@code null}
+     */
+    public T inject(T instance, Map<String, ? extends Object> data){
+        if(isUnsupported)
+            return null;
+        T obj = instance;
+        boolean isConstructed = false;// Yapıcı yönteme verilen özellikler tekrar zerk edilmez
+        if(obj == null){// Diğer durumda yeni bir sınıf örneği oluştur
+            if(binding != null){// Parametresiz yapıcı yöntem yok veyâ hedef bir kayıt ('record')
+                if(data == null)
+                    return null;
+                obj = targetClass.cast(binding.newInstance(data, codingStyle, tryForceCasting, forceAccessibility));
+                isConstructed = true;
+            }
+            else
+                obj = reflector.get().produceInstance(targetClass);
+        }
+        if(obj == null || data == null)// Hedef veri tipinin örneği oluşturulamadıysa veyâ verilen özellik haritası = null
+            return null;
+        if(data.isEmpty())// Verilen özellik haritasında bir özellik yoksa..
+            return obj;
+        if(targetClass.isEnum())
+            return reflector.get().getEnumByData(targetClass, data.values().iterator().next());
+        if(data instanceof FieldValueMap && ((FieldValueMap) data).hasOnlySchemaKeys()){// 'getValueOfFields()' sonucu; anahtar aramadan indisle zerk et
+            FieldValueMap fast = (FieldValueMap) data;
+            Object[] columns = getSchemaColumns(fast.getSchema());
+            DirectWrites direct = newDirectWrites(obj, columns.length);
+            for(int sayac = 0; sayac < columns.length; sayac++){
+                if(columns[sayac] != null && fast.isPresent(sayac)
+                    && !(isConstructed && binding.isBound(fast.getSchema().keyAt(sayac))))
+                    injectValue(obj, (Slot) columns[sayac], fast.valueAt(sayac), direct);
+            }
+            if(direct != null)
+                direct.flush(obj);
+            return obj;
+        }
+        DirectWrites direct = newDirectWrites(obj, data.size());
+        for(Map.Entry<String, ? extends Object> entry : data.entrySet()){
+            if(isConstructed && binding.isBound(entry.getKey()))
+                continue;
+            Slot slot = getSlot(entry.getKey());
+            if(slot != null)
+                injectValue(obj, slot, entry.getValue(), direct);
+        }
+        if(direct != null)
+            direct.flush(obj);
+        return obj;
+    }
+    /**
+     * Verilen her satırdan hedef sınıfın yeni bir örneğini üretir<br>
+     * Alan, 'setter' ve izlenecek yol bilgileri tüm satırlar için ortaktır;
+     * yalnızca ilk satırlar keşif maliyeti öder<br>
+     * {@code executor} verilirse satırlar parçalara ayrılıp bu yürütücüde
+     * çalıştırılır ve yöntem tüm parçalar bitene kadar bekler; yürütücü bir
+     * parçayı kabûl etmezse o parça çağıran iş parçacığında çalıştırılır<br>
+     * Bir satırda hatâ olması diğer satırları etkilemez; {@code null} satırlar,
+     * nesnesi üretilemeyen satırlar ve hatâ fırlatan satırlar sonuçta
+     * başarısız olarak işâretlenir
+     * @param rows Satırlar (özellik haritaları)
+     * @param executor Satırların dağıtılacağı yürütücü veyâ sıralı çalışma
+     * için {@code null}
+     * @return Toplu zerk sonucu veyâ {@code rows} {@code null} ise {@code null}
+     */
+    public BatchResult<T> produceAll(List<? extends Map<String, ? extends Object>> rows, Executor executor){
+        if(rows == null)
+            return null;
+        final List<Map<String, ? extends Object>> source = new ArrayList<Map<String, ? extends Object>>(rows);// Yürütücüdeki iş parçacıkları listeye eş zamanlı erişmesin
+        final Object[] objects = new Object[source.size()];
+        final boolean[] isFailed = new boolean[source.size()];
+        final Throwable[] causes = new Throwable[source.size()];
+        int chunkSize = (executor == null ? source.size() : Math.max(BATCH_CHUNK_SIZE,
+            source.size() / (Runtime.getRuntime().availableProcessors() * 4) + 1));
+        int chunkCount = (source.isEmpty() ? 0 : (source.size() + chunkSize - 1) / chunkSize);
+        if(chunkCount <= 1){
+            produceRange(source, objects, isFailed, causes, 0, source.size());
+            return new BatchResult<T>(targetClass, objects, isFailed, causes);
+        }
+        final CountDownLatch remaining = new CountDownLatch(chunkCount);
+        for(int start = 0; start < source.size(); start += chunkSize){
+            final int from = start;
+            final int to = Math.min(source.size(), start + chunkSize);
+            Runnable chunk = new Runnable(){
+                @Override
+                public void run(){
+                    try{
+                        produceRange(source, objects, isFailed, causes, from, to);
+                    }
+                    finally{
+                        remaining.countDown();
+                    }
+                }
+            };
+            try{
+                executor.execute(chunk);
+            }
+            catch(RejectedExecutionException exc){
+                chunk.run();
+            }
+        }
+        boolean isInterrupted = false;
+        while(true){// Sonuç dizileri ancak tüm parçalar bitince tutarlı
+            try{
+                remaining.await();
+                break;
+            }
+            catch(InterruptedException exc){
+                isInterrupted = true;
+            }
+        }
+        if(isInterrupted)
+            Thread.currentThread().interrupt();
+        return new BatchResult<T>(targetClass, objects, isFailed, causes);
+    }
+    /**
+     * Verilen haritalardan hedef sınıfın örneklerini tembel olarak üreten bir
+     * {@code Spliterator} döndürür<br>
+     * Her nesne, kaynaktan haritası alındığı anda üretilir; tam olarak
+     * bölünemeyen kaynaklar varsayılan grup boyutuyla
+     * ({@code InjectingSpliterator.DEFAULT_BATCH_SIZE}) bölünür<br>
+     * Nesnesi üretilemeyen satırlar için {@code null} sağlanır
+     * @param rows Satırları (özellik haritalarını) sağlayan kaynak
+     * @return Nesneleri sağlayan {@code Spliterator} veyâ {@code rows}
+     * {@code null} ise {@code null}
+     */
+    public Spliterator<T> spliterator(Spliterator<? extends Map<String, ? extends Object>> rows){
+        return spliterator(rows, InjectingSpliterator.DEFAULT_BATCH_SIZE);
+    }
+    /**
+     * Verilen haritalardan hedef sınıfın örneklerini tembel olarak üreten bir
+     * {@code Spliterator} döndürür<br>
+     * Kaynak tam olarak bölünebiliyorsa ({@code SUBSIZED}) bölme işlemi
+     * kaynağa bırakılır; aksi hâlde her bölmede kaynaktan en fazla
+     * {@code batchSize} satır alınır. Böylece paralel akışlarda bir parçanın
+     * tuttuğu satır sayısı grup boyutunu aşmaz<br>
+     * Nesnesi üretilemeyen satırlar için {@code null} sağlanır
+     * @param rows Satırları (özellik haritalarını) sağlayan kaynak
+     * @param batchSize Bir bölmede alınacak en fazla satır sayısı; 1'den
+     * küçükse 1 kabûl edilir
+     * @return Nesneleri sağlayan {@code Spliterator} veyâ {@code rows}
+     * {@code null} ise {@code null}
+     */
+    public Spliterator<T> spliterator(Spliterator<? extends Map<String, ? extends Object>> rows, int batchSize){
+        if(rows == null)
+            return null;
+        return new InjectingSpliterator<T>(this, rows, batchSize);
+    }
+    /**
+     * Verilen akıştaki haritalardan hedef sınıfın örneklerini tembel olarak
+     * üreten bir akış döndürür<br>
+     * Döndürülen akış, verilen akış paralelse paraleldir ve kapatıldığında
+     * verilen akışı da kapatır; bellekte yalnızca işlenmekte olan satırlar
+     * tutulur. Paralel akışta tam olarak bölünemeyen kaynaklar varsayılan
+     * grup boyutuyla bölünür<br>
+     * Nesnesi üretilemeyen satırlar için {@code null} sağlanır
+     * @param rows Satırları (özellik haritalarını) sağlayan akış
+     * @return Nesne akışı veyâ {@code rows} {@code null} ise {@code null}
+     */
+    public Stream<T> stream(Stream<? extends Map<String, ? extends Object>> rows){
+        return stream(rows, InjectingSpliterator.DEFAULT_BATCH_SIZE);
+    }
+    /**
+     * Verilen akıştaki haritalardan hedef sınıfın örneklerini tembel olarak
+     * üreten bir akış döndürür<br>
+     * Döndürülen akış, verilen akış paralelse paraleldir ve kapatıldığında
+     * verilen akışı da kapatır. Paralel akışta tam olarak bölünemeyen
+     * kaynaklardan iş parçacıklarına en fazla {@code batchSize} satırlık
+     * gruplar verilir<br>
+     * Nesnesi üretilemeyen satırlar için {@code null} sağlanır
+     * @param rows Satırları (özellik haritalarını) sağlayan akış
+     * @param batchSize Bir iş parçacığına bir seferde verilecek en fazla satır
+     * sayısı; 1'den küçükse 1 kabûl edilir
+     * @return Nesne akışı veyâ {@code rows} {@code null} ise {@code null}
+     */
+    public Stream<T> stream(final Stream<? extends Map<String, ? extends Object>> rows, int batchSize){
+        if(rows == null)
+            return null;
+        return StreamSupport.stream(spliterator(rows.spliterator(), batchSize), rows.isParallel()).onClose(new Runnable(){
+            @Override
+            public void run(){
+                rows.close();
+            }
+        });
+    }
+    /**
+     * Verilen {@code Iterator}'ın sağladığı haritalardan hedef sınıfın
+     * örneklerini tembel olarak üreten sıralı bir akış döndürür<br>
+     * Akış {@code parallel()} ile paralel hâle getirilirse satırlar varsayılan
+     * boyuttaki ({@code InjectingSpliterator.DEFAULT_BATCH_SIZE}) gruplar
+     * hâlinde iş parçacıklarına dağıtılır<br>
+     * Nesnesi üretilemeyen satırlar için {@code null} sağlanır
+     * @param rows Satırları (özellik haritalarını) sağlayan {@code Iterator}
+     * @return Nesne akışı veyâ {@code rows} {@code null} ise {@code null}
+     */
+    public Stream<T> stream(Iterator<? extends Map<String, ? extends Object>> rows){
+        return stream(rows, InjectingSpliterator.DEFAULT_BATCH_SIZE);
+    }
+    /**
+     * Verilen {@code Iterator}'ın sağladığı haritalardan hedef sınıfın
+     * örneklerini tembel olarak üreten sıralı bir akış döndürür<br>
+     * Akış {@code parallel()} ile paralel hâle getirilirse satırlar en fazla
+     * {@code batchSize} satırlık gruplar hâlinde iş parçacıklarına dağıtılır;
+     * bellekte yalnızca işlenmeyi bekleyen gruplar tutulur<br>
+     * Nesnesi üretilemeyen satırlar için {@code null} sağlanır
+     * @param rows Satırları (özellik haritalarını) sağlayan {@code Iterator}
+     * @param batchSize Bir iş parçacığına bir seferde verilecek en fazla satır
+     * sayısı; 1'den küçükse 1 kabûl edilir
+     * @return Nesne akışı veyâ {@code rows} {@code null} ise {@code null}
+     */
+    public Stream<T> stream(Iterator<? extends Map<String, ? extends Object>> rows, int batchSize){
+        if(rows == null)
+            return null;
+        return StreamSupport.stream(spliterator(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), batchSize), false);
+    }
+    /**
+     * Verilen sütun sırası için önceden derlenmiş bir satır zerk edicisi
+     * döndürür<br>
+     * Sütun isimleri alan isimleridir; {@code null} veyâ alana karşılık
+     * gelmeyen sütunlar yok sayılır
+     * @param columns Satırlardaki sütun (alan) isimleri
+     * @return Satır zerk edicisi veyâ {@code columns} {@code null} ise
+     * {@code null}
+     */
+    public RowInjector<T> getRowInjector(String... columns){
+        if(columns == null)
+            return null;
+        return new RowInjector<T>(this, columns);
+    }
+    /**
+     * Verilen anahtar için son zerk işleminde izlenen yolu döndürür
+     * @param key Özellik (alan) ismi
+     * @return İzlenen yol
+     */
+    public ROUTE getRoute(String key){
+        Slot slot = (key == null ? null : slots.get(key));
+        return (slot == null ? ROUTE.UNKNOWN : slot.route);
+    }
+    /**
+     * @return Zerk işleminin hedef sınıfı
+     */
+    public Class<T> getTargetClass(){
+        return targetClass;
+    }
+    /**
+     * @return 'setter' metotlarının aranmasında kullanılan kodlama biçimi
+     */
+    public Reflector.CODING_STYLE getCodingStyle(){
+        return codingStyle;
+    }
+    /**
+     * Bu planla aynı bilgileri paylaşan ve verilen {@code Reflector} nesnesini
+     * güçlü referansla tutan bir kopya döndürür<br>
+     * Kullanıcıya verilen planlar bu kopyalardır; böylece plan kullanıldıkça
+     * {@code Reflector} nesnesi toplanmaz
+     * @param owner Planı veren {@code Reflector}
+     * @return Kopya
+     */
+    ObjectInjector<T> withOwner(Reflector owner){
+        return new ObjectInjector<T>(shared, owner);
+    }
+    /**
+     * Bu planı kullanan {@code ResultSet} eşleyicisini döndürür; eşleyici ilk
+     * istendiğinde oluşturulur
+     * @return {@code ResultSet} eşleyicisi
+     */
+    ResultSetMapper<T> getResultSetMapper(){
+        if(shared != this)
+            return shared.getResultSetMapper();
+        ResultSetMapper<T> mapper = resultSetMapper;
+        if(mapper == null){
+            mapper = new ResultSetMapper<T>(reflector.get(), this);
+            resultSetMapper = mapper;
+        }
+        return mapper;
+    }
+    /**
+     * Verilen kaynak sınıftan bu planın hedef sınıfına, alanları isimleriyle
+     * eşleştiren eşleyiciyi döndürür; eşleyici ilk istendiğinde derlenir<br>
+     * Kaynak sınıf hedef sınıftan görülemiyorsa (misal, başka bir uygulamanın
+     * sınıfıysa) eşleyici saklanmaz; saklanırsa kaynak sınıfın yükleyicisi
+     * bellekte kalır
+     * @param <S> Kaynak sınıf
+     * @param sourceClass Kaynak sınıf
+     * @return Eşleyici
+     */
+    @SuppressWarnings("unchecked")// Eşleyiciler kaynak sınıflarıyla anahtarlanır; anahtarın eşleyicisi 'Mapper<S, T>' tipindedir
+    <S> Mapper<S, T> getMapper(Class<S> sourceClass){
+        if(shared != this)
+            return shared.getMapper(sourceClass);
+        if(!ClassCache.isVisibleFrom(sourceClass, targetClass))
+            return new Mapper<S, T>(reflector.get(), this, sourceClass, null);
+        Mapper<S, T> mapper = (Mapper<S, T>) mappers.get(sourceClass);
+        if(mapper == null){
+            Mapper<S, T> created = new Mapper<S, T>(reflector.get(), this, sourceClass, null);
+            mapper = (Mapper<S, T>) mappers.putIfAbsent(sourceClass, created);
+            if(mapper == null)
+                mapper = created;
+        }
+        return mapper;
+    }
+    /**
+     * @return Hedef sınıfın alan isimlerine göre alanları veyâ hedef sınıf
+     * desteklenmiyorsa {@code null}
+     */
+    Map<String, Field> getFields(){
+        return fields;
+    }
+    /**
+     * @return Alanlara erişim zorlanıyorsa {@code true}
+     */
+    boolean isForceAccessibility(){
+        return forceAccessibility;
+    }
+    /**
+     * Verilen sütun isimlerini alan bilgilerine çözümler<br>
+     * Sonuç dizisi {@code injectRow()} yöntemine verilmek içindir; alana
+     * karşılık gelmeyen sütunların yerinde {@code null} bulunur
+     * @param columns Sütun (alan) isimleri
+     * @return Sütunlara karşılık gelen alan bilgileri
+     */
+    Object[] resolveColumns(String[] columns){
+        Object[] resolved = new Object[columns.length];
+        if(isUnsupported)
+            return resolved;
+        for(int sayac = 0; sayac < columns.length; sayac++){
+            resolved[sayac] = (columns[sayac] == null ? null : getSlot(columns[sayac]));
+        }
+        return resolved;
+    }
+    /**
+     * {@code resolveColumns()} ile çözümlenmiş sütunların, nesneler yapıcı
+     * yöntemle üretiliyorsa karşılık geldikleri parametre indislerini bulur
+     * @param columns Çözümlenmiş sütunlar
+     * @return Sütunlara karşılık gelen parametre indisleri (parametreye
+     * karşılık gelmeyen sütunlar için {@code -1}) veyâ nesneler yapıcı
+     * yöntemle üretilmiyorsa {@code null}
+     */
+    int[] resolveParameters(Object[] columns){
+        if(binding == null)
+            return null;
+        int[] parameters = new int[columns.length];
+        for(int sayac = 0; sayac < columns.length; sayac++){
+            parameters[sayac] = (columns[sayac] == null ? -1 : binding.indexOf(((Slot) columns[sayac]).field.getName()));
+        }
+        return parameters;
+    }
+    /**
+     * Verilen satırı, {@code resolveColumns()} ile çözümlenmiş sütunlara göre
+     * {@code inject()} ile aynı kurallarla zerk eder<br>
+     * Satır sütunlardan kısaysa eksik sütunlar atlanır, uzunsa fazla değerler
+     * yok sayılır
+     * @param instance Verilerin zerk edileceği nesne veyâ {@code null}
+     * @param columns Çözümlenmiş sütunlar
+     * @param parameters {@code resolveParameters()} ile bulunan parametre
+     * indisleri
+     * @param row Sütun sırasıyla değerler
+     * @return Verilen verilerin zerk edildiği nesne veyâ {@code null}
+     */
+    T injectRow(T instance, Object[] columns, int[] parameters, Object[] row){
+        if(isUnsupported)
+            return null;
+        if(instance == null && binding != null && row != null){// Nesne yapıcı yöntemle üretilecek; parametreleri indisle doldur
+            int length = Math.min(columns.length, row.length);
+            Object[] args = new Object[binding.getParameterCount()];
+            for(int sayac = 0; sayac < length; sayac++){
+                if(parameters[sayac] >= 0)
+                    args[parameters[sayac]] = row[sayac];
+            }
+            T obj = targetClass.cast(binding.newInstance(args, codingStyle, tryForceCasting, forceAccessibility));
+            if(obj == null)
+                return null;
+            DirectWrites direct = newDirectWrites(obj, length);
+            for(int sayac = 0; sayac < length; sayac++){// Yapıcı yönteme verilmeyen sütunları zerk et
+                if(columns[sayac] != null && parameters[sayac] < 0)
+                    injectValue(obj, (Slot) columns[sayac], row[sayac], direct);
+            }
+            if(direct != null)
+                direct.flush(obj);
+            return obj;
+        }
+        T obj = instance;
+        if(obj == null)// Diğer durumda yeni bir sınıf örneği oluştur
+            obj = reflector.get().produceInstance(targetClass);
+        if(obj == null || row == null)
+            return null;
+        int length = Math.min(columns.length, row.length);
+        if(length == 0)
+            return obj;
+        if(targetClass.isEnum())
+            return reflector.get().getEnumByData(targetClass, row[0]);
+        DirectWrites direct = newDirectWrites(obj, length);
+        for(int sayac = 0; sayac < length; sayac++){
+            Slot slot = (Slot) columns[sayac];
+            if(slot != null)
+                injectValue(obj, slot, row[sayac], direct);
+        }
+        if(direct != null)
+            direct.flush(obj);
+        return obj;
+    }
+    /**
+     * Verilen değeri, {@code inject()} ile aynı yolları izleyerek verilen
+     * isimdeki alana zerk eder
+     * @param obj Hedef nesne
+     * @param key Alan ismi
+     * @param value Zerk edilecek değer
+     */
+    void injectField(T obj, String key, Object value){
+        if(isUnsupported)
+            return;
+        Slot slot = getSlot(key);
+        if(slot != null)
+            injectValue(obj, slot, value);
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private void produceRange(List<Map<String, ? extends Object>> rows, Object[] objects, boolean[] isFailed, Throwable[] causes, int from, int to){
+        for(int sayac = from; sayac < to; sayac++){
+            Map<String, ? extends Object> row = rows.get(sayac);
+            try{
+                objects[sayac] = (row == null ? null : produce(row));
+            }
+            catch(RuntimeException | LinkageError exc){
+                causes[sayac] = exc;
+            }
+            isFailed[sayac] = (objects[sayac] == null);
+        }
+    }
+    private Object[] getSchemaColumns(FieldValueMap.Schema schema){
+        Object[] columns = schemaColumns.get(schema);
+        if(columns == null){
+            String[] keys = new String[schema.size()];
+            for(int sayac = 0; sayac < keys.length; sayac++){
+                keys[sayac] = schema.keyAt(sayac);
+            }
+            Object[] created = resolveColumns(keys);
+            if(schemaColumns.size() >= FieldValueMap.MAX_CACHED_SCHEMAS)// Saklanmayan şemalar için sütunlar da saklanmaz
+                return created;
+            columns = schemaColumns.putIfAbsent(schema, created);
+            if(columns == null)
+                columns = created;
+        }
+        return columns;
+    }
+    private Slot getSlot(String key){
+        Slot slot = slots.get(key);
+        if(slot == null){
+            if(shared != this)// Saklanacak bilgi kopyayı ve dolayısıyla 'Reflector' nesnesini tutmasın
+                return shared.getSlot(key);
+            Field fl = fields.get(key);
+            if(fl == null)// Alana karşılık gelmeyen anahtarlar saklanmaz
+                return null;
+            int declaredIndex = (fl.getDeclaringClass() == targetClass ? reflector.get().getClassMetadata(targetClass).indexOfField(fl.getName()) : -1);
+            Slot created = new Slot(this, fl, reflector.get().isCollectionOrMap(fl.getType()), declaredIndex);
+            slot = slots.putIfAbsent(key, created);
+            if(slot == null)
+                slot = created;
+        }
+        return slot;
+    }
+    /**
+     * {@code GENERATED} arka ucunda hedef sınıf için erişimci üretildiyse
+     * doğrudan yazılacak değerlerin toplanacağı nesneyi döndürür
+     * @return Toplayıcı veyâ üretilen erişimci kullanılamıyorsa {@code null}
+     */
+    private DirectWrites newDirectWrites(T obj, int capacity){
+        if(generator == null || reflector.get().getAccessorBackend() != Reflector.ACCESSOR_BACKEND.GENERATED || !targetClass.isInstance(obj))
+            return null;
+        GeneratedAccessor generated = generator.current();
+        return (generated == null ? null : new DirectWrites(generated, capacity));
+    }
+    private void injectValue(T obj, Slot slot, Object value, DirectWrites direct){
+        if(direct != null){
+            if(slot.canSetDirectly(value)){// Aynı sınıftaki değer daha önce alana yazıldı; yeniden denetlemeden topla
+                direct.add(slot.declaredIndex, TypeRules.adapt(slot.type, value));
+                slot.setRoute(ROUTE.FIELD);
+                return;
+            }
+            direct.flush(obj);// Diğer yollar toplanan değerlerden sonra çalışmalı; zerk sırası korunur
+        }
+        injectValue(obj, slot, value);
+    }
+    private void injectValue(T obj, Slot slot, Object value){
+        Field fl = slot.field;
+        Class<?> clsField = slot.type;
+        if(value == null){// Alan, anahtar olarak verildiği hâlde veri 'null' ise;
+            if(clsField.isPrimitive()){// Temel veri tipine 'null' değer zerk edilemez
+                slot.setRoute(ROUTE.NONE);
+                return;
+            }
+        }
+        // Koleksiyonlarda farklı tiplerdekiler de zerk edilebildiğinden veriyi dönüştürmek gerekiyor:
+        if(slot.isCollectionOrMap)
+            value = reflector.get().getCastedCollectionOrMap(fl, value);
+        if(slot.isUUID && value != null && value.getClass().equals(String.class)){
+            try{
+                value = UUID.fromString((String) value);
+            }
+            catch(IllegalArgumentException excForUUID){}
+        }
+        // Alana yazma adımı; değerin sınıfı için sonuç biliniyorsa ona göre davran:
+        Plan plan = slot.plan;
+        int step = -1;
+        if(plan != null && value != null && plan.valueClass == value.getClass()){
+            if(plan.step == FIELD || plan.step == FORCED_FIELD){
+                if(plan.step == FIELD ? setField(obj, fl, value) : setForcedField(obj, fl, value)){
+                    slot.setRoute(ROUTE.FIELD);
+                    return;
+                }
+            }
+            else
+                step = plan.step;
+        }
+        if(step == -1){// Sonuç bilinmiyor veyâ beklenmedik biçimde değişti
+            step = findFieldStep(obj, fl, value);
+            if(value != null && step != -2)
+                slot.plan = new Plan(value.getClass(), (step == -1 ? FIELD : step));
+            if(step == -1 || step == FIELD || step == FORCED_FIELD){
+                slot.setRoute(ROUTE.FIELD);
+                return;
+            }
+            if(step == -2)// Hatâ, değerin sınıfına bağlı değil; yalnızca 'setter' denenecek
+                step = SETTER;
+        }
+        boolean execSetter = (step == SETTER || step == SETTER_AND_CAST);// "'setter' metodunu çalıştır" bayrağı
+        boolean forceCast = (step == SETTER_AND_CAST);// 'Veriyi çevirmeye zorla' bayrağı
+        boolean isSuccessful = false;// 'İşlem başarılı oldu' bayrağı
+        Method setterMethod = null;
+        if(execSetter){
+            setterMethod = slot.getSetter();
+            if(setterMethod != null){// 'setter' metodu varsa kullan:
+                isSuccessful = invokeSetter(obj, setterMethod, value);
+                if(isSuccessful){
+                    slot.setRoute(ROUTE.SETTER);
+                    return;
+                }
+                if(tryForceCasting && value != null)// (veri 'null' ise zâten metot çalıştırma başarılı olurdu..)
+                    forceCast = true;
+            }
+        }
+        if(forceCast){// Veri tipini dönüştürmeye çalış:
+            Object casted = reflector.get().getCastedObject(clsField, value);
+            if(value != null && casted != null){// Veri hedef alanın tipine çevrilemedi (fakat metodun girdi tipine çevrilebilir)
+                if(setField(obj, fl, casted)){
+                    slot.setRoute(ROUTE.CONVERTER);
+                    return;
+                }
+            }
+            if(execSetter && setterMethod != null){// Alanın bir 'setter' metodu varsa;
+                isSuccessful = invokeSetter(obj, setterMethod, casted);
+                if(!isSuccessful){// Metot çalıştırma başarısız olduysa;
+                    // Veriyi metodun girdi tipine çevirmeye çalış:
+                    Class<?> inputType = setterMethod.getParameterTypes()[0];
+                    if(inputType != null){
+                        casted = reflector.get().getCastedObject(inputType, value);
+                        if(casted != null){
+                            isSuccessful = invokeSetter(obj, setterMethod, casted);
+                            if(!isSuccessful){
+                                System.err.println("Tüm çabalara rağmen veri hedef alana zerk edilemedi : " + fl.getName());
+                            }
+                        }
+                    }
+                }
+                if(isSuccessful){
+                    slot.setRoute(ROUTE.CONVERTER);
+                    return;
+                }
+            }
+        }
+        slot.setRoute(ROUTE.NONE);
+    }
+    /**
+     * Değeri alana yazmayı dener ve sonucu adım olarak döndürür<br>
+     * Yazma başarılıysa {@code -1}, hatâ değerin sınıfına bağlı değilse
+     * {@code -2}, diğer durumlarda atlanacak adımı belirten sâbit döndürülür<br>
+     * Erişim izni ve değerin tipi yazmadan önce denetlenir; hatâ yalnızca
+     * sınıf ilklendirmesi gibi önceden bilinemeyen durumlarda yakalanır
+     */
+    private int findFieldStep(T obj, Field fl, Object value){
+        try{
+            FieldAccessor accessor = reflector.get().getFieldAccessor(fl, false);
+            if(accessor.isWritable){
+                if(!accessor.canSet(obj, value))
+                    return (tryForceCasting ? SETTER_AND_CAST : SETTER);
+                accessor.set(obj, value);
+                return -1;
+            }
+            if(!forceAccessibility)
+                return SKIP;
+            FieldAccessor accessible = reflector.get().getFieldAccessor(fl, true);
+            if(accessible == null || !accessible.canSet(obj, value))
+                return SETTER;
+            accessible.set(obj, value);
+            return FORCED_FIELD;
+        }
+        catch(IllegalAccessException | IllegalArgumentException exc){// Ön denetime rağmen yazılamadıysa
+            return SETTER;
+        }
+        catch(SecurityException | ExceptionInInitializerError exc){
+            return -2;
+        }
+    }
+    private boolean setField(T obj, Field fl, Object value){
+        FieldAccessor accessor = reflector.get().getFieldAccessor(fl, false);
+        if(!accessor.isWritable)
+            return (forceAccessibility && setForcedField(obj, fl, value));
+        if(!accessor.canSet(obj, value))
+            return false;
+        try{
+            accessor.set(obj, value);
+            return true;
+        }
+        catch(IllegalAccessException | IllegalArgumentException | SecurityException | ExceptionInInitializerError exc){
+            return false;
+        }
+    }
+    private boolean setForcedField(T obj, Field fl, Object value){
+        FieldAccessor accessible = reflector.get().getFieldAccessor(fl, true);
+        if(accessible == null || !accessible.canSet(obj, value))
+            return false;
+        try{
+            accessible.set(obj, value);
+            return true;
+        }
+        catch(IllegalAccessException | IllegalArgumentException | SecurityException | ExceptionInInitializerError exc){
+            return false;
+        }
+    }
+    private boolean invokeSetter(T obj, Method setterMethod, Object value){
+        return reflector.get().tryInvokeMethod(obj, setterMethod, new Object[]{value}, forceAccessibility, null);
+    }
+
+    /**
+     * Bir değer sınıfı için alana yazma adımının sonucu
+     */
+    private static final class Plan{
+        final Class<?> valueClass;
+        final int step;
+
+        Plan(Class<?> valueClass, int step){
+            this.valueClass = valueClass;
+            this.step = step;
+        }
+    }
+    /**
+     * Üretilen erişimciyle alanlara doğrudan yazılacak değerleri toplar ve
+     * tek {@code setAll} çağrısıyla yazar
+     */
+    private static final class DirectWrites{
+        private final GeneratedAccessor generated;
+        private final int[] indexes;
+        private final Object[] values;
+        private int count;
+
+        DirectWrites(GeneratedAccessor generated, int capacity){
+            this.generated = generated;
+            this.indexes = new int[capacity];
+            this.values = new Object[capacity];
+        }
+        void add(int index, Object value){
+            indexes[count] = index;
+            values[count] = value;
+            count++;
+        }
+        void flush(Object target){
+            if(count == 0)
+                return;
+            generated.setAll(target, indexes, values, count);
+            count = 0;
+        }
+    }
+    /**
+     * Bir anahtar için çözümlenmiş bilgiler
+     */
+    private static final class Slot{
+        final ObjectInjector<?> injector;// Anahtarı çözümleyen plan
+        final Field field;
+        final Class<?> type;
+        final boolean isCollectionOrMap;
+        final boolean isUUID;
+        final int declaredIndex;// Alan hedef sınıfta tanımlandıysa, tanımlanan alanlar içerisindeki indisi; aksi hâlde -1
+        volatile Plan plan;
+        volatile ROUTE route = ROUTE.UNKNOWN;
+        private volatile boolean isSetterResolved = false;
+        private volatile Method setter;
+
+        Slot(ObjectInjector<?> injector, Field field, boolean isCollectionOrMap, int declaredIndex){
+            this.injector = injector;
+            this.field = field;
+            this.type = field.getType();
+            this.isCollectionOrMap = isCollectionOrMap;
+            this.isUUID = type.equals(UUID.class);
+            this.declaredIndex = declaredIndex;
+        }
+        /**
+         * @return Değer, dönüştürülmeden ve denetlenmeden üretilen erişimciyle
+         * alana yazılabiliyorsa {@code true}; üretilen erişimci olmalıdır
+         */
+        boolean canSetDirectly(Object value){
+            if(value == null || declaredIndex == -1 || isCollectionOrMap || isUUID)
+                return false;
+            Plan current = plan;
+            return (current != null && current.valueClass == value.getClass()
+                && (current.step == FIELD || current.step == FORCED_FIELD) && injector.generator.canSet(declaredIndex));
+        }
+        Method getSetter(){
+            if(!isSetterResolved){
+                setter = injector.reflector.get().getSpecialMethod(injector.targetClass, field.getName(), Reflector.METHOD_TYPES.SET,
+                    injector.codingStyle, injector.scanSuperClasses);
+                isSetterResolved = true;
+            }
+            return setter;
+        }
+        void setRoute(ROUTE route){
+            if(this.route != route)
+                this.route = route;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ReflectorRuntime;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Sınıflarda saklanan planların kullanıcıya verilen kopyalarını tutan
+ * önbellektir<br>
+ * Sınıfta saklanan planlar {@code Reflector} nesnesini zayıf referansla tutar
+ * (ayrıntılar için {@code ClassMetadata}); kullanıcıya verilen kopya ise onu
+ * güçlü referansla tutar, böylece kopya kullanıldıkça {@code Reflector}
+ * toplanmaz. Bir planın kopyası kullanımda olduğu sürece aynı kopya
+ * döndürülür<br>
+ * Planlar ve kopyalar zayıf referansla tutulduğundan önbellek, ne sınıfları
+ * ne de kullanılmayan kopyaları bellekte tutar<br>
+ * @author Mehmet Âkif SOLAK
+ * @param <P> Planın tipi
+ */
+abstract class OwnedCopies<P>{
+    private final Map<P, WeakReference<P>> copies = new WeakHashMap<P, WeakReference<P>>();// Plan - kopya
+
+    /**
+     * Verilen planla aynı bilgileri paylaşan ve {@code Reflector} nesnesini
+     * güçlü referansla tutan bir kopya oluşturur<br>
+     * Kopya, planla aynı sınıftan olmalıdır
+     * @param plan Sınıfta saklanan plan
+     * @return Kopya
+     */
+    protected abstract P copy(P plan);
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen planın kopyasını döndürür, kopya yoksa veyâ toplandıysa
+     * oluşturulup saklanır
+     * @param <Q> Planın tipi
+     * @param plan Sınıfta saklanan plan
+     * @return Kopya
+     */
+    @SuppressWarnings("unchecked")// Kopya, 'copy()' gereği planla aynı sınıftandır
+    <Q extends P> Q get(Q plan){
+        synchronized(copies){
+            WeakReference<P> ref = copies.get(plan);
+            P found = (ref == null ? null : ref.get());
+            if(found == null){
+                found = copy(plan);
+                copies.put(plan, new WeakReference<P>(found));
+            }
+            return (Q) found;
+        }
+    }
+}
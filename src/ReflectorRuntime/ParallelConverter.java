@@ -0,0 +1,75 @@
+package ReflectorRuntime;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Çok boyutlu dizi ve iç içe listelerin dönüşümünü en dış boyut boyunca
+ * parçalara ayırıp, {@code ForkJoinPool} üzerinde çalıştıran görevdir<br>
+ * Her satır, sıralı yoldaki gibi {@code produceInjectedArray()} veyâ
+ * {@code produceInjectedList()} ile dönüştürülür ve sonuç dizisinde kendi
+ * indisine yazılır; böylece sonuç sıralı yolla aynıdır<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class ParallelConverter extends RecursiveAction{
+    private static final long serialVersionUID = 1L;
+    static final long DEFAULT_THRESHOLD = 1 << 16;// Bundan az elemanlı veride iş parçacıklarına dağıtma maliyeti kazançtan büyük
+    private final Reflector reflector;
+    private final Object[] rows;// Kaynak satırlar
+    private final Object target;// Sonuç dizisi veyâ liste için satır dizisi
+    private final Class<?> rowClass;// Hedef satır sınıfı; liste üretiliyorsa 'null'
+    private final boolean doCastIfNeeded;
+    private final boolean ignoreMismatchElement;
+    private final int from;
+    private final int to;
+    private final int leafSize;
+
+    ParallelConverter(Reflector reflector, Object[] rows, Object target, Class<?> rowClass,
+            boolean doCastIfNeeded, boolean ignoreMismatchElement, int from, int to, int leafSize){
+        this.reflector = reflector;
+        this.rows = rows;
+        this.target = target;
+        this.rowClass = rowClass;
+        this.doCastIfNeeded = doCastIfNeeded;
+        this.ignoreMismatchElement = ignoreMismatchElement;
+        this.from = from;
+        this.to = to;
+        this.leafSize = leafSize;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen iç içe verinin yaklaşık eleman sayısını hesaplar<br>
+     * En dış boyutun uzunluğu, ilk dolu satırın uzunluğuyla çarpılır
+     * @param rows Kaynak satırlar
+     * @return Yaklaşık eleman sayısı
+     */
+    static long estimateSize(Object[] rows){
+        for(Object row : rows){
+            if(row == null)
+                continue;
+            if(row.getClass().isArray())
+                return (long) rows.length * Math.max(1, Array.getLength(row));
+            if(row instanceof List)
+                return (long) rows.length * Math.max(1, ((List) row).size());
+            break;
+        }
+        return rows.length;
+    }
+    @Override
+    protected void compute(){
+        if(to - from <= leafSize){
+            for(int sayac = from; sayac < to; sayac++){
+                if(rowClass != null)
+                    Array.set(target, sayac, reflector.produceInjectedArray(rowClass, rows[sayac], doCastIfNeeded, ignoreMismatchElement));
+                else
+                    ((Object[]) target)[sayac] = reflector.produceInjectedList(rows[sayac]);
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new ParallelConverter(reflector, rows, target, rowClass, doCastIfNeeded, ignoreMismatchElement, from, middle, leafSize),
+            new ParallelConverter(reflector, rows, target, rowClass, doCastIfNeeded, ignoreMismatchElement, middle, to, leafSize));
+    }
+}
@@ -0,0 +1,25 @@
+package ReflectorRuntime;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Yapıcı yöntemle zerk işleminde, yapıcı yöntem parametresinin hangi
+ * özellik (harita anahtarı) ile eşleşeceğini belirtir<br>
+ * Sınıf {@code -parameters} seçeneğiyle derlenmişse parametre isimleri
+ * kendiliğinden kullanılır; bu durumda yalnızca isim farklıysa gereklidir<br>
+ * Misal : {@code public Point(@ParameterName("x") int px, @ParameterName("y") int py)}
+ * @author Mehmet Âkif SOLAK
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ParameterName{
+    /**
+     * @return Parametreye karşılık gelen özellik ismi
+     */
+    String value();
+}
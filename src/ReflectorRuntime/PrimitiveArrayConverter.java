@@ -0,0 +1,473 @@
+package ReflectorRuntime;
+
+import java.lang.reflect.Array;
+
+/**
+ * Tek boyutlu bir diziyi, elemanları temel veri tipinde olan bir diziye
+ * dönüştüren sınıftır<br>
+ * {@code produceInjectedArray()} yönteminin en iç boyutunda kullanılır; temel
+ * veri tipleri ve sarmalayıcıları arasındaki her çift için elemanları
+ * kutulamadan işleyen ayrı bir döngü vardır<br>
+ * Sonuç, elemanların tek tek {@code Array.set} ile yazılıp, yazılamayanların
+ * {@code getCastedObject()} ile dönüştürülmesiyle elde edilen sonuçla
+ * aynıdır:<br>
+ * - Genişletme dönüşümleri her zaman yapılır<br>
+ * - Daraltma dönüşümleri yalnızca dönüştürme isteniyorsa ve değer hedef tipe
+ * tam olarak sığıyorsa yapılır<br>
+ * - {@code char} ve {@code boolean} içeren sıra dışı çiftler için eski,
+ * eleman bazlı yol kullanılır<br>
+ * Nesne her dönüşüm için oluşturulur, paylaşılmamalıdır<br>
+ * @author Mehmet Âkif SOLAK
+ */
+final class PrimitiveArrayConverter{
+    private static final double LONG_LIMIT = 9.223372036854775808E18;// 2 ^ 63
+    private static final float FLOAT_EXACT_LIMIT = 16777216f;// 2 ^ 24; altındaki tamsayı 'float' değerler ondalık gösterimleriyle aynı
+    private final Reflector reflector;
+    private final Class<?> componentType;
+    private final boolean doCastIfNeeded;
+    private final boolean ignoreMismatchElement;
+    private long narrowed;// Son başarılı daraltma dönüşümünün sonucu
+
+    PrimitiveArrayConverter(Reflector reflector, Class<?> componentType, boolean doCastIfNeeded, boolean ignoreMismatchElement){
+        this.reflector = reflector;
+        this.componentType = componentType;
+        this.doCastIfNeeded = doCastIfNeeded;
+        this.ignoreMismatchElement = ignoreMismatchElement;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen diziyi, elemanları hedef temel veri tipinde olan yeni bir diziye
+     * dönüştürür
+     * @param source Kaynak dizi (temel veri tipinde veyâ nesne dizisi)
+     * @return Yeni dizi veyâ dönüştürülemeyen eleman atlanmıyorsa {@code null}
+     */
+    Object convert(Object source){
+        int len = Array.getLength(source);
+        switch(TypeRules.rankOf(componentType)){
+            case TypeRules.INT : {
+                int[] target = new int[len];
+                return (fillInt(target, source) ? target : null);
+            }
+            case TypeRules.LONG : {
+                long[] target = new long[len];
+                return (fillLong(target, source) ? target : null);
+            }
+            case TypeRules.DOUBLE : {
+                double[] target = new double[len];
+                return (fillDouble(target, source) ? target : null);
+            }
+            case TypeRules.FLOAT : {
+                float[] target = new float[len];
+                return (fillFloat(target, source) ? target : null);
+            }
+            case TypeRules.SHORT : {
+                short[] target = new short[len];
+                return (fillShort(target, source) ? target : null);
+            }
+            case TypeRules.BYTE : {
+                byte[] target = new byte[len];
+                return (fillByte(target, source) ? target : null);
+            }
+        }
+        Object target = Array.newInstance(componentType, len);// 'char' ve 'boolean'
+        if(source.getClass() == target.getClass()){
+            System.arraycopy(source, 0, target, 0, len);
+            return target;
+        }
+        return (fillElementwise(target, source) ? target : null);
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private boolean fillInt(int[] target, Object source){
+        int len = target.length;
+        if(source instanceof int[])
+            System.arraycopy(source, 0, target, 0, len);
+        else if(source instanceof short[]){
+            short[] src = (short[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof byte[]){
+            byte[] src = (byte[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof char[]){
+            char[] src = (char[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof long[]){
+            if(!doCastIfNeeded)
+                return mismatchAll(len);
+            long[] src = (long[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                long value = src[sayac];
+                if(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)
+                    target[sayac] = (int) value;
+                else if(!mismatch(sayac))
+                    return false;
+            }
+        }
+        else if(source instanceof double[]){
+            if(!doCastIfNeeded)
+                return mismatchAll(len);
+            double[] src = (double[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                if(narrow(src[sayac], Integer.MIN_VALUE, Integer.MAX_VALUE))
+                    target[sayac] = (int) narrowed;
+                else if(!mismatch(sayac))
+                    return false;
+            }
+        }
+        else if(source instanceof float[]){
+            if(!doCastIfNeeded)
+                return mismatchAll(len);
+            float[] src = (float[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                if(narrow(decimalOf(src[sayac]), Integer.MIN_VALUE, Integer.MAX_VALUE))
+                    target[sayac] = (int) narrowed;
+                else if(!mismatch(sayac))
+                    return false;
+            }
+        }
+        else if(source instanceof Object[]){
+            Object[] src = (Object[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                Object element = src[sayac];
+                if(element == null)// Temel veri tipine 'null' atanamaz; varsayılan değer kalıyor
+                    continue;
+                if(element instanceof Integer)
+                    target[sayac] = (Integer) element;
+                else if(!setElement(target, sayac, element))
+                    return false;
+            }
+        }
+        else
+            return fillElementwise(target, source);
+        return true;
+    }
+    private boolean fillLong(long[] target, Object source){
+        int len = target.length;
+        if(source instanceof long[])
+            System.arraycopy(source, 0, target, 0, len);
+        else if(source instanceof int[]){
+            int[] src = (int[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof short[]){
+            short[] src = (short[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof byte[]){
+            byte[] src = (byte[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof char[]){
+            char[] src = (char[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof double[]){
+            if(!doCastIfNeeded)
+                return mismatchAll(len);
+            double[] src = (double[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                if(narrow(src[sayac], Long.MIN_VALUE, Long.MAX_VALUE))
+                    target[sayac] = narrowed;
+                else if(!mismatch(sayac))
+                    return false;
+            }
+        }
+        else if(source instanceof float[]){
+            if(!doCastIfNeeded)
+                return mismatchAll(len);
+            float[] src = (float[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                if(narrow(decimalOf(src[sayac]), Long.MIN_VALUE, Long.MAX_VALUE))
+                    target[sayac] = narrowed;
+                else if(!mismatch(sayac))
+                    return false;
+            }
+        }
+        else if(source instanceof Object[]){
+            Object[] src = (Object[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                Object element = src[sayac];
+                if(element == null)
+                    continue;
+                if(element instanceof Long)
+                    target[sayac] = (Long) element;
+                else if(element instanceof Integer)
+                    target[sayac] = (Integer) element;
+                else if(!setElement(target, sayac, element))
+                    return false;
+            }
+        }
+        else
+            return fillElementwise(target, source);
+        return true;
+    }
+    private boolean fillDouble(double[] target, Object source){
+        int len = target.length;
+        if(source instanceof double[])
+            System.arraycopy(source, 0, target, 0, len);
+        else if(source instanceof int[]){
+            int[] src = (int[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof long[]){
+            long[] src = (long[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof float[]){
+            float[] src = (float[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof short[]){
+            short[] src = (short[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof byte[]){
+            byte[] src = (byte[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof char[]){
+            char[] src = (char[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof Object[]){
+            Object[] src = (Object[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                Object element = src[sayac];
+                if(element == null)
+                    continue;
+                if(element instanceof Double)
+                    target[sayac] = (Double) element;
+                else if(element instanceof Integer)
+                    target[sayac] = (Integer) element;
+                else if(element instanceof Long)
+                    target[sayac] = (Long) element;
+                else if(!setElement(target, sayac, element))
+                    return false;
+            }
+        }
+        else
+            return fillElementwise(target, source);
+        return true;
+    }
+    private boolean fillFloat(float[] target, Object source){
+        int len = target.length;
+        if(source instanceof float[])
+            System.arraycopy(source, 0, target, 0, len);
+        else if(source instanceof int[]){
+            int[] src = (int[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof long[]){
+            long[] src = (long[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof short[]){
+            short[] src = (short[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof byte[]){
+            byte[] src = (byte[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof char[]){
+            char[] src = (char[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof double[]){// 'double' -> 'float' dönüşümü her değer için yapılabiliyor
+            if(!doCastIfNeeded)
+                return mismatchAll(len);
+            double[] src = (double[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = (float) src[sayac];
+        }
+        else if(source instanceof Object[]){
+            Object[] src = (Object[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                Object element = src[sayac];
+                if(element == null)
+                    continue;
+                if(element instanceof Float)
+                    target[sayac] = (Float) element;
+                else if(element instanceof Integer)
+                    target[sayac] = (Integer) element;
+                else if(!setElement(target, sayac, element))
+                    return false;
+            }
+        }
+        else
+            return fillElementwise(target, source);
+        return true;
+    }
+    private boolean fillShort(short[] target, Object source){
+        int len = target.length;
+        if(source instanceof short[])
+            System.arraycopy(source, 0, target, 0, len);
+        else if(source instanceof byte[]){
+            byte[] src = (byte[]) source;
+            for(int sayac = 0; sayac < len; sayac++)
+                target[sayac] = src[sayac];
+        }
+        else if(source instanceof int[] || source instanceof long[]
+                || source instanceof double[] || source instanceof float[]){
+            if(!doCastIfNeeded)
+                return mismatchAll(len);
+            for(int sayac = 0; sayac < len; sayac++){
+                if(narrowElement(source, sayac, Short.MIN_VALUE, Short.MAX_VALUE))
+                    target[sayac] = (short) narrowed;
+                else if(!mismatch(sayac))
+                    return false;
+            }
+        }
+        else if(source instanceof Object[]){
+            Object[] src = (Object[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                Object element = src[sayac];
+                if(element == null)
+                    continue;
+                if(element instanceof Short)
+                    target[sayac] = (Short) element;
+                else if(!setElement(target, sayac, element))
+                    return false;
+            }
+        }
+        else
+            return fillElementwise(target, source);
+        return true;
+    }
+    private boolean fillByte(byte[] target, Object source){
+        int len = target.length;
+        if(source instanceof byte[])
+            System.arraycopy(source, 0, target, 0, len);
+        else if(source instanceof short[] || source instanceof int[] || source instanceof long[]
+                || source instanceof double[] || source instanceof float[]){
+            if(!doCastIfNeeded)
+                return mismatchAll(len);
+            for(int sayac = 0; sayac < len; sayac++){
+                if(narrowElement(source, sayac, Byte.MIN_VALUE, Byte.MAX_VALUE))
+                    target[sayac] = (byte) narrowed;
+                else if(!mismatch(sayac))
+                    return false;
+            }
+        }
+        else if(source instanceof Object[]){
+            Object[] src = (Object[]) source;
+            for(int sayac = 0; sayac < len; sayac++){
+                Object element = src[sayac];
+                if(element == null)
+                    continue;
+                if(element instanceof Byte)
+                    target[sayac] = (Byte) element;
+                else if(!setElement(target, sayac, element))
+                    return false;
+            }
+        }
+        else
+            return fillElementwise(target, source);
+        return true;
+    }
+    /**
+     * Tamsayı veyâ kayan noktalı kaynak dizinin elemanını verilen sınırlara
+     * daraltır; sonuç {@code narrowed} alanına yazılır
+     */
+    private boolean narrowElement(Object source, int index, long min, long max){
+        if(source instanceof int[])
+            return narrow((long) ((int[]) source)[index], min, max);
+        if(source instanceof short[])
+            return narrow((long) ((short[]) source)[index], min, max);
+        if(source instanceof long[])
+            return narrow(((long[]) source)[index], min, max);
+        if(source instanceof double[])
+            return narrow(((double[]) source)[index], min, max);
+        return narrow(decimalOf(((float[]) source)[index]), min, max);
+    }
+    private boolean narrow(long value, long min, long max){
+        if(value < min || value > max)
+            return false;
+        narrowed = value;
+        return true;
+    }
+    /**
+     * Kesir kısmı olmayan ve 'long' sınırları içerisindeki değeri verilen
+     * sınırlara daraltır; {@code NumberConverter.fromDouble()} ile aynı
+     * kuralları uygular
+     */
+    private boolean narrow(double value, long min, long max){
+        if(!(value >= -LONG_LIMIT && value < LONG_LIMIT))// NaN da eleniyor
+            return false;
+        long asLong = (long) value;
+        if(asLong != value)// Kesir kısmı var
+            return false;
+        return narrow(asLong, min, max);
+    }
+    /**
+     * 'float' değeri, {@code NumberConverter} gibi ondalık gösterimiyle ele
+     * alır; tamsayı olup, olmadığının önemli olduğu küçük değerler için
+     * gösterime çevrilmez
+     */
+    private static double decimalOf(float value){
+        if(value > -FLOAT_EXACT_LIMIT && value < FLOAT_EXACT_LIMIT)
+            return value;
+        return Double.parseDouble(Float.toString(value));
+    }
+    /**
+     * Elemanı {@code Array.set} kurallarına göre yazar; yazılamıyorsa ve
+     * dönüştürme isteniyorsa {@code getCastedObject()} ile dönüştürür
+     * @return Yazıldıysa veyâ eleman atlanabiliyorsa {@code true}
+     */
+    private boolean setElement(Object target, int index, Object element){
+        if(TypeRules.isAssignable(componentType, element)){
+            Array.set(target, index, element);
+            return true;
+        }
+        if(doCastIfNeeded){
+            Object casted = reflector.getCastedObject(componentType, element);
+            if(casted != null && TypeRules.isAssignable(componentType, casted)){
+                Array.set(target, index, casted);
+                return true;
+            }
+        }
+        return mismatch(index);
+    }
+    private boolean fillElementwise(Object target, Object source){
+        int len = Array.getLength(target);
+        for(int sayac = 0; sayac < len; sayac++){
+            Object element = Array.get(source, sayac);
+            if(element == null)
+                continue;
+            if(!setElement(target, sayac, element))
+                return false;
+        }
+        return true;
+    }
+    private boolean mismatch(int index){
+        if(ignoreMismatchElement)
+            return true;
+        System.err.println("exc : " + index + ". eleman " + componentType.getName() + " tipine dönüştürülemedi");
+        return false;
+    }
+    private boolean mismatchAll(int len){
+        return (len == 0 || mismatch(0));
+    }
+}
@@ -0,0 +1,29 @@
+package ReflectorRuntime;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Derleme zamânında, yansıma kullanmayan bir erişimci sınıfı üretilmesi
+ * istenen sınıfları işâretler<br>
+ * Derleyiciye {@code -processor ReflectorRuntime.ReflectableProcessor}
+ * seçeneği verildiğinde, işâretlenen her sınıf için aynı pakette
+ * {@code <Sınıf>$$ReflectorAccessor} isimli bir {@code GeneratedAccessor}
+ * alt sınıfı üretilir. {@code Reflector}, bu sınıfı bulursa alanlara erişimde
+ * ve örnek üretiminde kendiliğinden kullanır; bulamazsa yansımayla devâm
+ * eder<br>
+ * Üretilmiş sınıf yalnızca bu bildirimi taşıyan sınıflar için aranır; bu
+ * yüzden bildirim çalışma zamânında da okunabilir ({@code RUNTIME})<br>
+ * Üretilen sınıf hedef sınıfın paketinde olduğundan 'private' olmayan alanlar
+ * ve yapıcı yöntemler kapsanır; kapsanan alanlara erişim zorlanmasa da
+ * erişilir, 'private' alanlara yine yansımayla erişilir<br>
+ * İşâretlenen sınıf 'private' olmamalı, iç sınıfsa statik olmalıdır
+ * @author Mehmet Âkif SOLAK
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Reflectable{}
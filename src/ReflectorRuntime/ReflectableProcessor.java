@@ -0,0 +1,187 @@
+package ReflectorRuntime;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * {@code @Reflectable} ile işâretlenen sınıflar için derleme zamânında
+ * {@code GeneratedAccessor} alt sınıfı üreten açıklama işleyicisidir<br>
+ * İsteğe bağlıdır; kitâplığı kullanan projenin derlemesinde
+ * {@code -processor ReflectorRuntime.ReflectableProcessor} seçeneğiyle
+ * etkinleştirilir<br>
+ * Üretilen {@code <Sınıf>$$ReflectorAccessor} sınıfı hedef sınıfla aynı
+ * pakettedir ve şunları içerir:<br>
+ * - 'private' ve statik olmayan alanlar için alan indisine göre seçim yapan,
+ * doğrudan okuyan ve ('final' olmayanlara) yazan {@code get} ve {@code set}
+ * yöntemleri<br>
+ * - Alan isimlerini indis sırasıyla döndüren {@code getFieldNames} ve
+ * yazılabilen ('final' olmayan) alanları bildiren {@code isWritable}<br>
+ * - Sınıf soyut değilse ve 'private' olmayan parametresiz yapıcı yöntemi
+ * varsa, yeni örnek üreten {@code newInstance}<br>
+ * Böylece bu sınıflar için alanlara erişimde ve örnek üretiminde çalışma
+ * zamânında yansıma ve kod üretimi gerekmez<br>
+ * @author Mehmet Âkif SOLAK
+ */
+@SupportedAnnotationTypes("ReflectorRuntime.Reflectable")
+public final class ReflectableProcessor extends AbstractProcessor{
+    private static final String SUFFIX = "$$ReflectorAccessor";
+
+// İŞLEM YÖNTEMLERİ:
+    @Override
+    public SourceVersion getSupportedSourceVersion(){
+        return SourceVersion.latestSupported();
+    }
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv){
+        for(TypeElement annotation : annotations){
+            for(Element element : roundEnv.getElementsAnnotatedWith(annotation)){
+                if(element.getKind() != ElementKind.CLASS){
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@Reflectable yalnızca sınıflara uygulanabilir", element);
+                    continue;
+                }
+                TypeElement type = (TypeElement) element;
+                if(!isReachable(type)){
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@Reflectable sınıf 'private' olmamalı, iç sınıfsa statik olmalıdır", element);
+                    continue;
+                }
+                try{
+                    generate(type);
+                }
+                catch(IOException exc){
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "exc : " + exc.toString(), element);
+                }
+            }
+        }
+        return true;
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private void generate(TypeElement type) throws IOException{
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = (pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString());
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        String targetName = type.getQualifiedName().toString();
+        List<VariableElement> fields = new ArrayList<VariableElement>();
+        for(VariableElement fl : ElementFilter.fieldsIn(type.getEnclosedElements())){
+            Set<Modifier> modifiers = fl.getModifiers();
+            if(!modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC))
+                fields.add(fl);
+        }
+        StringBuilder src = new StringBuilder();
+        if(!packageName.isEmpty())
+            src.append("package ").append(packageName).append(";\n\n");
+        src.append("/**\n * {@code ").append(targetName).append("} için {@code ReflectorRuntime.ReflectableProcessor}\n")
+            .append(" * tarafından üretilmiştir; elle değiştirilmemelidir\n */\n");
+        src.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        src.append("public final class ").append(simpleName).append(" extends ReflectorRuntime.GeneratedAccessor{\n");
+        src.append("    private static final String[] FIELD_NAMES = {");
+        for(int sayac = 0; sayac < fields.size(); sayac++){
+            src.append(sayac == 0 ? "\"" : ", \"").append(fields.get(sayac).getSimpleName()).append("\"");
+        }
+        src.append("};\n");
+        src.append("    private static final boolean[] WRITABLE = {");
+        for(int sayac = 0; sayac < fields.size(); sayac++){
+            src.append(sayac == 0 ? "" : ", ").append(!fields.get(sayac).getModifiers().contains(Modifier.FINAL));
+        }
+        src.append("};\n\n");
+        src.append("    public ").append(simpleName).append("(){}\n\n");
+        // get:
+        src.append("    @Override\n    protected Object get(Object target, int index){\n");
+        src.append("        ").append(targetName).append(" t = (").append(targetName).append(") target;\n");
+        src.append("        switch(index){\n");
+        for(int sayac = 0; sayac < fields.size(); sayac++){
+            src.append("            case ").append(sayac).append(" : return t.").append(fields.get(sayac).getSimpleName()).append(";\n");
+        }
+        src.append("            default : return null;\n        }\n    }\n");
+        // set:
+        src.append("    @Override\n    protected void set(Object target, int index, Object value){\n");
+        src.append("        ").append(targetName).append(" t = (").append(targetName).append(") target;\n");
+        src.append("        switch(index){\n");
+        for(int sayac = 0; sayac < fields.size(); sayac++){
+            VariableElement fl = fields.get(sayac);
+            if(fl.getModifiers().contains(Modifier.FINAL))
+                continue;
+            src.append("            case ").append(sayac).append(" : t.").append(fl.getSimpleName())
+                .append(" = (").append(castTypeOf(fl.asType())).append(") value; return;\n");
+        }
+        src.append("        }\n    }\n");
+        src.append("    @Override\n    protected String[] getFieldNames(){\n        return FIELD_NAMES.clone();\n    }\n");
+        src.append("    @Override\n    protected boolean isWritable(int index){\n")
+            .append("        return (index >= 0 && index < WRITABLE.length && WRITABLE[index]);\n    }\n");
+        if(canInstantiate(type)){
+            src.append("    @Override\n    protected Object newInstance(){\n        return new ")
+                .append(targetName).append("();\n    }\n");
+        }
+        src.append("}\n");
+        String fileName = (packageName.isEmpty() ? simpleName : packageName + "." + simpleName);
+        Writer writer = processingEnv.getFiler().createSourceFile(fileName, type).openWriter();
+        try{
+            writer.write(src.toString());
+        }
+        finally{
+            writer.close();
+        }
+    }
+    /**
+     * Verilen tipin, değer dönüştürmede kullanılacak ismini döndürür; temel
+     * tipler için sarmalayıcı sınıf kullanılır, tip parametreleri silinir
+     */
+    private String castTypeOf(TypeMirror type){
+        switch(type.getKind()){
+            case INT : return "Integer";
+            case LONG : return "Long";
+            case DOUBLE : return "Double";
+            case FLOAT : return "Float";
+            case BOOLEAN : return "Boolean";
+            case BYTE : return "Byte";
+            case SHORT : return "Short";
+            case CHAR : return "Character";
+        }
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+    /**
+     * Sınıfa ve tüm dış sınıflarına aynı paketten erişilebildiğini ve iç
+     * sınıfların statik olduğunu denetler
+     */
+    private boolean isReachable(TypeElement type){
+        Element current = type;
+        while(current.getKind().isClass() || current.getKind().isInterface()){
+            if(current.getModifiers().contains(Modifier.PRIVATE))
+                return false;
+            Element enclosing = current.getEnclosingElement();
+            if(enclosing.getKind() != ElementKind.PACKAGE && !current.getModifiers().contains(Modifier.STATIC))
+                return false;
+            current = enclosing;
+        }
+        return true;
+    }
+    private boolean canInstantiate(TypeElement type){
+        if(type.getModifiers().contains(Modifier.ABSTRACT))
+            return false;
+        for(ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())){
+            if(constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)
+                && constructor.getThrownTypes().isEmpty())
+                return true;
+        }
+        return false;
+    }
+}
@@ -3,6 +3,7 @@ package ReflectorRuntime;
 import java.io.File;
 import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -11,6 +12,7 @@ import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,7 +23,9 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,19 +39,52 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * 
  * @author Mehmet Âkif SOLAK
- * Düşük ve yüksek seviyeli nesne manipülasyonunu konforlu hâle getiren kitâplık
+ * Düşük ve yüksek seviyeli nesne manipülasyonunu konforlu hâle getiren kitâplık<br>
+ * Bir {@code Reflector} nesnesi (ve {@code getService()} ile alınan ortak
+ * nesne) dış kilit kullanmadan çok sayıda iş parçacığı arasında
+ * paylaşılabilir: Sâbit tablolar değiştirilemez ve güvenle yayınlanır,
+ * önbellekler eş zamanlı yapılardır ve sık kullanılan yollarda kilit
+ * alınmaz<br>
  * @version 3.1.0
  */
 public class Reflector{
-    private static Reflector serv;// service
-    private HashMap<Class<?>, Class<?>> mapOfPrimitiveToWrapper;
-    private final List<String> basicDataTypes = getBasicDataTypes();
-    private DateTimeFormatter sqlAndIsoDFormatter;//sqlAndISODateFormatter : SQL târih veri tipini ayrıştırmak için...
-    private DateTimeFormatter sqlAndIsoDTFormatter;//sqlAndISODateTimeFormatter : SQL târih saat veri tipini ayrıştırmak için kullanılıyor
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_TO_WRAPPER = createMapOfPrimitiveToWrapper();// Değiştirilemez; kilitsiz okunur
+    private static final Map<Class<?>, Class<?>> WRAPPER_TO_PRIMITIVE = createMapOfWrapperToPrimitive();
+    private final List<String> basicDataTypes = Collections.unmodifiableList(getBasicDataTypes());
+    private volatile ACCESSOR_BACKEND accessorBackend = ACCESSOR_BACKEND.METHOD_HANDLE;
+    private final ConverterRegistry converters = new ConverterRegistry(this);// Kaynak - hedef sınıf çiftine göre dönüştürücüler
+    private final ThreadLocal<WeakReference<NumberParser>> numberParser = new ThreadLocal<WeakReference<NumberParser>>();// Metinden sayı ayrıştırma için tekrar kullanılan nesne; iş parçacığı kütüphâne yükleyicisini bellekte tutmasın diye zayıf referansla
+    private final ClassCache<ClassMetadata> metadataCache = new ClassCache<ClassMetadata>(){// Sınıf başına yansıma bilgileri
+        @Override
+        protected ClassMetadata computeValue(Class<?> cls){
+            return new ClassMetadata(cls, Reflector.this);
+        }
+    };
+    private final OwnedCopies<ObjectInjector<?>> ownedInjectors = new OwnedCopies<ObjectInjector<?>>(){// Kullanıcıya verilen zerk planları
+        @Override
+        protected ObjectInjector<?> copy(ObjectInjector<?> plan){
+            return plan.withOwner(Reflector.this);
+        }
+    };
+    private final OwnedCopies<Mapper<?, ?>> ownedMappers = new OwnedCopies<Mapper<?, ?>>(){// Kullanıcıya verilen eşleyiciler
+        @Override
+        protected Mapper<?, ?> copy(Mapper<?, ?> plan){
+            return plan.withOwner(Reflector.this);
+        }
+    };
+    private final OwnedCopies<ResultSetMapper<?>> ownedResultSetMappers = new OwnedCopies<ResultSetMapper<?>>(){// Kullanıcıya verilen 'ResultSet' eşleyicileri
+        @Override
+        protected ResultSetMapper<?> copy(ResultSetMapper<?> plan){
+            return plan.withOwner(Reflector.this);
+        }
+    };
 
     /**
      * 'getter' ve/veyâ 'setter' yöntemlerinin sınıf içerisinde
@@ -71,6 +108,28 @@ public class Reflector{
         GET,
         SET
     }
+    /**
+     * Alanlara ve metotlara erişimde kullanılan arka ucu belirtir<br>
+     * {@code METHOD_HANDLE} seçilirse her alan ve metot için ilk kullanımda
+     * bir {@code MethodHandle} derlenir ('public' 'getter' ve 'setter'
+     * metotları için {@code LambdaMetafactory} ile fonksiyon üretilir) ve
+     * sonraki erişimlerde bu kullanılır<br>
+     * {@code REFLECTION} seçilirse {@code Field} ve {@code Method} nesneleri
+     * doğrudan kullanılır<br>
+     * {@code GENERATED} seçilirse alanlara önce {@code METHOD_HANDLE} ile
+     * erişilir; bir sınıfın alanlarına yeterince çok erişildiğinde o sınıf
+     * için alanlara doğrudan erişen bir erişimci sınıfı çalışma zamânında
+     * üretilir ve sonraki erişimlerde bu kullanılır (ayrıntılar için
+     * {@code GeneratedAccessor}). Metotlar için {@code METHOD_HANDLE} ile
+     * aynıdır<br>
+     * Tüm arka uçlar aynı sonucu üretir; derlenemeyen üyeler için her zaman
+     * yansımaya dönülür
+     */
+    public enum ACCESSOR_BACKEND{
+        REFLECTION,
+        METHOD_HANDLE,
+        GENERATED
+    }
     public Reflector(){}
 
 // İŞLEM YÖNTEMLERİ:
@@ -127,7 +186,11 @@ public class Reflector{
      * - {@code SortedSet} için {@code TreeSet}, {@code Set} için {@code HashSet},<br>
      * - {@code Queue} için {@code LinkedList},<br>
      * - {@code Collection} için {@code ArrayList} üretilir<br>
-     * - {@code UUID} için rastgele bir {@code UUID} üretilir
+     * - {@code UUID} için rastgele bir {@code UUID} üretilir<br>
+     * {@code @Reflectable} ile işâretlenmiş sınıflarda, derleme zamânında
+     * üretilen erişimcinin yapıcı yöntem çağrısı kullanılır<br>
+     * Örneğin nasıl üretileceği sınıf başına bir kez belirlenip saklanır;
+     * sonraki çağrılarda sınıf denetimleri ve yapıcı yöntem araması yapılmaz
      * @param <T> Örneği istenen sınıf, tip olarak
      * @param target Nesnesi üretilmek istenen sınıf
      * @return Verilen sınıfın ilklendirilmiş bir örneği veya {@code null}
@@ -135,59 +198,7 @@ public class Reflector{
     public <T> T produceInstance(Class<T> target){
         if(target == null)
             return null;
-        T obj = null;
-        try{
-            if(target.isPrimitive() || isWrapperClassOfBasic(target)){// Hedef temel veri tipi ise;
-                Class<?> wrapper;
-                if(target.isPrimitive())
-                    wrapper = getWrapperClassFromPrimitiveClass(target);// Eğer temel veri tipi sınıfı ise, sarmalayıcı sınıfı edin
-                else
-                    wrapper = target;
-                String parameterOfConstructor = getParameterForConstructorOfWrapperBasicClass(target);
-                if(parameterOfConstructor != null){
-                    obj = (T) wrapper.getConstructor(String.class).newInstance(parameterOfConstructor);
-                }
-                else if(target.equals(Character.class)){
-                    obj = (T) wrapper.getConstructor(char.class).newInstance(' ');
-                }
-            }
-            else if(target.isEnum()){// Hedef bir ENUM ise;
-                obj = getProducedInstanceForEnumMain(target);
-            }
-            else if(target.isArray()){// Hedef diziyse;
-                obj = target.cast(Array.newInstance(target.getComponentType(), 1));
-            }
-            else if(target.isInterface()){// Hedef bir arayüzse;
-                if(target == List.class || target.getName().equals("java.util.Collection")){// List arayüzü ise ArrayList döndür
-                    obj = (T) new ArrayList<Object>();
-                }
-                else if(target == Map.class){// Map arayüzü ise, HashMap döndür
-                    obj = (T) new HashMap();
-                }
-                else if(target.getName().equals("java.util.SortedSet")){
-                    obj = (T) new TreeSet<Object>();
-                }
-                else if(target.getName().equals("java.util.Queue")){
-                    obj = (T) new LinkedList();
-                }
-                else if(target.getName().equals("java.util.Set")){
-                    obj = (T) new HashSet();
-                }
-            }
-            else if(target == UUID.class)
-                return (T) UUID.randomUUID();
-            else{// Yapıcı yöntemi bulup, çalıştırarak yeni nesne elde etmeye çalış
-                Constructor noParamCs = getConstructorForNoParameter(target);// İlk olarak parametresiz yapıcı yöntem ara
-                if(noParamCs != null){
-                    obj = (T) noParamCs.newInstance(null);
-                }
-            }
-        }
-        catch(NoSuchMethodException | SecurityException | InstantiationException | IllegalArgumentException | IllegalAccessException | InvocationTargetException exc){
-            System.err.println("exc : " + exc.toString());
-            return null;
-        }
-        return obj;
+        return (T) getClassMetadata(target).getInstantiator().newInstance();
     }
     /**
      * Enum tipinde bir verinin oluşturulması için kullanılabilir<br>
@@ -218,11 +229,7 @@ public class Reflector{
     public boolean isWrapperClassOfBasic(Class<?> cls){
         if(cls == null)
             return false;
-        for(Class<?> cl : getMapOfPrimitiveToWrapper().keySet()){
-            if(getMapOfPrimitiveToWrapper().get(cl).equals(cls))
-                return true;
-        }
-        return false;
+        return WRAPPER_TO_PRIMITIVE.containsKey(cls);
     }
     /**
      * Verilen bilgilerle boyut bağımsız dizi oluşturun<br>
@@ -262,6 +269,12 @@ public class Reflector{
         try{
             int dimension = (isDataAnArray ? getDimensionOfArray(classOfDataArray) : getDimensionOfList((List) data));
             boolean dimensionIsEqualOne = (dimension == 1);
+            if(dimensionIsEqualOne && classOfDataArray.getComponentType().isPrimitive()
+                    && !converters.hasRegisteredFor(classOfDataArray.getComponentType())){// Temel veri tipindeki dizi için kutulamadan çalışan döngüler
+                Object source = (isDataAnArray ? data : ((List) data).toArray());
+                return (T) new PrimitiveArrayConverter(this, classOfDataArray.getComponentType(),
+                    doCastIfNeeded, ignoreMismatchElement).convert(source);
+            }
             int len = (isDataAnArray ? Array.getLength(data) : ((List) data).size());
             Object value = Array.newInstance(classOfDataArray.getComponentType(), len);
             for(int sayac = 0; sayac < len; sayac++){
@@ -333,6 +346,66 @@ public class Reflector{
     public <T> T produceInjectedArray(Class<T> classOfDataArray, Object data){
         return produceInjectedArray(classOfDataArray, data, false);
     }
+    /**
+     * Verilen bilgilerle boyut bağımsız diziyi, en dış boyutu iş parçacıklarına
+     * dağıtarak oluşturun<br>
+     * Sonuç, {@code ignoreMismatchElement} davranışı dâhil
+     * {@code produceInjectedArray()} ile aynıdır; her satır ayrı bir iş
+     * parçacığında dönüştürülebilir<br>
+     * Verinin yaklaşık eleman sayısı (en dış boyutun uzunluğu x ilk satırın
+     * uzunluğu) {@code threshold} değerinden azsa veyâ hedef tek boyutluysa
+     * dönüşüm sıralı yapılır<br>
+     * @param <T> Hedef dizi sınıfını belirten tip
+     * @param classOfDataArray Hedef sınıf, misal {@code double[][].class} gibi..
+     * @param data Veri {@code List} veyâ dizi ({@code Array}) biçiminde olmalı
+     * @param doCastIfNeeded Eğer elemanın veri tipi, hedef veri tipiyle
+     * uyumsuzsa ve dönüştürülmek isteniyorsa, bu bayrak {@code true} verilmeli
+     * @param ignoreMismatchElement Dönüştürülemeyen elemanın görmezden
+     * gelinmesini ifâde eden bayrak
+     * @param threshold Paralel çalışma için gereken en az eleman sayısı
+     * @param pool Kullanılacak havuz; {@code null} ise ortak havuz kullanılır
+     * @return İstenen verilerin zerk edildiği dizi örneği veyâ {@code null}
+     */
+    public <T> T produceInjectedArrayInParallel(Class<T> classOfDataArray, Object data, boolean doCastIfNeeded,
+            boolean ignoreMismatchElement, long threshold, ForkJoinPool pool){
+        if(data == null || classOfDataArray == null)
+            return null;
+        Class<?> rowClass = classOfDataArray.getComponentType();
+        Object[] rows = getRowsForParallelism(data);
+        if(rowClass == null || !rowClass.isArray() || rows == null || ParallelConverter.estimateSize(rows) < threshold)
+            return produceInjectedArray(classOfDataArray, data, doCastIfNeeded, ignoreMismatchElement);
+        try{
+            if(data instanceof List && getDimensionOfList((List) data) == 1)// Sıralı yolda tek boyutlu olarak ele alınıyor
+                return produceInjectedArray(classOfDataArray, data, doCastIfNeeded, ignoreMismatchElement);
+            Object value = Array.newInstance(rowClass, rows.length);
+            ForkJoinPool executor = (pool == null ? ForkJoinPool.commonPool() : pool);
+            executor.invoke(new ParallelConverter(this, rows, value, rowClass, doCastIfNeeded, ignoreMismatchElement,
+                0, rows.length, Math.max(1, rows.length / (executor.getParallelism() * 4))));
+            return (T) value;
+        }
+        catch(IllegalArgumentException | ClassCastException exc){
+            System.err.println("exc : " + exc.toString());
+        }
+        return null;
+    }
+    /**
+     * Verilen bilgilerle boyut bağımsız diziyi, yeterince büyükse en dış
+     * boyutu ortak {@code ForkJoinPool} havuzundaki iş parçacıklarına
+     * dağıtarak oluşturun<br>
+     * Ayrıntılar için diğer {@code produceInjectedArrayInParallel()}
+     * yöntemine bakınız
+     * @param <T> Hedef dizi sınıfını belirten tip
+     * @param classOfDataArray Hedef sınıf, misal {@code double[][].class} gibi..
+     * @param data Veri {@code List} veyâ dizi ({@code Array}) biçiminde olmalı
+     * @param doCastIfNeeded Dönüştürme yapılmasını ifâde eden bayrak
+     * @param ignoreMismatchElement Dönüştürülemeyen elemanın görmezden
+     * gelinmesini ifâde eden bayrak
+     * @return İstenen verilerin zerk edildiği dizi örneği veyâ {@code null}
+     */
+    public <T> T produceInjectedArrayInParallel(Class<T> classOfDataArray, Object data, boolean doCastIfNeeded, boolean ignoreMismatchElement){
+        return produceInjectedArrayInParallel(classOfDataArray, data, doCastIfNeeded, ignoreMismatchElement,
+            ParallelConverter.DEFAULT_THRESHOLD, null);
+    }
     /**
      * Verilen verilerle boyut bağımsız liste oluşturun<br>
      * @param data Veri {@code List} veyâ dizi ({@code Array}) biçiminde olmalı
@@ -376,6 +449,46 @@ public class Reflector{
         }
         return null;
     }
+    /**
+     * Verilen verilerle boyut bağımsız listeyi, en dış boyutu iş parçacıklarına
+     * dağıtarak oluşturun<br>
+     * Sonuç {@code produceInjectedList()} ile aynıdır; verinin yaklaşık eleman
+     * sayısı {@code threshold} değerinden azsa veyâ veri tek boyutluysa liste
+     * sıralı olarak oluşturulur<br>
+     * @param data Veri {@code List} veyâ dizi ({@code Array}) biçiminde olmalı
+     * @param threshold Paralel çalışma için gereken en az eleman sayısı
+     * @param pool Kullanılacak havuz; {@code null} ise ortak havuz kullanılır
+     * @return İstenen verilerin zerk edildiği liste veyâ {@code null}
+     */
+    public List produceInjectedListInParallel(Object data, long threshold, ForkJoinPool pool){
+        Object[] rows = getRowsForParallelism(data);
+        if(rows == null || rows.length == 0 || ParallelConverter.estimateSize(rows) < threshold)
+            return produceInjectedList(data);
+        try{
+            int dimension = (data.getClass().isArray() ? getDimensionOfArray(data.getClass()) : getDimensionOfList((List) data));
+            if(dimension == 1)
+                return produceInjectedList(data);
+            Object[] value = new Object[rows.length];
+            ForkJoinPool executor = (pool == null ? ForkJoinPool.commonPool() : pool);
+            executor.invoke(new ParallelConverter(this, rows, value, null, false, false,
+                0, rows.length, Math.max(1, rows.length / (executor.getParallelism() * 4))));
+            return new ArrayList(Arrays.asList(value));
+        }
+        catch(IllegalArgumentException exc){
+            System.err.println("exc : " + exc.toString());
+        }
+        return null;
+    }
+    /**
+     * Verilen verilerle boyut bağımsız listeyi, yeterince büyükse en dış
+     * boyutu ortak {@code ForkJoinPool} havuzundaki iş parçacıklarına
+     * dağıtarak oluşturun<br>
+     * @param data Veri {@code List} veyâ dizi ({@code Array}) biçiminde olmalı
+     * @return İstenen verilerin zerk edildiği liste veyâ {@code null}
+     */
+    public List produceInjectedListInParallel(Object data){
+        return produceInjectedListInParallel(data, ParallelConverter.DEFAULT_THRESHOLD, null);
+    }
     /**
      * Verilen tiplerinin birbirine otomatik olarak dönüşebildiği denetleniyor<br>
      * Java otomatik sarmalama özelliğiyle sarmalanan sınıf - temel hâli eşleşir<br>
@@ -384,9 +497,9 @@ public class Reflector{
      * @return Eğer otomatik dönüşüyorsa {@code true}, değilse {@code false} 
      */
     public boolean isPairingAutomatically(Class<?> cls1, Class<?> cls2){
-        Class founded = getMapOfPrimitiveToWrapper().get(cls1);
+        Class founded = PRIMITIVE_TO_WRAPPER.get(cls1);
         if(founded == null){
-            founded = getMapOfPrimitiveToWrapper().get(cls2);
+            founded = PRIMITIVE_TO_WRAPPER.get(cls2);
             if(founded == null)
                 return false;
             else
@@ -406,14 +519,9 @@ public class Reflector{
      * sınıf veyâ null döndürülür
      */
     public Class<?> getPrimitiveClassFromWrapper(Class<?> wrapperClass){
-        Class<?> value = null;
-        for(Class<?> cls : getMapOfPrimitiveToWrapper().keySet()){
-            if(getMapOfPrimitiveToWrapper().get(cls).equals(wrapperClass)){
-                value = cls;
-                break;
-            }
-        }
-        return value;
+        if(wrapperClass == null)
+            return null;
+        return WRAPPER_TO_PRIMITIVE.get(wrapperClass);
     }
     /**
      * Temel veri tipinin sarmalayıcı sınıfını döndürür<br>
@@ -421,7 +529,9 @@ public class Reflector{
      * @return Verilen temel veri tipi sınıfının sarmalayıcısı veyâ {@code null}
      */
     public Class<?> getWrapperClassFromPrimitiveClass(Class<?> primitiveClass){
-        return getMapOfPrimitiveToWrapper().get(primitiveClass);
+        if(primitiveClass == null)
+            return null;
+        return PRIMITIVE_TO_WRAPPER.get(primitiveClass);
     }
     /**
      * Verilen sınıfın parametresiz yapıcı yöntemini arar<br>
@@ -462,70 +572,7 @@ public class Reflector{
             return null;
         if(data.isEmpty())
             return null;
-        if(target == String.class)
-            return ((T) new String(data));
-        if(target.equals(Class.class)){
-            Object loaded = getLoadedClass(data, target.isEnum());
-            if(loaded == null)
-                return null;
-            try{
-                return (T) loaded;
-            }
-            catch(ClassCastException exc){
-                return null;
-            }
-        }
-        if(target.isEnum()){
-            return getEnumByData(target, data);
-        }
-        else if(isAboutDateTime(target)){
-            return getDateObjectFromString(target, data);
-        }
-        else if(target.equals(File.class)){
-            return (T) new File(data);
-        }
-        else if(target.equals(UUID.class)){
-            try{
-                return (T) UUID.fromString(data);
-            }
-            catch(IllegalArgumentException exc){return null;}
-        }
-        try{
-            data = data.trim();// Boşluklar varsa kaldır
-            Object casted = null;
-            if(isAboutNumber(target)){
-                casted = getCastedNumberFromString(target, data);
-                return (casted == null ? null : (T) casted);
-            }
-            else if(target.equals(Boolean.class) || target.equals(boolean.class)){
-                String preProcessed = data.toLowerCase();
-                switch(preProcessed){
-                    case "true" : {
-                        casted = Boolean.TRUE;
-                        break;
-                    }
-                    case "false" : {
-                        casted = Boolean.FALSE;
-                        break;
-                    }
-                    case "1" : {
-                        casted = Boolean.TRUE;
-                        break;
-                    }
-                    case "0" : {
-                        casted = Boolean.FALSE;
-                        break;
-                    }
-                }
-            }
-            else if(target.equals(Character.class) || target.equals(char.class))
-                casted = data.charAt(0);// İlk karakter alınıyor
-            return (T) casted;
-        }
-        catch(ClassCastException exc){
-            System.err.println("Veri, istenen veri tipine dönüştürülemedi : " + exc.toString());
-        }
-        return null;
+        return (T) converters.getFromString(target).convert(data);
     }
     /**
      * SQL ve ISO biçimindeki târih, târih - zamân ve zamân verisini hedef
@@ -556,22 +603,37 @@ public class Reflector{
         T result = null;// Sonuç
         try{
             TemporalAccessor raw = getSQLAndISODTFormatter().parse(data);// Ayrıştırma
-            if(target.equals(LocalDate.class))
-                result = (T) LocalDate.from(raw);
-            else if(target.equals(LocalDateTime.class))
-                result = (T) LocalDateTime.from(raw);
-            else if(target.equals(LocalTime.class))
-                result = (T) LocalTime.from(raw);
-            else if(target.equals(Date.class))
-                result = (T) Date.from(LocalDateTime.from(raw).toInstant(ZoneOffset.of("Z")));
-            else if(target.equals(java.sql.Date.class))
-                result = (T) java.sql.Date.valueOf(LocalDate.from(raw));
+            result = getDateObjectFromTemporal(target, raw);
         }
         catch(IllegalArgumentException | NullPointerException | DateTimeException exc){
             System.err.println("Târih saat verisini parçalama işlemi başarısız : " + exc.toString());
         }
         return result;
     }
+    /**
+     * Ayrıştırılmış târih - zamân verisini hedef tipe dönüştürür<br>
+     * {@code getDateObjectFromString()} ile aynı kuralları uygular; böylece
+     * metînden ve veritabanından okunan târihler aynı biçimde dönüştürülür
+     * @param <T> Hedef sınıfı temsil eden tip
+     * @param target Hedef sınıf
+     * @param raw Ayrıştırılmış târih - zamân verisi
+     * @return İstenen tipte târih - zamân verisi veyâ hedef sınıf
+     * desteklenmiyorsa {@code null}
+     * @throws DateTimeException Veri hedef tipe dönüştürülemiyorsa
+     */
+    <T> T getDateObjectFromTemporal(Class<T> target, TemporalAccessor raw){
+        if(target.equals(LocalDate.class))
+            return (T) LocalDate.from(raw);
+        else if(target.equals(LocalDateTime.class))
+            return (T) LocalDateTime.from(raw);
+        else if(target.equals(LocalTime.class))
+            return (T) LocalTime.from(raw);
+        else if(target.equals(Date.class))
+            return (T) Date.from(LocalDateTime.from(raw).toInstant(ZoneOffset.of("Z")));
+        else if(target.equals(java.sql.Date.class))
+            return (T) java.sql.Date.valueOf(LocalDate.from(raw));
+        return null;
+    }
     /**
      * Verilen metindeki sayıyı kullanarak verilen tipte sayı nesnesi üretir<br>
      * Verilen sayı tipi, sayı depolayabilen tüm temel veri tiplerinden birisi
@@ -582,6 +644,14 @@ public class Reflector{
      * @return İstenilen tipte sayı veyâ {@code null}
      */
     public <T> T getCastedNumberFromString(Class<T> target, String data){
+        if(NumberParser.isSupported(target)){// Yaygın biçimler alt metîn ve hatâ üretilmeden ayrıştırılıyor
+            NumberParser parser = getNumberParser();
+            NumberParser.STATUS status = parser.parse(target, data, 0, data.length());
+            if(status == NumberParser.STATUS.OK)
+                return (T) parser.getValue(target);
+            if(status == NumberParser.STATUS.FRACTION || status == NumberParser.STATUS.OVERFLOW)
+                return null;
+        }
         try{
             Object casted = null;
             data = data.trim();// Boşluklar varsa kaldır
@@ -608,27 +678,18 @@ public class Reflector{
                 target == Long.class || target.equals(long.class) ||
                 target == Byte.class || target.equals(byte.class) ||
                 target == Short.class || target.equals(short.class) || target.equals(BigInteger.class)){
-                try{
-                    Double asDouble = Double.valueOf(data);
-                    if(asDouble != null){
-                        if(asDouble - Math.ceil(asDouble) == 0){// Kesir kısmındaki değer 0 ise;
-                            Long ll = Math.round(asDouble);
-                            if(target.equals(Long.class) || target.equals(long.class))
-                                return (T) ll;
-                            String asStr = String.valueOf(ll);
-                            if(target.equals(Integer.class) || target.equals(int.class))
-                                return (T) Integer.valueOf(asStr);
-                            else if(target.equals(BigInteger.class))
-                                return (T) new BigInteger(String.valueOf(ll));
-                            else if(target.equals(Short.class) || target.equals(short.class))
-                                return (T) Short.valueOf(asStr);
-                            else{
-                                return (T) Byte.valueOf(asStr);
-                            }
-                        }
+                try{// Kesir kısmındaki değer 0 ise ve hedefin sınırları aşılmıyorsa dönüştür:
+                    Object casted;
+                    try{
+                        casted = NumberConverter.convert(new BigDecimal(data), target);
                     }
+                    catch(NumberFormatException excForDecimal){// "1d", "NaN" gibi yalnızca 'double' için geçerli biçimler
+                        casted = NumberConverter.fromDouble(Double.parseDouble(data), NumberConverter.kindOf(target));
+                    }
+                    if(casted != null)
+                        return (T) casted;
                 }
-                catch(ClassCastException | NumberFormatException excOn2nd){
+                catch(NumberFormatException excOn2nd){
                     System.err.println("Veri hiçbir şekilde hedef sayı tipine çevrilemiyor");
                 }
             }
@@ -636,6 +697,66 @@ public class Reflector{
         }
         return null;
     }
+    /**
+     * Verilen metnin verilen aralığındaki sayıyı kullanarak verilen tipte sayı
+     * nesnesi üretir<br>
+     * Temel sayı tipleri ve sarmalayıcıları için aralık, alt metîn
+     * oluşturulmadan ve hatâ fırlatılmadan ayrıştırılır; {@code "12.0"} gibi
+     * kesir kısmı 0 olan değerler tamsayı tiplere de çevrilir<br>
+     * Bunların dışındaki tipler ve biçimler için
+     * {@code getCastedNumberFromString()} kullanılır<br>
+     * Ayrıştırma sonucunu ayrıntılı görmek veyâ kutulamadan kurtulmak için
+     * {@code NumberParser} sınıfını kullanabilirsiniz
+     * @param <T> Hedef sayı sınıfını simgeleyen tip
+     * @param target Hedef sayı sınıfı
+     * @param data Sayı içeren metîn
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return İstenilen tipte sayı veyâ {@code null}
+     */
+    public <T> T getCastedNumber(Class<T> target, CharSequence data, int start, int end){
+        if(target == null || data == null)
+            return null;
+        if(start < 0 || end > data.length() || start > end)
+            return null;
+        if(NumberParser.isSupported(target)){
+            NumberParser parser = getNumberParser();
+            NumberParser.STATUS status = parser.parse(target, data, start, end);
+            if(status == NumberParser.STATUS.OK)
+                return (T) parser.getValue(target);
+            if(status == NumberParser.STATUS.FRACTION || status == NumberParser.STATUS.OVERFLOW)
+                return null;
+        }
+        return getCastedNumberFromString(target, data.subSequence(start, end).toString());
+    }
+    /**
+     * Verilen ASCII bayt dizisinin verilen aralığındaki sayıyı kullanarak
+     * verilen tipte sayı nesnesi üretir<br>
+     * CSV dosyası ve ağ tamponu gibi kaynaklardaki verinin metne çevrilmeden
+     * ayrıştırılması içindir; kuralları
+     * {@code getCastedNumber(Class, CharSequence, int, int)} ile aynıdır
+     * @param <T> Hedef sayı sınıfını simgeleyen tip
+     * @param target Hedef sayı sınıfı
+     * @param data ASCII bayt dizisi
+     * @param start Başlangıç (dâhil)
+     * @param end Bitiş (hâriç)
+     * @return İstenilen tipte sayı veyâ {@code null}
+     */
+    public <T> T getCastedNumber(Class<T> target, byte[] data, int start, int end){
+        if(target == null || data == null)
+            return null;
+        if(start < 0 || end > data.length || start > end)
+            return null;
+        if(NumberParser.isSupported(target)){
+            NumberParser parser = getNumberParser();
+            NumberParser.STATUS status = parser.parse(target, data, start, end);
+            if(status == NumberParser.STATUS.OK)
+                return (T) parser.getValue(target);
+            if(status == NumberParser.STATUS.FRACTION || status == NumberParser.STATUS.OVERFLOW)
+                return null;
+        }
+        return getCastedNumberFromString(target, new String(data, start, end - start, StandardCharsets.ISO_8859_1));
+    }
     /**
      * Verilerin birbirine dönüştürülebildiği durumlar için dönüşüm desteklenir<br>
      * İlâveten, {@code Enum} verisi metîn biçimindeyse, karşılığı döndürülür<br>
@@ -681,44 +802,62 @@ public class Reflector{
             return null;
         if(value.getClass().equals(targetClass))
             return (T) value;
-        if(!isNotUserDefinedClass(targetClass)){// Kullanıcı tanımlı bir sınıf
-                                                // hedef olarak verildiyse;
-            try{
-                if(value instanceof Map){// Veriler harita biçiminde verildiyse;s
-                    return (T) produceInjectedObject(targetClass, (Map) value, codingStyle);
-                }
-            }
-            catch(ClassCastException exc){
-                System.err.println("Verileri kullanıcı tanımlı nesne"
-                    + "dönüştürebilmek için veriler "
-                    + "Map<String, ? extends Object> formatında olmalıdır:" + exc.toString());
-                // burada return yapılması uygun görünüyor; yapılmaması gereksiz işlem midir
-                // yoksa diğer metotların denenmesi sonucu başarı elde edildiği durum olabilir mi?
-            }
-        }
-        if(isAboutListArrayConverting(targetClass, value)){
-            Object casted = checkAndConvertListAndArrayFixed(value, targetClass);
-            if(casted != null){
-                try{
-                    return (T) casted;
-                }
-                catch(ClassCastException exc){}
-            }
-        }
-        T casted = getCastedObjectFromString(String.valueOf(value), targetClass);
-        if(casted == null){
-            try{
-                casted = targetClass.cast(value);
-            }
-            catch(ClassCastException exc){
-                System.err.println("Dönüşüm hatâsı : " + exc.toString());
-            }
-        }
-        return casted;
+        return (T) converters.get(value.getClass(), targetClass, codingStyle).convert(value);
+    }
+    /**
+     * Verilen kaynak - hedef sınıf çifti için dönüştürücüyü döndürür<br>
+     * Dönüştürücü çift ilk defa istendiğinde çözümlenir ve saklanır; davranışı
+     * {@code getCastedObject(Class, Object, CODING_STYLE)} ile aynıdır<br>
+     * Aynı çift için çok sayıda dönüşüm yapılacaksa dönüştürücüyü bir kez
+     * alıp, kullanmak aramayı da ortadan kaldırır<br>
+     * Dönüştürücüye {@code sourceClass} sınıfından bir değer verilmelidir
+     * @param <T> Hedef, temsil eden veri tipi
+     * @param sourceClass Kaynak sınıf
+     * @param targetClass Hedef sınıf
+     * @param codingStyle Hedef kullanıcı tanımlı bir sınıf ise "setter"
+     * metodu için kodlama stili
+     * @return Dönüştürücü veyâ sınıflardan birisi {@code null} ise {@code null}
+     */
+    public <T> Converter<Object, T> getConverter(Class<?> sourceClass, Class<T> targetClass, CODING_STYLE codingStyle){
+        if(sourceClass == null || targetClass == null)
+            return null;
+        return (Converter<Object, T>) converters.get(sourceClass, targetClass, codingStyle);
+    }
+    /**
+     * Verilen kaynak - hedef sınıf çifti için dönüştürücü kaydeder<br>
+     * Kaydedilen dönüştürücü, {@code getCastedObject()} yöntemlerinde ve zerk
+     * işlemlerinde yerleşik dönüşümlerden önce kullanılır; kaynak sınıfın
+     * alt sınıflarından gelen değerler için de geçerlidir<br>
+     * Kaynak sınıf {@code String} ise {@code getCastedObjectFromString()}
+     * yöntemi de bu dönüştürücüyü kullanır<br>
+     * Çift için önceden kaydedilmiş dönüştürücü varsa onun yerine geçer
+     * @param <S> Kaynak veri tipi
+     * @param <T> Hedef veri tipi
+     * @param sourceClass Kaynak sınıf
+     * @param targetClass Hedef sınıf
+     * @param converter Dönüştürücü
+     */
+    public <S, T> void registerConverter(Class<S> sourceClass, Class<T> targetClass, Converter<? super S, ? extends T> converter){
+        if(sourceClass == null || targetClass == null || converter == null)
+            return;
+        converters.register(sourceClass, targetClass, converter);
+    }
+    /**
+     * Verilen kaynak - hedef sınıf çifti için kaydedilmiş dönüştürücüyü kaldırır
+     * @param sourceClass Kaynak sınıf
+     * @param targetClass Hedef sınıf
+     * @return Kaldırılacak bir kayıt varsa {@code true}, aksi hâlde {@code false}
+     */
+    public boolean unregisterConverter(Class<?> sourceClass, Class<?> targetClass){
+        if(sourceClass == null || targetClass == null)
+            return false;
+        return converters.unregister(sourceClass, targetClass);
     }
     /**
      * Verilen veriyi hedef sınıftaki nesneye zerk ederek nesne üretmeye çalışır<br>
-     * Şu an parametresiz yapıcı yöntemi bulunmayan sınıfın örneği üretilemiyor<br>
+     * Parametresiz yapıcı yöntemi bulunmayan sınıfların ve kayıtların
+     * ('record') örneği, özellikler yapıcı yöntem parametrelerine isimleriyle
+     * (veyâ {@code @ParameterName} ile) eşlenerek tek çağrıda üretilir<br>
      * {@code enum} değerler için "getter" erişim yöntemi aranmıyor; yanî enum 
      * değerin gizli olmaması lazım.<br>
      * @param <T> Sınıf örneği istenen sınıf
@@ -731,6 +870,129 @@ public class Reflector{
     public <T> T produceInjectedObject(Class<T> targetClass, Map<String, ? extends Object> data, CODING_STYLE codeStyleNeededOnSearchMethod){
         return produceInjectedObject(targetClass, data, codeStyleNeededOnSearchMethod, true, false, null, true, true);
     }
+    /**
+     * Verilen her satırdan hedef sınıfın bir örneğini üretir<br>
+     * Her satır için {@code produceInjectedObject()} ile aynı sonuç üretilir;
+     * fakat hedef sınıfın denetimi, alanların ve 'setter' metotlarının
+     * aranması ve izlenecek yolun keşfi tüm satırlar için bir kez yapılır<br>
+     * Üretilemeyen satırlar sonuçta başarısız olarak işâretlenir
+     * @param <T> Sınıf örneği istenen sınıf
+     * @param targetClass Örneği istenen sınıf
+     * @param rows Satırlar (özellik haritaları)
+     * @param codeStyleNeededOnSearchMethod 'setter' yöntemine ihtiyaç duyulması
+     * durumunda bu yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @return Toplu zerk sonucu veyâ {@code targetClass} ya da {@code rows}
+     * {@code null} ise {@code null}
+     */
+    public <T> BatchResult<T> produceInjectedObjects(Class<T> targetClass, List<? extends Map<String, ? extends Object>> rows,
+            CODING_STYLE codeStyleNeededOnSearchMethod){
+        return produceInjectedObjects(targetClass, rows, codeStyleNeededOnSearchMethod, null);
+    }
+    /**
+     * Verilen her satırdan hedef sınıfın bir örneğini, satırları verilen
+     * yürütücüye dağıtarak üretir<br>
+     * Yöntem tüm satırlar işlenene kadar bekler; sonuçtaki nesneler satırlarla
+     * aynı sıradadır<br>
+     * Ayrıntılar için {@code ObjectInjector.produceAll()} yöntemine bakınız
+     * @param <T> Sınıf örneği istenen sınıf
+     * @param targetClass Örneği istenen sınıf
+     * @param rows Satırlar (özellik haritaları)
+     * @param codeStyleNeededOnSearchMethod 'setter' yöntemine ihtiyaç duyulması
+     * durumunda bu yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @param executor Satırların dağıtılacağı yürütücü veyâ sıralı çalışma
+     * için {@code null}
+     * @return Toplu zerk sonucu veyâ {@code targetClass} ya da {@code rows}
+     * {@code null} ise {@code null}
+     */
+    public <T> BatchResult<T> produceInjectedObjects(Class<T> targetClass, List<? extends Map<String, ? extends Object>> rows,
+            CODING_STYLE codeStyleNeededOnSearchMethod, Executor executor){
+        if(targetClass == null || rows == null)
+            return null;
+        return getSharedInjector(targetClass, codeStyleNeededOnSearchMethod, true, true, true).produceAll(rows, executor);
+    }
+    /**
+     * Verilen akıştaki her satırdan hedef sınıfın bir örneğini tembel olarak
+     * üreten bir akış döndürür<br>
+     * Her satır için {@code produceInjectedObject()} ile aynı sonuç üretilir;
+     * satırlar ve nesneler önceden toplanmadığından bellek kullanımı veri
+     * kümesinin boyutuna bağlı değildir<br>
+     * Verilen akış paralelse döndürülen akış da paraleldir
+     * @param <T> Sınıf örneği istenen sınıf
+     * @param targetClass Örneği istenen sınıf
+     * @param rows Satırları (özellik haritalarını) sağlayan akış
+     * @param codeStyleNeededOnSearchMethod 'setter' yöntemine ihtiyaç duyulması
+     * durumunda bu yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @return Nesne akışı veyâ {@code targetClass} ya da {@code rows}
+     * {@code null} ise {@code null}
+     */
+    public <T> Stream<T> produceInjectedObjectStream(Class<T> targetClass, Stream<? extends Map<String, ? extends Object>> rows,
+            CODING_STYLE codeStyleNeededOnSearchMethod){
+        if(targetClass == null || rows == null)
+            return null;
+        return getObjectInjector(targetClass, codeStyleNeededOnSearchMethod, true, true, true).stream(rows);
+    }
+    /**
+     * Verilen akıştaki her satırdan hedef sınıfın bir örneğini tembel olarak
+     * üreten bir akış döndürür<br>
+     * Akış paralelse ve kaynak tam olarak bölünemiyorsa iş parçacıklarına en
+     * fazla {@code batchSize} satırlık gruplar verilir; gruplar bölündükçe
+     * büyütülmez
+     * @param <T> Sınıf örneği istenen sınıf
+     * @param targetClass Örneği istenen sınıf
+     * @param rows Satırları (özellik haritalarını) sağlayan akış
+     * @param codeStyleNeededOnSearchMethod 'setter' yöntemine ihtiyaç duyulması
+     * durumunda bu yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @param batchSize Bir iş parçacığına bir seferde verilecek en fazla satır
+     * sayısı; 1'den küçükse 1 kabûl edilir
+     * @return Nesne akışı veyâ {@code targetClass} ya da {@code rows}
+     * {@code null} ise {@code null}
+     */
+    public <T> Stream<T> produceInjectedObjectStream(Class<T> targetClass, Stream<? extends Map<String, ? extends Object>> rows,
+            CODING_STYLE codeStyleNeededOnSearchMethod, int batchSize){
+        if(targetClass == null || rows == null)
+            return null;
+        return getObjectInjector(targetClass, codeStyleNeededOnSearchMethod, true, true, true).stream(rows, batchSize);
+    }
+    /**
+     * Verilen {@code Iterator}'ın sağladığı her satırdan hedef sınıfın bir
+     * örneğini tembel olarak üreten sıralı bir akış döndürür<br>
+     * Akış {@code parallel()} ile paralel hâle getirilebilir; ayrıntılar için
+     * {@code ObjectInjector.stream()} yöntemine bakınız
+     * @param <T> Sınıf örneği istenen sınıf
+     * @param targetClass Örneği istenen sınıf
+     * @param rows Satırları (özellik haritalarını) sağlayan {@code Iterator}
+     * @param codeStyleNeededOnSearchMethod 'setter' yöntemine ihtiyaç duyulması
+     * durumunda bu yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @return Nesne akışı veyâ {@code targetClass} ya da {@code rows}
+     * {@code null} ise {@code null}
+     */
+    public <T> Stream<T> produceInjectedObjectStream(Class<T> targetClass, Iterator<? extends Map<String, ? extends Object>> rows,
+            CODING_STYLE codeStyleNeededOnSearchMethod){
+        if(targetClass == null || rows == null)
+            return null;
+        return getObjectInjector(targetClass, codeStyleNeededOnSearchMethod, true, true, true).stream(rows);
+    }
+    /**
+     * Verilen {@code Iterator}'ın sağladığı her satırdan hedef sınıfın bir
+     * örneğini tembel olarak üreten sıralı bir akış döndürür<br>
+     * Akış {@code parallel()} ile paralel hâle getirilirse satırlar en fazla
+     * {@code batchSize} satırlık gruplar hâlinde iş parçacıklarına dağıtılır
+     * @param <T> Sınıf örneği istenen sınıf
+     * @param targetClass Örneği istenen sınıf
+     * @param rows Satırları (özellik haritalarını) sağlayan {@code Iterator}
+     * @param codeStyleNeededOnSearchMethod 'setter' yöntemine ihtiyaç duyulması
+     * durumunda bu yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @param batchSize Bir iş parçacığına bir seferde verilecek en fazla satır
+     * sayısı; 1'den küçükse 1 kabûl edilir
+     * @return Nesne akışı veyâ {@code targetClass} ya da {@code rows}
+     * {@code null} ise {@code null}
+     */
+    public <T> Stream<T> produceInjectedObjectStream(Class<T> targetClass, Iterator<? extends Map<String, ? extends Object>> rows,
+            CODING_STYLE codeStyleNeededOnSearchMethod, int batchSize){
+        if(targetClass == null || rows == null)
+            return null;
+        return getObjectInjector(targetClass, codeStyleNeededOnSearchMethod, true, true, true).stream(rows, batchSize);
+    }
     /**
      * Verilen alan({@code Field} değerlerini verilen nesneye zerk eder(aktarır)<br>
      * @param <T> Verilen nesnenin tipi
@@ -745,6 +1007,126 @@ public class Reflector{
             return null;
         return produceInjectedObject((Class<T>) targetObject.getClass(), data, codeStyleNeededOnSearchMethod, true, true, targetObject, true, true);
     }
+    /**
+     * Verilen sınıf için önceden hazırlanmış bir zerk planı döndürür<br>
+     * Plan, {@code produceInjectedObject()} ile aynı sonucu üretir; fakat her
+     * anahtar için alanı, 'setter' metodunu ve başarılı olan yolu saklayarak
+     * aynı biçimdeki haritalarda bu bilgileri tekrar aramaz<br>
+     * Aynı sınıf, kodlama biçimi ve ayarlar için her zaman aynı plan döndürülür<br>
+     * Erişim zorlanır, üst sınıflar taranır ve gerektiğinde veri dönüştürülür
+     * @param <T> Zerk işleminin hedef sınıfı
+     * @param targetClass Zerk işleminin hedef sınıfı
+     * @param codingStyle 'setter' yöntemine ihtiyaç duyulması durumunda bu
+     * yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @return Zerk planı veyâ {@code targetClass} {@code null} ise {@code null}
+     */
+    public <T> ObjectInjector<T> getObjectInjector(Class<T> targetClass, CODING_STYLE codingStyle){
+        return getObjectInjector(targetClass, codingStyle, true, true, true);
+    }
+    /**
+     * Verilen sınıf ve sütun sırası için {@code Object[]} satırlarını nesneye
+     * zerk eden, önceden derlenmiş bir satır zerk edicisi döndürür<br>
+     * Satırlar {@code produceInjectedObject()} ile aynı kurallarla zerk
+     * edilir; fakat her satır için harita oluşturulmaz<br>
+     * Erişim zorlanır, üst sınıflar taranır ve gerektiğinde veri dönüştürülür
+     * @param <T> Zerk işleminin hedef sınıfı
+     * @param targetClass Zerk işleminin hedef sınıfı
+     * @param codingStyle 'setter' yöntemine ihtiyaç duyulması durumunda bu
+     * yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @param columns Satırlardaki sütun (alan) isimleri
+     * @return Satır zerk edicisi veyâ {@code targetClass} ya da
+     * {@code columns} {@code null} ise {@code null}
+     */
+    public <T> RowInjector<T> getRowInjector(Class<T> targetClass, CODING_STYLE codingStyle, String... columns){
+        if(targetClass == null)
+            return null;
+        return getObjectInjector(targetClass, codingStyle, true, true, true).getRowInjector(columns);
+    }
+    /**
+     * Verilen sınıf için JDBC {@code ResultSet} satırlarını doğrudan nesneye
+     * dönüştüren bir eşleyici döndürür<br>
+     * Satırlar bir özellik haritasına kopyalanmaz; sütunlar alanlara bir kez
+     * bağlanır ve her satırda tipli okuma yöntemleri kullanılır<br>
+     * Aynı sınıf ve kodlama biçimi için her zaman aynı eşleyici döndürülür<br>
+     * Erişim zorlanır, üst sınıflar taranır ve gerektiğinde veri dönüştürülür
+     * @param <T> Eşleme işleminin hedef sınıfı
+     * @param targetClass Eşleme işleminin hedef sınıfı
+     * @param codingStyle 'setter' yöntemine ihtiyaç duyulması durumunda bu
+     * yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @return {@code ResultSet} eşleyicisi veyâ {@code targetClass}
+     * {@code null} ise {@code null}
+     */
+    public <T> ResultSetMapper<T> getResultSetMapper(Class<T> targetClass, CODING_STYLE codingStyle){
+        if(targetClass == null)
+            return null;
+        return ownedResultSetMappers.get(getSharedInjector(targetClass, codingStyle, true, true, true).getResultSetMapper());
+    }
+    /**
+     * Kaynak sınıfın nesnelerini hedef sınıfın nesnelerine, araya bir özellik
+     * haritası koymadan dönüştüren eşleyiciyi döndürür<br>
+     * Alanlar isimleriyle eşleştirilir; {@code getValueOfFields()} ve
+     * {@code injectData()} çiftinin yerine kullanılabilir. Tipleri farklı
+     * alanlar {@code getCastedObject()} kurallarıyla dönüştürülür (ayrıntılar
+     * için {@code Mapper})<br>
+     * Erişim zorlanır ve üst sınıflar taranır; aynı sınıf çifti ve kodlama
+     * biçimi için her zaman aynı eşleyici döndürülür
+     * @param <S> Kaynak sınıf
+     * @param <T> Hedef sınıf
+     * @param sourceClass Kaynak sınıf
+     * @param targetClass Hedef sınıf
+     * @param codingStyle Gerektiğinde "getter" - "setter" metotları için
+     * kodlama biçimi
+     * @return Eşleyici veyâ sınıflardan birisi ya da {@code codingStyle}
+     * {@code null} ise {@code null}
+     */
+    public <S, T> Mapper<S, T> getMapper(Class<S> sourceClass, Class<T> targetClass, CODING_STYLE codingStyle){
+        if(sourceClass == null || targetClass == null || codingStyle == null)
+            return null;
+        return ownedMappers.get(getSharedInjector(targetClass, codingStyle, true, true, true).getMapper(sourceClass));
+    }
+    /**
+     * Kaynak sınıfın nesnelerini hedef sınıfın nesnelerine, verilen takma
+     * isimleri kullanarak dönüştüren eşleyiciyi derler ve döndürür<br>
+     * Takma ismi verilmeyen alanlar isimleriyle eşleştirilir<br>
+     * Takma isimler değişebileceğinden eşleyici saklanmaz; her çağrıda yeniden
+     * derlenir, bir kez alınıp kullanılmalıdır
+     * @param <S> Kaynak sınıf
+     * @param <T> Hedef sınıf
+     * @param sourceClass Kaynak sınıf
+     * @param targetClass Hedef sınıf
+     * @param codingStyle Gerektiğinde "getter" - "setter" metotları için
+     * kodlama biçimi
+     * @param aliases Kaynak alan ismi - hedef alan ismi haritası veyâ
+     * {@code null}
+     * @return Eşleyici veyâ sınıflardan birisi ya da {@code codingStyle}
+     * {@code null} ise {@code null}
+     */
+    public <S, T> Mapper<S, T> getMapper(Class<S> sourceClass, Class<T> targetClass, CODING_STYLE codingStyle, Map<String, String> aliases){
+        if(sourceClass == null || targetClass == null || codingStyle == null)
+            return null;
+        if(aliases == null || aliases.isEmpty())
+            return getMapper(sourceClass, targetClass, codingStyle);
+        return new Mapper<S, T>(this, getSharedInjector(targetClass, codingStyle, true, true, true), sourceClass, aliases).withOwner(this);
+    }
+    /**
+     * Verilen sınıf için önceden hazırlanmış bir zerk planı döndürür<br>
+     * Aynı sınıf, kodlama biçimi ve ayarlar için her zaman aynı plan döndürülür
+     * @param <T> Zerk işleminin hedef sınıfı
+     * @param targetClass Zerk işleminin hedef sınıfı
+     * @param codingStyle 'setter' yöntemine ihtiyaç duyulması durumunda bu
+     * yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @param tryForceCasting Özelliğin veri tipi uyuşmadığında,
+     * dönüşüm için ek yöntem uygulanmasını istiyorsanız {@code true} yapın
+     * @param scanSuperClasses Üst sınıfların taranması durumu
+     * @param forceAccessibility Erişimin zorlanmasını ifâde eden parametre
+     * @return Zerk planı veyâ {@code targetClass} {@code null} ise {@code null}
+     */
+    public <T> ObjectInjector<T> getObjectInjector(Class<T> targetClass, CODING_STYLE codingStyle,
+            boolean tryForceCasting, boolean scanSuperClasses, boolean forceAccessibility){
+        if(targetClass == null)
+            return null;
+        return ownedInjectors.get(getSharedInjector(targetClass, codingStyle, tryForceCasting, scanSuperClasses, forceAccessibility));
+    }
     /**
      * Verilen dizi sınıfına bakarak dizi boyutunu döndürür<br>
      * @param cls Dizi sınıfı, misal {@code int[][].class} gibi..
@@ -947,11 +1329,7 @@ public class Reflector{
     public List<Field> getFields(Class<?> cls, boolean scanSuperClasses){
         if(cls == null)
             return null;
-        List<Field> li = new ArrayList<Field>();
-        Map<String, Field> map = new HashMap<String, Field>();
-        getFieldsMain(cls, map, scanSuperClasses);
-        li.addAll(map.values());
-        return li;
+        return new ArrayList<Field>(getClassMetadata(cls).getFieldMap(scanSuperClasses).values());
     }
     /**
      * Verilen sınıfın verilen alanlarını alır<br>
@@ -969,8 +1347,7 @@ public class Reflector{
         List<Field> li = new ArrayList<Field>();
         if(givenFieldNames.isEmpty())
             return li;
-        Map<String, Field> map = new HashMap<String, Field>();
-        getFieldsMain(cls, map, scanSuperClasses);
+        Map<String, Field> map = getClassMetadata(cls).getFieldMap(scanSuperClasses);
         for(String name : givenFieldNames){
             Field fl = map.get(name);
             if(fl != null)
@@ -1022,6 +1399,10 @@ public class Reflector{
      * Eğer {@code fields} {@code null} ise {@code null} döndürülür<br>
      * Üst sınıfların taranması {@code scanSuperClasses} parametresine bağlıdır<br>
      * Alınan alan verisi {@code null} olsa bile döndürülen haritaya eklenir<br>
+     * Döndürülen harita değiştirilebilir; anahtarları aynı alan dizisi için
+     * üretilen tüm haritalarca paylaşılır ve değerleri bir dizide tutulur.
+     * Harita {@code injectData()} gibi zerk yöntemlerine verildiğinde anahtar
+     * aranmadan, indisle zerk edilir<br>
      * @param entity Verisi alınmak istenen nesne
      * @param fields Verisi alınmak istenen alanlar
      * @param codingStyle Gerektiğinde "getter" metodu için kodlama biçimi
@@ -1032,48 +1413,218 @@ public class Reflector{
             CODING_STYLE codingStyle, boolean forceAccessibility){
         if(entity == null || fields == null || codingStyle == null)
             return null;
-        Map<String, Object> values = new HashMap<String, Object>();
-        for(Field fl : fields){
-            boolean fetchByMethod = false;
-            if(fl == null)
+        ClassMetadata metadata = getClassMetadata(entity.getClass());
+        FieldValueMap.Schema schema = metadata.getFieldSchema(fields);
+        Object[] values = new Object[schema.size()];// Değerler, şemadaki anahtar sırasıyla
+        int[] plan = getAccessorPlan(metadata, schema, fields, forceAccessibility);
+        if(plan != null)// Sınıf için üretilen erişimcinin okuyabildiği alanları tek çağrıda oku
+            metadata.getAccessorGenerator().current().getAll(entity, plan, values);
+        for(int sayac = 0; sayac < fields.length; sayac++){
+            Field fl = fields[sayac];
+            if(fl == null || (plan != null && plan[schema.positionOf(sayac)] != -1))
                 continue;
-            try{// Alan üzerinden veri çekmeye çalış:
-                Object val = fl.get(entity);
-                values.put(fl.getName(), val);
-            }
-            catch(ExceptionInInitializerError | NullPointerException | IllegalArgumentException exc){
-                fetchByMethod = true;
-//                System.err.println("exc : " + exc.toString());
-            }
-            catch(IllegalAccessException excIllegal){// İzinsiz erişim hatâsı alındıysa;
-                if(forceAccessibility){// Erişim zorlaması yapılmak istendiyse;
-                    try{
-                        fl.setAccessible(true);
-                        Object val = fl.get(entity);
-                        values.put(fl.getName(), val);
-                        fl.setAccessible(false);
-                    }
-                    catch(ExceptionInInitializerError | NullPointerException | IllegalArgumentException | IllegalAccessException exc2nd){
-                        fetchByMethod = true;
-//                        System.err.println("exc2nd : " + exc2nd.toString());
-                    }
-                    catch(SecurityException excOnAccessibility){
+            values[schema.positionOf(sayac)] = getValueOfField(entity, fl, codingStyle, forceAccessibility);
+        }
+        return new FieldValueMap(schema, values);
+    }
+    /**
+     * Verilen nesnenin verilen alanının değerini {@code getValueOfFields()}
+     * ile aynı kurallarla alır<br>
+     * Önce alan okunur; okunamazsa (gerekirse erişim zorlanarak) alanın
+     * "getter" metodu çalıştırılır
+     * @param entity Verisi alınmak istenen nesne
+     * @param fl Verisi alınmak istenen alan
+     * @param codingStyle Gerektiğinde "getter" metodu için kodlama biçimi
+     * @param forceAccessibility Erişimi zorlamayı ifâde eden parametre
+     * @return Alanın değeri veyâ {@code null}
+     */
+    Object getValueOfField(Object entity, Field fl, CODING_STYLE codingStyle, boolean forceAccessibility){
+        boolean fetchByMethod = false;
+        try{// Alan üzerinden veri çekmeye çalış:
+            FieldAccessor accessor = getFieldAccessor(fl, false);
+            if(!accessor.canGet(entity)){// Hatâ almadan diğer yollara geç
+                if(accessor.isReadable)
+                    fetchByMethod = true;
+                else if(forceAccessibility){
+                    FieldAccessor accessible = getFieldAccessor(fl, true);
+                    if(accessible != null && accessible.canGet(entity))
+                        return accessible.get(entity);
+                    else
                         fetchByMethod = true;
-//                        System.err.println("excOnAccessibility : " + excOnAccessibility.toString());
-                    }
                 }
                 else
                     fetchByMethod = true;
             }
-            
-            // Eğer veri, alan üzerinden alınamıyorsa, metot üzerinden almayı dene:
-            if(fetchByMethod){
-                Method m = getSpecialMethod(entity.getClass(),fl.getName(), METHOD_TYPES.GET, codingStyle);
-                Object val = invokeMethod(entity, m, null, forceAccessibility);
-                values.put(fl.getName(), val);
+            else
+                return accessor.get(entity);
+        }
+        catch(ExceptionInInitializerError | NullPointerException | IllegalArgumentException exc){
+            fetchByMethod = true;
+//            System.err.println("exc : " + exc.toString());
+        }
+        catch(IllegalAccessException excIllegal){// İzinsiz erişim hatâsı alındıysa;
+            if(forceAccessibility){// Erişim zorlaması yapılmak istendiyse;
+                try{
+                    FieldAccessor accessible = getFieldAccessor(fl, true);
+                    if(accessible != null)
+                        return accessible.get(entity);
+                    else
+                        fetchByMethod = true;
+                }
+                catch(ExceptionInInitializerError | NullPointerException | IllegalArgumentException | IllegalAccessException exc2nd){
+                    fetchByMethod = true;
+//                    System.err.println("exc2nd : " + exc2nd.toString());
+                }
+                catch(SecurityException excOnAccessibility){
+                    fetchByMethod = true;
+//                    System.err.println("excOnAccessibility : " + excOnAccessibility.toString());
+                }
             }
+            else
+                fetchByMethod = true;
         }
-        return values;
+        
+        // Eğer veri, alan üzerinden alınamıyorsa, metot üzerinden almayı dene:
+        if(fetchByMethod){
+            Method m = getSpecialMethod(entity.getClass(),fl.getName(), METHOD_TYPES.GET, codingStyle);
+            return invokeMethod(entity, m, null, forceAccessibility);
+        }
+        return null;
+    }
+    /**
+     * Verilen nesnenin alanlarını, nesneye bağlı canlı bir {@code Map}
+     * olarak döndürür<br>
+     * {@code getValueOfFields()}'ın aksine alanlar önceden okunmaz; her
+     * {@code get()} yalnızca istenen alanı okur ve her {@code put()} değeri
+     * doğrudan nesneye yazar. Okuma ve yazma, {@code getValueOfFields()} ve
+     * {@code injectData()} ile aynı 'getter' - 'setter' kurallarını izler<br>
+     * Çok alanlı nesnelerin az sayıda alanının okunduğu durumlar için uygundur
+     * @param entity Görünümü istenen nesne
+     * @param codingStyle Gerektiğinde "getter" - "setter" metodu için kodlama
+     * biçimi
+     * @param forceAccessibility Erişimin zorlanmasını ifâde eden parametre
+     * @param scanSuperClasses Üst sınıfların taranmasını ifâde eden parametre
+     * @return Nesneye bağlı harita görünümü veyâ {@code entity} ya da
+     * {@code codingStyle} {@code null} ise {@code null}
+     */
+    public BeanMapView getBeanMapView(Object entity, CODING_STYLE codingStyle, boolean forceAccessibility, boolean scanSuperClasses){
+        if(entity == null || codingStyle == null)
+            return null;
+        return new BeanMapView(this, entity, codingStyle, forceAccessibility, scanSuperClasses);
+    }
+    /**
+     * Aynı sınıftan iki nesnenin değişen alanlarını, yeni değerleriyle
+     * döndürür<br>
+     * Erişim zorlanır, üst sınıflar taranır ve gerektiğinde "getter"
+     * metotları {@code CODING_STYLE.CAMEL_CASE} biçiminde aranır
+     * @param oldEntity Nesnenin eski hâli
+     * @param newEntity Nesnenin yeni hâli
+     * @return Değişen alan isimleri ve yeni değerleri veyâ nesnelerden birisi
+     * {@code null} ise ya da sınıfları farklıysa {@code null}
+     * @see #diff(Object, Object, CODING_STYLE, boolean, boolean)
+     */
+    public Map<String, Object> diff(Object oldEntity, Object newEntity){
+        return diff(oldEntity, newEntity, CODING_STYLE.CAMEL_CASE, true, true);
+    }
+    /**
+     * Aynı sınıftan iki nesnenin değişen alanlarını, yeni değerleriyle
+     * döndürür<br>
+     * Alanlar sınıf başına bir kez çıkarılan erişimcilerle okunur;
+     * {@code int}, {@code long} ve {@code double} alanlar kutulanmadan, aynı
+     * referansı gösteren alanlar {@code equals()} çağrılmadan karşılaştırılır.
+     * Diğer alanlar {@code equals()} ile, diziler içerikleriyle
+     * karşılaştırılır<br>
+     * Alan okunamazsa {@code getValueOfFields()}'ta olduğu gibi "getter"
+     * metodu kullanılır<br>
+     * Döndürülen harita {@code applyPatch()} veyâ {@code injectData()} ile
+     * başka bir nesneye (anahtar aranmadan) zerk edilebilir
+     * @param oldEntity Nesnenin eski hâli
+     * @param newEntity Nesnenin yeni hâli
+     * @param codingStyle Gerektiğinde "getter" metodu için kodlama biçimi
+     * @param forceAccessibility Erişimin zorlanmasını ifâde eden parametre
+     * @param scanSuperClasses Üst sınıfların taranmasını ifâde eden parametre
+     * @return Değişen alan isimleri ve yeni değerleri veyâ nesnelerden birisi
+     * ya da {@code codingStyle} {@code null} ise ya da nesnelerin sınıfları
+     * farklıysa {@code null}
+     */
+    public Map<String, Object> diff(Object oldEntity, Object newEntity, CODING_STYLE codingStyle, boolean forceAccessibility, boolean scanSuperClasses){
+        if(oldEntity == null || newEntity == null || codingStyle == null)
+            return null;
+        if(oldEntity.getClass() != newEntity.getClass())
+            return null;
+        return getClassMetadata(oldEntity.getClass()).getObjectDiffer(codingStyle, forceAccessibility, scanSuperClasses).diff(oldEntity, newEntity);
+    }
+    /**
+     * {@code diff()} ile elde edilen değişiklikleri verilen nesneye
+     * uygular<br>
+     * Değerler {@code injectData()} ile aynı kurallarla ('setter' ve veri
+     * dönüştürme dâhil) zerk edilir; yalnızca haritadaki alanlar yazılır
+     * @param <T> Hedef nesnenin tipi
+     * @param target Değişikliklerin uygulanacağı nesne
+     * @param patch Alan isimleri ve yeni değerleri
+     * @param codingStyle 'setter' yöntemine ihtiyaç duyulması durumunda bu
+     * yöntemin hangi kodlama standardına göre aranacağı bilgisi
+     * @return Değişikliklerin uygulandığı nesne veyâ {@code target} ya da
+     * {@code patch} {@code null} ise {@code null}
+     */
+    public <T> T applyPatch(T target, Map<String, ? extends Object> patch, CODING_STYLE codingStyle){
+        if(target == null || patch == null)
+            return null;
+        return getSharedInjector((Class<T>) target.getClass(), codingStyle, true, true, true).inject(target, patch);
+    }
+    /**
+     * Verilen nesnenin, serileştirme kullanılmadan derin kopyasını üretir<br>
+     * Temel veri tipleri, {@code String}, {@code enum} ve {@code UUID},
+     * {@code BigDecimal}, zamân tipleri gibi değişmez sınıfların nesneleri
+     * kopyalanmaz, paylaşılır; diziler, koleksiyonlar, haritalar ve kullanıcı
+     * sınıfları (üst sınıf alanları ve {@code final} alanlar dâhil) kopyalanır<br>
+     * Aynı nesneye verilen referanslar kopyada da tek bir nesneyi gösterir;
+     * döngüsel referanslar korunur<br>
+     * Alanlarına erişilemeyen veyâ parametresiz yapıcı yöntemi olmayan
+     * sınıfların nesneleri kopyalanmaz, paylaşılır<br>
+     * Sınıf başına kopyalama planı bir kez çıkarılıp saklanır
+     * @param <T> Nesnenin tipi
+     * @param source Kopyalanmak istenen nesne
+     * @return Nesnenin derin kopyası veyâ {@code source} {@code null} ise
+     * {@code null}
+     */
+    public <T> T deepCopy(T source){
+        if(source == null)
+            return null;
+        return (T) new DeepCopier(this).copy(source);
+    }
+    /**
+     * Verilen nesnelerin, verilen alanlarının değerlerini alan başına bir
+     * sütun dizisine çıkarır<br>
+     * Her nesne için harita oluşturulmaz; temel tipteki alanlar kutulanmadan
+     * {@code int[]}, {@code long[]} veyâ {@code double[]} sütunlara, diğerleri
+     * {@code Object[]} sütunlara yazılır (ayrıntılar için {@code FieldColumns})<br>
+     * Alanlar verilen sınıfta aranır; değerler, {@code getValueOfFields()}
+     * ile aynı biçimde önce alandan, alınamazsa 'getter' metodundan okunur<br>
+     * Eğer {@code fieldNames} {@code null} ise tüm alanlar çıkarılır
+     * @param <T> Nesnelerin sınıfı
+     * @param cls Alanların aranacağı sınıf
+     * @param entities Alan değerleri alınmak istenen nesneler
+     * @param fieldNames İstenen alanların isimleri
+     * @param codingStyle Gerektiğinde "getter" metodu için kodlama biçimi
+     * @param forceAccessibility Erişimin zorlanmasını ifâde eden parametre
+     * @param scanSuperClasses Üst sınıfların taranmasını ifâde eden parametre
+     * @return Alanların sütunları veyâ {@code null}
+     */
+    public <T> FieldColumns getColumnsOfFields(Class<T> cls, List<? extends T> entities, List<String> fieldNames,
+            CODING_STYLE codingStyle, boolean forceAccessibility, boolean scanSuperClasses){
+        if(cls == null || entities == null || codingStyle == null)
+            return null;
+        List<Field> liFields;
+        if(fieldNames == null)
+            liFields = getFields(cls, scanSuperClasses);
+        else
+            liFields = getFields(cls, fieldNames, scanSuperClasses);
+        if(liFields == null)
+            return null;
+        Field[] takens = new Field[liFields.size()];
+        liFields.toArray(takens);
+        return new ColumnExtractor(this, codingStyle, forceAccessibility).extract(entities.toArray(), takens);
     }
     /**
      * Verilen nesneyi kullanarak verilen metodu çalıştırır<br>
@@ -1117,34 +1668,63 @@ public class Reflector{
      * @return Metottan dönen sonuç veyâ {@code null}
      */
     public Object invokeMethod(Object entity, Method target, Object[] inputs, boolean forceAccessibility, Map<String, Object> result){
-        if(target == null)// entity 'null' olabilir (statik metot ise)
-            return null;
-        Object res = null;
+        InvocationResult invocation = new InvocationResult();
+        boolean isSuccessful = tryInvokeMethod(entity, target, inputs, forceAccessibility, invocation);
         if(result != null)
-            result.put("result", Boolean.FALSE);
-        try{
-            res = target.invoke(entity, inputs);
-            if(result != null)
-                result.put("result", Boolean.TRUE);
-        }
-        catch(InvocationTargetException | IllegalArgumentException | SecurityException exc){
-//            System.err.println("exc : " + exc.toString());
-        }
-        catch(IllegalAccessException exc){
-            if(forceAccessibility){
+            result.put("result", isSuccessful);
+        return invocation.getValue();
+    }
+    /**
+     * Verilen nesneyi kullanarak verilen metodu çalıştırır<br>
+     * Metot girdileri {@code inputs} parametresiyle sırasıyla belirtilmelidir<br>
+     * Eğer metot girdi almıyorsa {@code inputs}'a {@code null} verilmelidir<br>
+     * Erişimi zorlamak için {@code forceAccessibility} parametresi kullanılır<br>
+     * Erişim izni ve girdilerin uygunluğu çağrıdan önce denetlendiğinden olağan
+     * akışta hatâ fırlatılmaz; metodun kendisi hatâ fırlatmadıkça çağrı başına
+     * yalnızca verilen {@code result} nesnesi güncellenir<br>
+     * Metottan dönen değer, metodun fırlattığı hatâ ve çağrının durumu
+     * {@code result} nesnesine yazılır; {@code result} tekrar kullanılabilir<br>
+     * @param entity Metodun çalıştırılacağı nesne
+     * @param target Metodun kendisi
+     * @param inputs Metoda verilecek girdi dizisi
+     * @param forceAccessibility Erişimi zorlamayı belirten parametre
+     * @param result Çağrı sonucunun yazılacağı nesne veyâ {@code null}
+     * @return Metot çalıştırıldıysa {@code true}, aksi hâlde {@code false}
+     */
+    public boolean tryInvokeMethod(Object entity, Method target, Object[] inputs, boolean forceAccessibility, InvocationResult result){
+        InvocationResult.STATUS status;
+        Object res = null;
+        Throwable thrown = null;
+        if(target == null)// entity 'null' olabilir (statik metot ise)
+            status = InvocationResult.STATUS.NOT_INVOKED;
+        else{
+            MethodAccessor accessor = getMethodAccessor(target, false);
+            if(!accessor.isAccessible)
+                accessor = (forceAccessibility ? getMethodAccessor(target, true) : null);
+            if(accessor == null || !accessor.isAccessible)
+                status = InvocationResult.STATUS.ILLEGAL_ACCESS;
+            else if(!accessor.canInvoke(entity, inputs))
+                status = InvocationResult.STATUS.ILLEGAL_ARGUMENT;
+            else{
                 try{
-                    target.setAccessible(true);
-                    res = target.invoke(entity, inputs);
-                    if(result != null)
-                        result.put("result", Boolean.TRUE);
-                    target.setAccessible(false);
+                    res = accessor.invoke(entity, inputs);
+                    status = InvocationResult.STATUS.SUCCESS;
                 }
-                catch(SecurityException | InvocationTargetException | IllegalArgumentException |IllegalAccessException exc2nd){
-//                    System.err.println("exc2nd : " + exc2nd.toString());
+                catch(InvocationTargetException exc){
+                    thrown = exc.getCause();
+                    status = InvocationResult.STATUS.TARGET_EXCEPTION;
+                }
+                catch(IllegalAccessException | SecurityException exc){// Ön denetime rağmen erişim reddedildiyse
+                    status = InvocationResult.STATUS.ILLEGAL_ACCESS;
+                }
+                catch(IllegalArgumentException exc){
+                    status = InvocationResult.STATUS.ILLEGAL_ARGUMENT;
                 }
             }
         }
-        return res;
+        if(result != null)
+            result.set(status, res, thrown);
+        return status == InvocationResult.STATUS.SUCCESS;
     }
     /**
      * {@code methodNames} parametresi {@code null} ise tüm metotlar alınır<br>
@@ -1157,11 +1737,7 @@ public class Reflector{
     public List<Method> getMethods(Class<?> cls, boolean scanSuperClasses){
         if(cls == null)
             return null;
-        List<Method> li = new ArrayList<Method>();
-        Map<String, Method> map = new HashMap<String, Method>();
-        getMethodsMain(cls, map, scanSuperClasses);
-        li.addAll(map.values());
-        return li;
+        return new ArrayList<Method>(getClassMetadata(cls).getMethodMap(scanSuperClasses).values());
     }
     /**
      * "getter" gibi özel metotları almak için kullanılan bir metottur<br>
@@ -1192,29 +1768,7 @@ public class Reflector{
         CODING_STYLE codingStyle, boolean scanSuperClasses){
         if(cls == null || fieldName == null || methodType == null)
             return null;
-        String methodName = getMethodNameDependsCodeStyle(fieldName, codingStyle, methodType);
-        Method found = null;
-        try{
-            Method[] mS = cls.getDeclaredMethods();
-            for(Method m : mS){
-                if(m.getName().equals(methodName))
-                    found = m;
-            }
-            if(found == null){
-                if(scanSuperClasses){
-                    Class<?> clsSuper = cls.getSuperclass();
-                    if(clsSuper != null){
-                        if(!clsSuper.equals(Object.class))
-                            return getSpecialMethod(cls.getSuperclass(), fieldName, methodType, codingStyle);
-                    }
-                }
-            }
-            return found;
-        }
-        catch(SecurityException exc){
-            System.err.println("exc : " + exc.toString());
-            return null;
-        }
+        return getClassMetadata(cls).getSpecialMethod(fieldName, methodType, codingStyle, scanSuperClasses);
     }
     /**
      * Verilen listedeki isimlerdeki metotlar aranır<br>
@@ -1231,8 +1785,7 @@ public class Reflector{
         List<Method> res = new ArrayList<Method>();
         if(givenMethodNames.isEmpty())
             return res;
-        Map<String, Method> map = new HashMap<String, Method>();
-        getMethodsMain(cls, map, scanSuperClasses);
+        Map<String, Method> map = getClassMetadata(cls).getMethodMap(scanSuperClasses);
         for(String s : givenMethodNames){
             Method m = map.get(s);
             if(m != null)
@@ -1376,13 +1929,8 @@ public class Reflector{
             return false;
         if(nameOfIdField.isEmpty())
             return false;
-        try{// Alanı mevcut sınıf içerisinde ara:
-            Field fl = cls.getDeclaredField(nameOfIdField);
-            return (fl != null);
-        }
-        catch(NoSuchFieldException | SecurityException exc){// Alan yoksa, üst sınıfa bak
-            return checkFieldIsExist(cls.getSuperclass(), nameOfIdField);
-        }
+        // Alanı mevcut sınıf ve üst sınıflar içerisinde ara:
+        return getClassMetadata(cls).getFieldMap(true).containsKey(nameOfIdField);
     }
     /**
      * Verilen sınıfın bir târih - saat, saat veyâ târih sınıfı olup, olmadığını
@@ -1438,34 +1986,24 @@ public class Reflector{
     public boolean isAboutListArrayConverting(Class<?> cls, Object obj){
         if(cls == null || obj == null)
             return false;
-        boolean matched1st = false;
-        boolean matched2nd = false;
-        if(cls.isArray())
-            matched1st = true;
-        if(obj.getClass().isArray())
-            matched2nd = true;
-        if(!matched1st){
-            try{
-                Class<?> casted = cls.asSubclass(List.class);
-                if(casted == null)
-                    return false;
-                matched1st = true;
-            }
-            catch(ClassCastException exc){
-                return false;
-            }
-        }
-        if(!matched2nd){
-            try{
-                Class<?> casted = obj.getClass().asSubclass(List.class);
-                if(casted == null)
-                    return false;
-                matched2nd = true;
-            }
-            catch(ClassCastException exc){
-                return false;
-            }
-        }
+        return isAboutListArrayConvertingByClass(cls, obj.getClass());
+    }
+    /**
+     * Verilen sınıftaki bir nesnenin, hedef sınıfa çevrilmesinin şu kapsamda
+     * olup, olmadığı sorgulanır:<br>
+     * - {@code List}'ten {@code Array}'e<br>
+     * - {@code Array}'den {@code List}'e<br>
+     * - {@code List}'den {@code List}'e<br>
+     * - {@code Array}'den {@code Array}'e<br>
+     * @param cls Hedef sınıf
+     * @param clsOfValue Dönüştürülmek istenen nesnenin sınıfı
+     * @return Dönüşüm belirtilen kapsamdaysa {@code true},değilse {@code false}
+     */
+    boolean isAboutListArrayConvertingByClass(Class<?> cls, Class<?> clsOfValue){
+        if(cls == null || clsOfValue == null)
+            return false;
+        boolean matched1st = cls.isArray() || List.class.isAssignableFrom(cls);
+        boolean matched2nd = clsOfValue.isArray() || List.class.isAssignableFrom(clsOfValue);
         return matched1st & matched2nd;
     }
     /**
@@ -1615,12 +2153,73 @@ public class Reflector{
     }
 
     // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    /**
+     * İş parçacığının sayı ayrıştırıcısını döndürür<br>
+     * Ayrıştırıcı iş parçacığında zayıf referansla tutulur; güçlü referansla
+     * tutulursa, kütüphâne bir web uygulamasının içindeyken sunucunun iş
+     * parçacıkları uygulamanın yükleyicisini bellekte tutar
+     * @return Sayı ayrıştırıcı
+     */
+    private NumberParser getNumberParser(){
+        WeakReference<NumberParser> ref = numberParser.get();
+        NumberParser parser = (ref == null ? null : ref.get());
+        if(parser == null){
+            parser = new NumberParser();
+            numberParser.set(new WeakReference<NumberParser>(parser));
+        }
+        return parser;
+    }
+    /**
+     * {@code GENERATED} arka ucunda, nesnenin sınıfı için erişimci sınıfı
+     * üretildiyse şemanın anahtarları için üretilen erişimcinin okuyacağı alan
+     * indislerini döndürür<br>
+     * Yalnızca sınıfta tanımlanan ve {@code getValueOfField()}'ın alandan
+     * okuyacağı alanlar planlanır; diğer anahtarlar için {@code -1} bulunur.
+     * Plan şemada saklanır
+     * @return Alan indisleri veyâ üretilen erişimci kullanılamıyorsa
+     * {@code null}
+     */
+    private int[] getAccessorPlan(ClassMetadata metadata, FieldValueMap.Schema schema, Field[] fields, boolean forceAccessibility){
+        if(getAccessorBackend() != ACCESSOR_BACKEND.GENERATED)
+            return null;
+        AccessorGenerator generator = metadata.getAccessorGenerator();
+        if(generator.current() == null)
+            return null;
+        int[] plan = schema.getAccessorPlan(forceAccessibility);
+        if(plan != null)
+            return plan;
+        plan = new int[schema.size()];
+        Arrays.fill(plan, -1);
+        boolean[] isRepeated = new boolean[plan.length];
+        Field[] declared = metadata.getDeclaredFields();
+        for(int sayac = 0; sayac < fields.length; sayac++){
+            Field fl = fields[sayac];
+            if(fl == null)
+                continue;
+            int position = schema.positionOf(sayac);
+            if(isRepeated[position]){// Aynı isimde birden fazla alan; sıralı okumaya bırak
+                plan[position] = -1;
+                continue;
+            }
+            isRepeated[position] = true;
+            int index = (fl.getDeclaringClass() == metadata.getTargetClass() ? metadata.indexOfField(fl.getName()) : -1);
+            if(index == -1 || !declared[index].equals(fl) || !generator.canGet(index))
+                continue;
+            // Alanın erişim bayrağı sonradan değişebileceğinden bayraktan bağımsız erişimcilere bakılır:
+            if(metadata.getFieldAccessor(fl.getName(), false, accessorBackend).isReadable
+                || (forceAccessibility && metadata.getFieldAccessor(fl.getName(), true, accessorBackend) != null))
+                plan[position] = index;
+        }
+        schema.setAccessorPlan(forceAccessibility, plan);
+        return plan;
+    }
     /**
      * Verilen özellik haritası {@code null} ise {@code null} döndürülür<br>
      * Verilen özellik haritası boş ise, yeni oluşturulan nesne döndürülür<br>
      * Verilen veriyi hedef sınıftaki nesneye zerk ederek nesne üretmeye çalışır
-     * Şu an parametresiz yapıcı yöntemi bulunmayan sınıfın örneği üretilemiyor;
-     * fakat nesnenin kullanıcı tarafından sağlanması destekleniyor
+     * Parametresiz yapıcı yöntemi bulunmayan sınıfların ve kayıtların örneği
+     * yapıcı yöntem parametreleriyle üretilir; nesnenin kullanıcı tarafından
+     * sağlanması da destekleniyor
      * {@code enum} değerler için "getter" erişim yöntemi aranmıyor; yanî enum 
      * değerin gizli olmaması lazım<br>
      * {@code scanSuperClasses} parametresi sadece alanı tararken geçerlidir
@@ -1642,136 +2241,40 @@ public class Reflector{
             CODING_STYLE codingStyle, boolean tryForceCasting
             /*, boolean isIncludeNoParameterConstructor, List<Object> parameterForConstructor*/,
             boolean useGivenInstance, T instance, boolean scanSuperClasses, boolean forceAccessibility){
-        try{// Hedef veri tipinin uygunluğunu kontrol et
-            if(isNotUserDefinedClass(targetClass))
-                return null;
-        }
-        catch(IllegalArgumentException exc){
-            System.err.println(exc.toString());
+        if(targetClass == null)
             return null;
-        }
-//        if(!isIncludeNoParameterConstructor(targetClass)){} : Eklenecek inşâAllâh
-//          else
-        T obj = null;
-        if(useGivenInstance && instance != null)// Verilerin zerk edileceği nesne kullanıcı tarafından verildiyse ve 'null' değilse;
-            obj = instance;
-        else// Diğer durumda yeni bir sınıf örneği oluştur
-            obj = produceInstance(targetClass);
-        if(obj == null || data == null)// Hedef veri tipinin örneği oluşturulamadıysa veyâ verilen özellik haritası = null
-            return null;
-        if(data.isEmpty())// Verilen özellik haritasında bir özellik yoksa..
-            return obj;
-        if(targetClass.isEnum())
-            return getEnumByData(targetClass, data.values().iterator().next());
-        List<String> targets = new ArrayList<String>();
-        targets.addAll(data.keySet());
-        List<Field> fields = getFields(targetClass, targets, scanSuperClasses);// Bu sınıfta bulamazsan, üst sınıfı ara
-        for(Field fl : fields){
-            if(fl == null)
-                continue;
-            Class<?> clsField = fl.getType();
-            String flName = fl.getName();
-            Object value = data.get(flName);
-            if(value == null){// Eğer veri 'null' ise, ilgili alan listede olabilir
-                // olmayabilir; kesin sonuç için isim koleksiyonunu kontro et:
-                if(!isInTheList(data.keySet(), flName))
-                    continue;
-                if(clsField.isPrimitive())// Temel veri tipine 'null' değer zerk edilemez
-                    continue;
-            }
-            boolean execSetter = false;// "'setter' metodunu çalıştır" bayrağı
-            boolean forceCast = false;// 'Veriyi çevirmeye zorla' bayrağı
-            boolean isSuccessful = false;// 'İşlem başarılı oldu' bayrağı
-            boolean isCollectionOrMap = isCollectionOrMap(clsField);// Değerin sınıfı koleksiyon veyâ harita ise 'true' olmalıdır
-            // Koleksiyonlarda farklı tiplerdekiler de zerk edilebildiğinden veriyi dönüştürmek gerekiyor:
-            if(isCollectionOrMap)
-                value = getCastedCollectionOrMap(fl, value);
-            if(clsField.equals(UUID.class) && value.getClass().equals(String.class)){
-                try{
-                    value = UUID.fromString((String) value);
-                }
-                catch(IllegalArgumentException excForUUID){}
-            }
-            try{
-                fl.set(obj, value);
-                isSuccessful = true;
-            }
-            catch(IllegalArgumentException | SecurityException | ExceptionInInitializerError exc){
-//                System.err.println("exc : " + exc);
-                if(exc.getClass().equals(IllegalArgumentException.class))
-                    if(tryForceCasting)
-                        forceCast = true;
-                execSetter = true;
-            }
-            catch(IllegalAccessException excFromIllegal){
-                if(forceAccessibility){
-                    try{
-                        fl.setAccessible(true);
-                        fl.set(obj, value);
-                        isSuccessful = true;
-                        fl.setAccessible(false);
-                    }
-                    catch(IllegalAccessException | IllegalArgumentException | SecurityException | ExceptionInInitializerError exc2nd){
-                        execSetter = true;
-                    }
-                }
+        ObjectInjector<T> injector = getSharedInjector(targetClass, codingStyle, tryForceCasting, scanSuperClasses, forceAccessibility);
+        return injector.inject((useGivenInstance ? instance : null), data);
+    }
+    /**
+     * Temel veri tipleri, sarmalayıcıları ve {@code enum} sınıfları için
+     * {@code produceInstance()} sonucunu üretir; sonuç değişmez olduğundan
+     * sınıf başına bir kez üretilip saklanır
+     * @param target Temel veri tipi, sarmalayıcısı veyâ {@code enum} sınıfı
+     * @return Üretilen değer veyâ {@code null}
+     */
+    Object produceBasicInstance(Class<?> target){
+        if(target.isEnum())// Hedef bir ENUM ise;
+            return getProducedInstanceForEnumMain(target);
+        Object obj = null;
+        try{
+            Class<?> wrapper;
+            if(target.isPrimitive())
+                wrapper = getWrapperClassFromPrimitiveClass(target);// Eğer temel veri tipi sınıfı ise, sarmalayıcı sınıfı edin
+            else
+                wrapper = target;
+            String parameterOfConstructor = getParameterForConstructorOfWrapperBasicClass(target);
+            if(parameterOfConstructor != null){
+                obj = wrapper.getConstructor(String.class).newInstance(parameterOfConstructor);
             }
-            Method setterMethod = null;
-            if(!isSuccessful && execSetter){
-                setterMethod = getSpecialMethod(targetClass, flName, METHOD_TYPES.SET, codingStyle, scanSuperClasses);
-                if(setterMethod != null){// 'setter' metodu varsa kullan:
-                    Map<String, Object> resultOfInvoking = new HashMap<String, Object>();
-                    invokeMethod(obj, setterMethod, new Object[]{value}, forceAccessibility, resultOfInvoking);
-                    isSuccessful = (Boolean) resultOfInvoking.get("result");
-                    if(!isSuccessful){// Metot çalıştırma başarısız olduysa;
-                        if(tryForceCasting && value != null)// (veri 'null' ise zâten metot çalıştırma başarılı olurdu..)
-                            forceCast = true;
-                    }
-                }
-            }
-            if(!isSuccessful && forceCast){// Veri tipini dönüştürmeye çalış:
-                Object casted = getCastedObject(clsField, value);
-                if(value != null && casted != null){// Veri hedef alanın tipine çevrilemedi (fakat metodun girdi tipine çevrilebilir)
-                    try{
-                        fl.set(obj, casted);
-                        isSuccessful = true;
-                    }
-                    catch(IllegalArgumentException | SecurityException | ExceptionInInitializerError exc3rd){}
-                    catch(IllegalAccessException exc3rdIllegal){
-                        if(forceAccessibility){
-                            try{
-                                fl.setAccessible(true);
-                                fl.set(obj, casted);
-                                isSuccessful = true;
-                                fl.setAccessible(false);
-                            }
-                            catch(IllegalAccessException | IllegalArgumentException | SecurityException | ExceptionInInitializerError exc2nd){}
-                        }
-                    }
-                }
-                if(!isSuccessful && execSetter){
-                    if(setterMethod != null){// Alanın bir 'setter' metodu varsa;
-                        Map<String, Object> resultOfInvoking = new HashMap<String, Object>();
-                        invokeMethod(obj, setterMethod, new Object[]{casted}, forceAccessibility, resultOfInvoking);
-                        isSuccessful = (Boolean) resultOfInvoking.get("result");
-                        if(!isSuccessful){// Metot çalıştırma başarısız olduysa;
-                            // Veriyi metodun girdi tipine çevirmeye çalış:
-                            Class<?> inputType = setterMethod.getParameterTypes()[0];
-                            if(inputType != null){
-                                casted = getCastedObject(inputType, value);
-                                if(casted != null){
-                                    invokeMethod(obj, setterMethod, new Object[]{casted}, forceAccessibility, resultOfInvoking);
-                                    isSuccessful = (Boolean) resultOfInvoking.get("result");
-                                    if(!isSuccessful){
-                                        System.err.println("Tüm çabalara rağmen veri hedef alana zerk edilemedi : " + fl.getName());
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+            else if(target.equals(Character.class)){
+                obj = wrapper.getConstructor(char.class).newInstance(' ');
             }
         }
+        catch(NoSuchMethodException | SecurityException | InstantiationException | IllegalArgumentException | IllegalAccessException | InvocationTargetException exc){
+            System.err.println("exc : " + exc.toString());
+            return null;
+        }
         return obj;
     }
     private <T> T getProducedInstanceForEnumMain(Class<T> targetEnum){
@@ -1901,7 +2404,7 @@ public class Reflector{
             return null;
         List<String> values = new ArrayList<String>();
         try{
-            Field[] fields = target.getDeclaredFields();
+            Field[] fields = getClassMetadata(target).getDeclaredFields();
             for(Field fl : fields){
                 boolean found = false;
                 T[] specs = fl.getDeclaredAnnotationsByType(annotation);
@@ -1924,62 +2427,6 @@ public class Reflector{
         }
         return values;
     }
-    private void getFieldsMain(Class<?> cls, Map<String, Field> map, boolean takeFieldsInSuperClasses){
-        if(cls == null)
-            return;
-        try{
-            Field[] fields = cls.getDeclaredFields();
-            for(Field fl : fields){
-                // Üst sınıftaki alanların alt sınıftakilerin yerine geçmemesi
-                // için şu şart eklenmelidir:
-                if(map.get(fl.getName()) == null)
-                    map.put(fl.getName(), fl);
-            }
-            if(takeFieldsInSuperClasses){
-                Class<?> clsSuper = cls.getSuperclass();
-                if(clsSuper != null){
-                    if(!clsSuper.equals(Object.class)){
-                        getFieldsMain(clsSuper, map, takeFieldsInSuperClasses);
-                    }
-                }
-            }
-        }
-        catch(SecurityException exc){
-            System.err.println("exc : " + exc.toString());
-        }
-    }
-    /**
-     * Verilen sınıfın tüm metotlarını alır ve döndürür<br>
-     * Üst sınıfların taranması {@code scanSuperClasses} parametresine bağlıdır<br>
-     * @param cls Hedef sınıf
-     * @param map Metotların eklendiği harita (özyinelemeli döngü için)
-     * @param scanSuperClasses Üst sınıflar taranacak mı
-     */
-    private void getMethodsMain(Class<?> cls, Map<String, Method> map,
-        boolean scanSuperClasses){
-        if(cls == null)
-            return;
-        try{
-            Method[] methods = cls.getDeclaredMethods();
-            for(Method m : methods){
-                // Üst sınıftaki metotların alt sınıftakilerin yerine geçmemesi
-                // için şu şart eklenmelidir:
-                if(map.get(m.getName()) == null)
-                    map.put(m.getName(), m);
-            }
-            if(scanSuperClasses){
-                Class<?> clsSuper = cls.getSuperclass();
-                if(clsSuper != null){
-                    if(!clsSuper.equals(Object.class)){
-                        getMethodsMain(clsSuper, map, scanSuperClasses);
-                    }
-                }
-            }
-        }
-        catch(SecurityException exc){
-            System.err.println("exc : " + exc.toString());
-        }
-    }
     /**
      * Bu metodun amacı, generic tipli koleksiyon / harita nesnelerine
      * veri zerki işleminin yapılmasını sağlamaktır<br>
@@ -1991,7 +2438,7 @@ public class Reflector{
      * @param value Hedef alana zerk edilmek istenen değer
      * @return Hedef alanla tip uyumlu veri veyâ {@code null}
      */
-    private Object getCastedCollectionOrMap(Class<?> target, String genericTypeName, Object value){
+    Object getCastedCollectionOrMap(Class<?> target, String genericTypeName, Object value){
         if(genericTypeName == null || value == null || target == null)
             return null;
         boolean isMap = false;
@@ -2262,28 +2709,99 @@ public class Reflector{
 // ERİŞİM YÖNTEMLERİ:
     //ANA ERİŞİM YÖNTEMİ
     /**
-     * {@code Reflector} nesnesini "singleton" olarak döndürür
+     * {@code Reflector} nesnesini "singleton" olarak döndürür<br>
+     * Nesne ilk çağrıda, sınıf yükleyicinin ilklendirme garantisiyle
+     * ('holder' deyimi) bir kez oluşturulur; sonraki çağrılar kilit almaz
      * @return {@code "Reflector"} servisi
      */
     public static Reflector getService(){
-        if(serv == null)
-            serv = new Reflector();
-        return serv;
+        return ServiceHolder.SERVICE;
     }
     // GİZLİ ERİŞİM YÖNTEMLERİ:
-    private HashMap<Class<?>, Class<?>> getMapOfPrimitiveToWrapper(){
-        if(mapOfPrimitiveToWrapper == null){
-            mapOfPrimitiveToWrapper = new HashMap<Class<?>, Class<?>>();
-            mapOfPrimitiveToWrapper.put(int.class, Integer.class);
-            mapOfPrimitiveToWrapper.put(double.class, Double.class);
-            mapOfPrimitiveToWrapper.put(float.class, Float.class);
-            mapOfPrimitiveToWrapper.put(boolean.class, Boolean.class);
-            mapOfPrimitiveToWrapper.put(short.class, Short.class);
-            mapOfPrimitiveToWrapper.put(long.class, Long.class);
-            mapOfPrimitiveToWrapper.put(char.class, Character.class);
-            mapOfPrimitiveToWrapper.put(byte.class, Byte.class);
+    /**
+     * Verilen sınıfın önbellekteki yansıma bilgilerini döndürür<br>
+     * Bilgiler sınıf başına bir kez toplanır
+     * @param cls Hedef sınıf, {@code null} olmamalı
+     * @return Sınıfın yansıma bilgileri
+     */
+    ClassMetadata getClassMetadata(Class<?> cls){
+        return metadataCache.get(cls);
+    }
+    /**
+     * Verilen sınıf için sınıfta saklanan zerk planını döndürür<br>
+     * Plan bu nesneyi zayıf referansla tuttuğundan yalnızca bu nesne
+     * kullanımdayken kullanılmalıdır; kullanıcıya verilecek ve saklanacak
+     * planlar için {@code getObjectInjector()} kullanılmalıdır
+     * @param <T> Zerk işleminin hedef sınıfı
+     * @param targetClass Zerk işleminin hedef sınıfı
+     * @param codingStyle 'setter' metotlarının aranmasında kullanılacak kodlama biçimi
+     * @param tryForceCasting Veri tipi uyuşmadığında dönüşüm yapılması durumu
+     * @param scanSuperClasses Üst sınıfların taranması durumu
+     * @param forceAccessibility Erişimin zorlanması durumu
+     * @return Zerk planı
+     */
+    <T> ObjectInjector<T> getSharedInjector(Class<T> targetClass, CODING_STYLE codingStyle,
+            boolean tryForceCasting, boolean scanSuperClasses, boolean forceAccessibility){
+        return (ObjectInjector<T>) getClassMetadata(targetClass).getObjectInjector(codingStyle, tryForceCasting, scanSuperClasses, forceAccessibility);
+    }
+    /**
+     * Verilen alan için seçili arka uca göre önbellekteki erişimciyi döndürür<br>
+     * Erişim zorlanırken alanın erişimi zorlanmış kopyası kullanılır; verilen
+     * {@code Field} nesnesinin erişim bayrağı değiştirilmez. Böylece paylaşılan
+     * alan nesneleri üzerinde iş parçacıkları arası yarış oluşmaz<br>
+     * Kullanıcı alanı kendisi erişilebilir yaptıysa erişim zorlanmış sayılır
+     * @param fl Hedef alan
+     * @param forceAccessibility Erişimin zorlanmasını ifâde eden parametre
+     * @return Alan erişimcisi veyâ erişim zorlanamıyorsa {@code null}
+     */
+    FieldAccessor getFieldAccessor(Field fl, boolean forceAccessibility){
+        if(!forceAccessibility && fl.isAccessible())
+            forceAccessibility = true;
+        return getClassMetadata(fl.getDeclaringClass()).getFieldAccessor(fl.getName(), forceAccessibility, accessorBackend);
+    }
+    /**
+     * Verilen metot için seçili arka uca göre önbellekteki erişimciyi döndürür<br>
+     * Verilen {@code Method} nesnesinin erişim bayrağı değiştirilmez
+     * @param m Hedef metot
+     * @param forceAccessibility Erişimin zorlanmasını ifâde eden parametre
+     * @return Metot erişimcisi veyâ erişim zorlanamıyorsa {@code null}
+     */
+    MethodAccessor getMethodAccessor(Method m, boolean forceAccessibility){
+        if(!forceAccessibility && m.isAccessible())
+            forceAccessibility = true;
+        return getClassMetadata(m.getDeclaringClass()).getMethodAccessor(m, forceAccessibility, accessorBackend);
+    }
+    /**
+     * Paralel dönüşüm için verinin en dış boyutundaki satırları döndürür<br>
+     * Satırlar bir diziye kopyalanarak ('List' ise) iş parçacıklarının
+     * listeye eş zamanlı erişmesi önlenir
+     * @return Satırlar veyâ veri satırlara ayrılamıyorsa {@code null}
+     */
+    private Object[] getRowsForParallelism(Object data){
+        if(data instanceof Object[])
+            return (Object[]) data;
+        if(data instanceof List)
+            return ((List) data).toArray();
+        return null;
+    }
+    private static Map<Class<?>, Class<?>> createMapOfPrimitiveToWrapper(){
+        HashMap<Class<?>, Class<?>> mapOfPrimitiveToWrapper = new HashMap<Class<?>, Class<?>>();
+        mapOfPrimitiveToWrapper.put(int.class, Integer.class);
+        mapOfPrimitiveToWrapper.put(double.class, Double.class);
+        mapOfPrimitiveToWrapper.put(float.class, Float.class);
+        mapOfPrimitiveToWrapper.put(boolean.class, Boolean.class);
+        mapOfPrimitiveToWrapper.put(short.class, Short.class);
+        mapOfPrimitiveToWrapper.put(long.class, Long.class);
+        mapOfPrimitiveToWrapper.put(char.class, Character.class);
+        mapOfPrimitiveToWrapper.put(byte.class, Byte.class);
+        return Collections.unmodifiableMap(mapOfPrimitiveToWrapper);
+    }
+    private static Map<Class<?>, Class<?>> createMapOfWrapperToPrimitive(){
+        HashMap<Class<?>, Class<?>> mapOfWrapperToPrimitive = new HashMap<Class<?>, Class<?>>();
+        for(Map.Entry<Class<?>, Class<?>> entry : PRIMITIVE_TO_WRAPPER.entrySet()){
+            mapOfWrapperToPrimitive.put(entry.getValue(), entry.getKey());
         }
-        return mapOfPrimitiveToWrapper;
+        return Collections.unmodifiableMap(mapOfWrapperToPrimitive);
     }
     /**
      * Temel veri tiplerinin ve sarmalayıcılarının tam isimlerini içeren yeni
@@ -2323,27 +2841,82 @@ public class Reflector{
 //        li.add("java.util.List");
         return li;
     }
+    /**
+     * Alanlara ve metotlara erişimde kullanılan arka ucu döndürür
+     * @return Seçili arka uç
+     */
+    public ACCESSOR_BACKEND getAccessorBackend(){
+        return accessorBackend;
+    }
+    /**
+     * Sınıf başına tutulan yansıma bilgileri (alanlar, metotlar, erişimciler,
+     * üreticiler, {@code enum} tabloları vs.) önbelleğinin istatistiklerini
+     * döndürür<br>
+     * Bilgiler sınıfın kendisinde tutulduğundan, yükleyicisi toplanan
+     * sınıfların bilgileri kendiliğinden silinir
+     * @return Önbellek istatistikleri
+     */
+    public CacheStats getClassMetadataCacheStats(){
+        return metadataCache.getStats();
+    }
+    /**
+     * Çözümlenmiş dönüştürücü önbelleklerinin istatistiklerini döndürür<br>
+     * Dönüştürücü kaydı değiştiğinde önbellekler yeniden oluşturulduğundan
+     * istatistikler son kayıttan sonrasını gösterir
+     * @return Önbellek istatistikleri
+     */
+    public CacheStats getConverterCacheStats(){
+        return converters.getStats();
+    }
     /**
      * @return SQL ve ISO formatı için derlenmiş {@code DateTimeFormatter}
      */
     protected DateTimeFormatter getSQLAndISODFormatter(){
-        if(sqlAndIsoDFormatter == null)
-            sqlAndIsoDFormatter = new DateTimeFormatterBuilder().
-                parseCaseInsensitive().appendValue(ChronoField.YEAR, 4)
-                .optionalStart().appendLiteral('-').optionalEnd()
-                .appendValue(ChronoField.MONTH_OF_YEAR, 2)
-                .optionalStart().appendLiteral('-').optionalEnd()
-                .appendValue(ChronoField.DAY_OF_MONTH, 2).toFormatter();
-        return sqlAndIsoDFormatter;
+        return Formatters.SQL_AND_ISO_D;
     }
+    /**
+     * @return SQL ve ISO formatındaki târih - saat için derlenmiş
+     * {@code DateTimeFormatter}
+     */
     protected DateTimeFormatter getSQLAndISODTFormatter(){
-        if(sqlAndIsoDTFormatter == null)
-            sqlAndIsoDTFormatter = new DateTimeFormatterBuilder()
-                .optionalStart().append(getSQLAndISODFormatter()).optionalEnd()
-                .optionalStart().appendLiteral(' ').optionalEnd()
-                .optionalStart().appendLiteral('T').optionalEnd()
-                .optionalStart().append(DateTimeFormatter.ISO_TIME).optionalEnd()
-                .toFormatter();
-        return sqlAndIsoDTFormatter;
-    }
-}
\ No newline at end of file
+        return Formatters.SQL_AND_ISO_DT;
+    }
+
+// DEĞİŞTİRME YÖNTEMLERİ:
+    /**
+     * Alanlara ve metotlara erişimde kullanılacak arka ucu belirler<br>
+     * Her arka uç için erişimciler ayrı ayrı saklandığından arka uç çalışma
+     * zamânında değiştirilerek karşılaştırma yapılabilir
+     * @param accessorBackend Arka uç, {@code null} verilirse değişiklik yapılmaz
+     */
+    public void setAccessorBackend(ACCESSOR_BACKEND accessorBackend){
+        if(accessorBackend != null)
+            this.accessorBackend = accessorBackend;
+    }
+
+    /**
+     * Ortak {@code Reflector} nesnesini tutan sınıf; nesne bu sınıf ilk
+     * kullanıldığında JVM'nin sınıf ilklendirme kilidiyle bir kez oluşturulur
+     */
+    private static final class ServiceHolder{
+        static final Reflector SERVICE = new Reflector();
+    }
+    /**
+     * Târih - saat ayrıştırıcılarını tutan sınıf; {@code DateTimeFormatter}
+     * değişmez olduğundan tüm nesneler ve iş parçacıkları arasında paylaşılır
+     */
+    private static final class Formatters{
+        static final DateTimeFormatter SQL_AND_ISO_D = new DateTimeFormatterBuilder()//sqlAndISODateFormatter : SQL târih veri tipini ayrıştırmak için...
+            .parseCaseInsensitive().appendValue(ChronoField.YEAR, 4)
+            .optionalStart().appendLiteral('-').optionalEnd()
+            .appendValue(ChronoField.MONTH_OF_YEAR, 2)
+            .optionalStart().appendLiteral('-').optionalEnd()
+            .appendValue(ChronoField.DAY_OF_MONTH, 2).toFormatter();
+        static final DateTimeFormatter SQL_AND_ISO_DT = new DateTimeFormatterBuilder()//sqlAndISODateTimeFormatter : SQL târih saat veri tipini ayrıştırmak için kullanılıyor
+            .optionalStart().append(SQL_AND_ISO_D).optionalEnd()
+            .optionalStart().appendLiteral(' ').optionalEnd()
+            .optionalStart().appendLiteral('T').optionalEnd()
+            .optionalStart().append(DateTimeFormatter.ISO_TIME).optionalEnd()
+            .toFormatter();
+    }
+}
@@ -0,0 +1,501 @@
+package ReflectorRuntime;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DateTimeException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JDBC {@code ResultSet} satırlarını, araya bir özellik haritası koymadan
+ * hedef sınıfın örneklerine dönüştüren eşleyicidir<br>
+ * {@code Reflector.getResultSetMapper()} ile elde edilir<br>
+ * Sütunlar, {@code ResultSetMetaData} kullanılarak her {@code ResultSet}
+ * için alanlara bir kez bağlanır; aynı sütun etiketleri ve tipleri için
+ * bağlantı saklanıp, sonraki {@code ResultSet}'lerde de kullanılır.
+ * Sütun etiketi alan ismiyle aynı değilse büyük - küçük harf ve alt çizgi
+ * farkı gözetilmeden eşleştirilir ("USER_NAME" → {@code userName})<br>
+ * Her satırda, alanın tipine ve sütunun SQL tipine uygun tipli okuma yöntemi
+ * ({@code getInt}, {@code getLong}, {@code getTimestamp}...) kullanılır ve
+ * değer doğrudan alana yazılır; temel tipteki alanlarda kutulama yapılmaz<br>
+ * Târih - zamân alanları {@code Reflector.getDateObjectFromString()} ile aynı
+ * kurallarla dönüştürülür<br>
+ * Alana doğrudan yazılamayan veyâ tipi uyuşmayan sütunlar, bağlı olunan
+ * {@code ObjectInjector} üzerinden ('setter' ve veri dönüştürme dâhil) zerk
+ * edilir<br>
+ * Nesne iş parçacıkları arasında güvenle paylaşılabilir<br>
+ * @author Mehmet Âkif SOLAK
+ * @param <T> Eşleme işleminin hedef sınıfı
+ */
+public final class ResultSetMapper<T>{
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int BOOLEAN = 3;
+    private static final int FLOAT = 4;
+    private static final int SHORT = 5;
+    private static final int BYTE = 6;
+    private static final int STRING = 7;
+    private static final int BIG_DECIMAL = 8;
+    private static final int BYTES = 9;
+    private static final int DATE_TIME = 10;
+    private static final int OBJECT = 11;// Değer 'getObject' ile okunur
+    private final WeakReference<Reflector> reflector;// Eşleyici planda saklandığından zayıf referans
+    private final Reflector owner;// Kullanıcıya verilen kopyada 'Reflector' nesnesini canlı tutar; saklanan eşleyicide 'null'
+    private final ResultSetMapper<T> shared;// Saklanan eşleyici; kopyalar son bağlamayı onunla paylaşır
+    private final ObjectInjector<T> injector;
+    private final Class<T> targetClass;
+    private final Map<String, Field> fields;
+    private final Map<String, Field> normalizedFields;// Küçük harfe çevrilmiş, alt çizgisiz alan isimlerine göre alanlar
+    private final ConcurrentHashMap<String, Column[]> bindings;// Sütun etiketleri ve tiplerine göre bağlamalar
+    private volatile LastBinding lastBinding;// Son bağlanan 'ResultSet'; 'produce()' her satırda üst veriyi okumasın diye
+
+    ResultSetMapper(Reflector reflector, ObjectInjector<T> injector){
+        this.reflector = new WeakReference<Reflector>(reflector);
+        this.owner = null;
+        this.shared = this;
+        this.injector = injector;
+        this.targetClass = injector.getTargetClass();
+        this.fields = injector.getFields();
+        Map<String, Field> normalized = new HashMap<String, Field>();
+        if(fields != null){
+            for(Field fl : fields.values()){
+                String key = normalize(fl.getName());
+                if(normalized.get(key) == null)
+                    normalized.put(key, fl);
+            }
+        }
+        this.normalizedFields = normalized;
+        this.bindings = new ConcurrentHashMap<String, Column[]>();
+    }
+    private ResultSetMapper(ResultSetMapper<T> shared, Reflector owner){
+        this.reflector = shared.reflector;
+        this.owner = owner;
+        this.shared = shared;
+        this.injector = shared.injector;
+        this.targetClass = shared.targetClass;
+        this.fields = shared.fields;
+        this.normalizedFields = shared.normalizedFields;
+        this.bindings = shared.bindings;
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * {@code ResultSet}'in üzerinde bulunduğu satırdan hedef sınıfın yeni bir
+     * örneğini üretir<br>
+     * İmleç ilerletilmez<br>
+     * Sütunlar {@code ResultSet} başına bir kez bağlanır; aynı
+     * {@code ResultSet}'in sonraki satırlarında üst veri okunmaz
+     * @param rs Bir satır üzerinde bulunan {@code ResultSet}
+     * @return Satırdan üretilen nesne veyâ {@code null}
+     */
+    public T produce(ResultSet rs){
+        if(rs == null || fields == null)
+            return null;
+        try{
+            return produceRow(rs, getColumns(rs));
+        }
+        catch(SQLException exc){
+            System.err.println("exc : " + exc.toString());
+            return null;
+        }
+    }
+    /**
+     * {@code ResultSet}'in kalan tüm satırlarından hedef sınıfın örneklerini
+     * üretir<br>
+     * Sütunlar yalnızca bir kez bağlanır; imleç sona kadar ilerletilir, fakat
+     * {@code ResultSet} kapatılmaz<br>
+     * Nesnesi üretilemeyen satırlar için listeye {@code null} eklenir
+     * @param rs Henüz okunmamış satırları olan {@code ResultSet}
+     * @return Satırlardan üretilen nesneler veyâ okuma hatâsı olursa
+     * {@code null}
+     */
+    public List<T> produceAll(ResultSet rs){
+        if(rs == null || fields == null)
+            return null;
+        List<T> result = new ArrayList<T>();
+        try{
+            Column[] columns = getColumns(rs);
+            while(rs.next()){
+                result.add(produceRow(rs, columns));
+            }
+        }
+        catch(SQLException exc){
+            System.err.println("exc : " + exc.toString());
+            return null;
+        }
+        return result;
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Eşleme işleminin hedef sınıfı
+     */
+    public Class<T> getTargetClass(){
+        return targetClass;
+    }
+    /**
+     * Bu eşleyiciyle aynı bilgileri paylaşan ve verilen {@code Reflector}
+     * nesnesini güçlü referansla tutan bir kopya döndürür; ayrıntılar için
+     * {@code ObjectInjector.withOwner()} yöntemine bakınız
+     * @param owner Eşleyiciyi veren {@code Reflector}
+     * @return Kopya
+     */
+    ResultSetMapper<T> withOwner(Reflector owner){
+        return new ResultSetMapper<T>(shared, owner);
+    }
+
+    // ARKAPLAN İŞLEM YÖNTEMLERİ:
+    private Column[] getColumns(ResultSet rs) throws SQLException{
+        LastBinding last = shared.lastBinding;
+        if(last != null && last.resultSet.get() == rs)
+            return last.columns;
+        Column[] columns = bind(rs.getMetaData());
+        shared.lastBinding = new LastBinding(rs, columns);
+        return columns;
+    }
+    private T produceRow(ResultSet rs, Column[] columns) throws SQLException{
+        T obj = reflector.get().produceInstance(targetClass);
+        if(obj == null)
+            return null;
+        for(Column col : columns){
+            injectColumn(rs, obj, col);
+        }
+        return obj;
+    }
+    private Column[] bind(ResultSetMetaData meta) throws SQLException{
+        int count = meta.getColumnCount();
+        String[] labels = new String[count];
+        int[] sqlTypes = new int[count];
+        StringBuilder signature = new StringBuilder();
+        for(int sayac = 0; sayac < count; sayac++){
+            labels[sayac] = meta.getColumnLabel(sayac + 1);
+            sqlTypes[sayac] = meta.getColumnType(sayac + 1);
+            signature.append(labels[sayac]).append('\u0000').append(sqlTypes[sayac]).append('\u0000');
+        }
+        String key = signature.toString();
+        Column[] columns = bindings.get(key);
+        if(columns != null)
+            return columns;
+        List<Column> bound = new ArrayList<Column>(count);
+        for(int sayac = 0; sayac < count; sayac++){
+            Field fl = findField(labels[sayac]);
+            if(fl == null)// Alana karşılık gelmeyen sütunlar okunmaz
+                continue;
+            FieldAccessor accessor = reflector.get().getFieldAccessor(fl, false);
+            if(!accessor.isWritable)
+                accessor = (injector.isForceAccessibility() ? reflector.get().getFieldAccessor(fl, true) : null);
+            if(accessor != null && !accessor.isWritable)
+                accessor = null;
+            bound.add(new Column(sayac + 1, sqlTypes[sayac], fl, accessor, getKind(fl.getType(), sqlTypes[sayac])));
+        }
+        columns = bound.toArray(new Column[bound.size()]);
+        Column[] previous = bindings.putIfAbsent(key, columns);
+        return (previous == null ? columns : previous);
+    }
+    private Field findField(String label){
+        if(label == null)
+            return null;
+        Field fl = fields.get(label);
+        if(fl == null)
+            fl = normalizedFields.get(normalize(label));
+        return fl;
+    }
+    private void injectColumn(ResultSet rs, T obj, Column col) throws SQLException{
+        Object value;
+        switch(col.kind){
+            case INT :{
+                int number = rs.getInt(col.index);
+                if(rs.wasNull())
+                    value = null;
+                else if(col.isPrimitive && col.accessor != null){
+                    try{
+                        col.accessor.setInt(obj, number);
+                        return;
+                    }
+                    catch(IllegalAccessException | IllegalArgumentException exc){}
+                    value = number;
+                }
+                else
+                    value = number;
+                break;
+            }
+            case LONG :{
+                long number = rs.getLong(col.index);
+                if(rs.wasNull())
+                    value = null;
+                else if(col.isPrimitive && col.accessor != null){
+                    try{
+                        col.accessor.setLong(obj, number);
+                        return;
+                    }
+                    catch(IllegalAccessException | IllegalArgumentException exc){}
+                    value = number;
+                }
+                else
+                    value = number;
+                break;
+            }
+            case DOUBLE :{
+                double number = rs.getDouble(col.index);
+                if(rs.wasNull())
+                    value = null;
+                else if(col.isPrimitive && col.accessor != null){
+                    try{
+                        col.accessor.setDouble(obj, number);
+                        return;
+                    }
+                    catch(IllegalAccessException | IllegalArgumentException exc){}
+                    value = number;
+                }
+                else
+                    value = number;
+                break;
+            }
+            case BOOLEAN :{
+                boolean flag = rs.getBoolean(col.index);
+                if(rs.wasNull())
+                    value = null;
+                else if(col.isPrimitive && col.accessor != null){
+                    try{
+                        col.accessor.setBoolean(obj, flag);
+                        return;
+                    }
+                    catch(IllegalAccessException | IllegalArgumentException exc){}
+                    value = flag;
+                }
+                else
+                    value = flag;
+                break;
+            }
+            case FLOAT :{
+                float number = rs.getFloat(col.index);
+                value = (rs.wasNull() ? null : (Object) number);
+                break;
+            }
+            case SHORT :{
+                short number = rs.getShort(col.index);
+                value = (rs.wasNull() ? null : (Object) number);
+                break;
+            }
+            case BYTE :{
+                byte number = rs.getByte(col.index);
+                value = (rs.wasNull() ? null : (Object) number);
+                break;
+            }
+            case STRING :{
+                value = rs.getString(col.index);
+                break;
+            }
+            case BIG_DECIMAL :{
+                value = rs.getBigDecimal(col.index);
+                break;
+            }
+            case BYTES :{
+                value = rs.getBytes(col.index);
+                break;
+            }
+            case DATE_TIME :{
+                injectDateTime(rs, obj, col);
+                return;
+            }
+            default :{// Diğer tipler dönüştürülerek yazılır; dönüştürülemezse zerk planı denenir
+                value = rs.getObject(col.index);
+                if(value != null && !TypeRules.isAssignable(col.type, value)){
+                    Object casted = reflector.get().getCastedObject(col.type, value);
+                    if(casted != null)
+                        value = casted;
+                }
+                break;
+            }
+        }
+        if(value == null && col.isPrimitive)// Temel veri tipine 'null' değer zerk edilemez
+            return;
+        write(obj, col, value);
+    }
+    /**
+     * Târih - zamân sütununu okuyup alana yazar<br>
+     * Sütun metîn tipindeyse {@code getDateObjectFromString()}, diğer
+     * durumlarda tipli okuma yöntemi ve aynı dönüşüm kuralları kullanılır<br>
+     * Dönüştürülemeyen değerler yazılmaz
+     */
+    private void injectDateTime(ResultSet rs, T obj, Column col) throws SQLException{
+        TemporalAccessor raw;
+        switch(col.sqlType){
+            case Types.TIMESTAMP :
+            case Types.TIMESTAMP_WITH_TIMEZONE :{
+                Timestamp value = rs.getTimestamp(col.index);
+                raw = (value == null ? null : value.toLocalDateTime());
+                break;
+            }
+            case Types.DATE :{
+                java.sql.Date value = rs.getDate(col.index);
+                raw = (value == null ? null : value.toLocalDate().atStartOfDay());
+                break;
+            }
+            case Types.TIME :
+            case Types.TIME_WITH_TIMEZONE :{
+                Time value = rs.getTime(col.index);
+                raw = (value == null ? null : value.toLocalTime());
+                break;
+            }
+            default :{
+                String text = rs.getString(col.index);
+                if(text == null)
+                    write(obj, col, null);
+                else{
+                    Object value = reflector.get().getDateObjectFromString(col.type, text);
+                    if(value != null)
+                        write(obj, col, value);
+                }
+                return;
+            }
+        }
+        if(raw == null){
+            write(obj, col, null);
+            return;
+        }
+        try{
+            Object value = reflector.get().getDateObjectFromTemporal(col.type, raw);
+            if(value != null)
+                write(obj, col, value);
+        }
+        catch(DateTimeException exc){
+            System.err.println("Târih saat verisini dönüştürme işlemi başarısız : " + exc.toString());
+        }
+    }
+    private void write(T obj, Column col, Object value){
+        if(col.accessor != null){
+            try{
+                col.accessor.set(obj, value);
+                return;
+            }
+            catch(IllegalAccessException | IllegalArgumentException exc){}// Zerk planı 'setter' ve dönüştürmeyi denesin
+        }
+        injector.injectField(obj, col.field.getName(), value);
+    }
+    /**
+     * Alanın tipine ve sütunun SQL tipine göre kullanılacak okuma yöntemini
+     * belirler<br>
+     * Tipli okuma yöntemi yalnızca değerin kayıpsız okunabileceği SQL
+     * tiplerinde seçilir; diğer durumlarda değer {@code getObject} ile okunur
+     */
+    private int getKind(Class<?> type, int sqlType){
+        if(type.equals(int.class) || type.equals(Integer.class))
+            return (isIntegral(sqlType, Types.INTEGER) ? INT : OBJECT);
+        if(type.equals(long.class) || type.equals(Long.class))
+            return (isIntegral(sqlType, Types.BIGINT) ? LONG : OBJECT);
+        if(type.equals(double.class) || type.equals(Double.class))
+            return (isNumeric(sqlType) ? DOUBLE : OBJECT);
+        if(type.equals(float.class) || type.equals(Float.class))
+            return (isNumeric(sqlType) ? FLOAT : OBJECT);
+        if(type.equals(short.class) || type.equals(Short.class))
+            return (isIntegral(sqlType, Types.SMALLINT) ? SHORT : OBJECT);
+        if(type.equals(byte.class) || type.equals(Byte.class))
+            return (isIntegral(sqlType, Types.TINYINT) ? BYTE : OBJECT);
+        if(type.equals(boolean.class) || type.equals(Boolean.class))
+            return (sqlType == Types.BIT || sqlType == Types.BOOLEAN ? BOOLEAN : OBJECT);
+        if(type.equals(String.class))
+            return (isText(sqlType) ? STRING : OBJECT);
+        if(type.equals(BigDecimal.class))
+            return (isNumeric(sqlType) ? BIG_DECIMAL : OBJECT);
+        if(type.equals(byte[].class))
+            return (sqlType == Types.BINARY || sqlType == Types.VARBINARY || sqlType == Types.LONGVARBINARY ? BYTES : OBJECT);
+        if(reflector.get().isAboutDateTime(type))
+            return DATE_TIME;
+        return OBJECT;
+    }
+    /**
+     * SQL tipinin, verilen genişlikteki tam sayı tipine sığan bir tam sayı
+     * tipi olup, olmadığını döndürür
+     */
+    private static boolean isIntegral(int sqlType, int widest){
+        int width;
+        switch(sqlType){
+            case Types.TINYINT : width = 0; break;
+            case Types.SMALLINT : width = 1; break;
+            case Types.INTEGER : width = 2; break;
+            case Types.BIGINT : width = 3; break;
+            default : return false;
+        }
+        switch(widest){
+            case Types.TINYINT : return width <= 0;
+            case Types.SMALLINT : return width <= 1;
+            case Types.INTEGER : return width <= 2;
+            default : return true;
+        }
+    }
+    private static boolean isNumeric(int sqlType){
+        switch(sqlType){
+            case Types.REAL :
+            case Types.FLOAT :
+            case Types.DOUBLE :
+            case Types.DECIMAL :
+            case Types.NUMERIC : return true;
+            default : return isIntegral(sqlType, Types.BIGINT);
+        }
+    }
+    private static boolean isText(int sqlType){
+        switch(sqlType){
+            case Types.CHAR :
+            case Types.VARCHAR :
+            case Types.LONGVARCHAR :
+            case Types.NCHAR :
+            case Types.NVARCHAR :
+            case Types.LONGNVARCHAR : return true;
+            default : return false;
+        }
+    }
+    private static String normalize(String name){
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Son bağlanan {@code ResultSet} ve sütunları<br>
+     * {@code ResultSet} zayıf referansla tutulur; eşleyici paylaşıldığından
+     * kapatılan sorgu nesneleri bellekte kalmasın
+     */
+    private static final class LastBinding{
+        final WeakReference<ResultSet> resultSet;
+        final Column[] columns;
+
+        LastBinding(ResultSet resultSet, Column[] columns){
+            this.resultSet = new WeakReference<ResultSet>(resultSet);
+            this.columns = columns;
+        }
+    }
+    /**
+     * Bir alana bağlanmış sütun bilgileri
+     */
+    private static final class Column{
+        final int index;// Sütun sırası (1'den başlar)
+        final int sqlType;
+        final Field field;
+        final Class<?> type;
+        final boolean isPrimitive;
+        final FieldAccessor accessor;// Alana doğrudan yazılamıyorsa 'null'
+        final int kind;
+
+        Column(int index, int sqlType, Field field, FieldAccessor accessor, int kind){
+            this.index = index;
+            this.sqlType = sqlType;
+            this.field = field;
+            this.type = field.getType();
+            this.isPrimitive = type.isPrimitive();
+            this.accessor = accessor;
+            this.kind = kind;
+        }
+    }
+}
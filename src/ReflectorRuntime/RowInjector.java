@@ -0,0 +1,72 @@
+package ReflectorRuntime;
+
+/**
+ * Sâbit sütun sırasına sâhip {@code Object[]} satırlarını hedef sınıfın
+ * örneklerine zerk eden, önceden derlenmiş sütun düzenidir<br>
+ * {@code ObjectInjector.getRowInjector()} veyâ
+ * {@code Reflector.getRowInjector()} ile elde edilir<br>
+ * Sütun isimleri alanlara (yapıcı yöntemle üretilen sınıflarda ayrıca
+ * parametre indislerine) bir kez çözümlenir; satırlar indisle okunduğundan
+ * her satır için harita oluşturulmaz ve anahtar aranmaz. Değerler
+ * {@code produceInjectedObject()} ile aynı kurallarla ('setter' ve veri
+ * dönüştürme dâhil) zerk edilir<br>
+ * Alana karşılık gelmeyen sütunlar yok sayılır<br>
+ * Nesne iş parçacıkları arasında güvenle paylaşılabilir<br>
+ * @author Mehmet Âkif SOLAK
+ * @param <T> Zerk işleminin hedef sınıfı
+ */
+public final class RowInjector<T>{
+    private final ObjectInjector<T> injector;
+    private final String[] columns;
+    private final Object[] resolved;// Sütunlara karşılık gelen alan bilgileri
+    private final int[] parameters;// Sütunlara karşılık gelen yapıcı yöntem parametre indisleri veyâ 'null'
+
+    RowInjector(ObjectInjector<T> injector, String[] columns){
+        this.injector = injector;
+        this.columns = columns.clone();
+        this.resolved = injector.resolveColumns(this.columns);
+        this.parameters = injector.resolveParameters(this.resolved);
+    }
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Hedef sınıfın yeni bir örneğini üretir ve verilen satırı zerk eder<br>
+     * Satır {@code null} ise {@code null} döndürülür
+     * @param row Sütun sırasıyla değerler
+     * @return Satırın zerk edildiği sınıf örneği veyâ {@code null}
+     */
+    public T produce(Object[] row){
+        return injector.injectRow(null, resolved, parameters, row);
+    }
+    /**
+     * Verilen satırı verilen nesneye zerk eder<br>
+     * Verilen nesne {@code null} ise hedef sınıfın yeni bir örneği üretilir
+     * @param instance Satırın zerk edileceği nesne veyâ {@code null}
+     * @param row Sütun sırasıyla değerler
+     * @return Satırın zerk edildiği nesne veyâ {@code null}
+     */
+    public T inject(T instance, Object[] row){
+        return injector.injectRow(instance, resolved, parameters, row);
+    }
+
+// ERİŞİM YÖNTEMLERİ:
+    /**
+     * @return Sütun isimleri (kopyası)
+     */
+    public String[] getColumns(){
+        return columns.clone();
+    }
+    /**
+     * @param index Sütun indisi
+     * @return Sütun bir alana karşılık geliyorsa {@code true}
+     */
+    public boolean isBound(int index){
+        return resolved[index] != null;
+    }
+    /**
+     * @return Zerk işleminin hedef sınıfı
+     */
+    public Class<T> getTargetClass(){
+        return injector.getTargetClass();
+    }
+}
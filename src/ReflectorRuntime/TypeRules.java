@@ -0,0 +1,109 @@
+package ReflectorRuntime;
+
+/**
+ * {@code Field.set} ve {@code Method.invoke} yöntemlerinin bir değeri hedef
+ * tipe atarken uyguladığı kuralları ('unboxing' ve genişletme dönüşümü)
+ * uygulayan yardımcı sınıftır<br>
+ * Derlenmiş erişimciler bu kuralları kullanarak yansıma ile aynı sonucu verir
+ * @author Mehmet Âkif SOLAK
+ */
+final class TypeRules{
+    static final int NONE = -1;// Temel veri tipi değil
+    static final int BOOLEAN = 0;
+    static final int BYTE = 1;
+    static final int SHORT = 2;
+    static final int CHAR = 3;
+    static final int INT = 4;
+    static final int LONG = 5;
+    static final int FLOAT = 6;
+    static final int DOUBLE = 7;
+
+    private TypeRules(){}
+
+// İŞLEM YÖNTEMLERİ:
+    /**
+     * Verilen değerin, verilen tipteki bir alana veyâ parametreye
+     * {@code Field.set} kurallarına göre atanıp, atanamayacağını sorgular<br>
+     * Temel veri tipleri için yalnızca genişletme dönüşümüne izin verilir
+     * @param type Hedef tip
+     * @param value Atanmak istenen değer
+     * @return Atanabiliyorsa {@code true}, aksi hâlde {@code false}
+     */
+    static boolean isAssignable(Class<?> type, Object value){
+        if(value == null)
+            return !type.isPrimitive();
+        if(!type.isPrimitive())
+            return type.isInstance(value);
+        int source = rankOf(value.getClass());
+        int target = rankOf(type);
+        if(source == NONE || target == NONE)
+            return false;
+        if(source == target)
+            return true;
+        if(source == BOOLEAN || target == BOOLEAN)
+            return false;
+        if(target == CHAR)// Hiçbir tip genişletilerek 'char' olmaz
+            return false;
+        if(source == CHAR)
+            return target >= INT;
+        if(source == BYTE)
+            return target != CHAR;
+        return target > source;
+    }
+    /**
+     * {@code isAssignable} ile atanabildiği bilinen değeri hedef temel veri
+     * tipinin tam sarmalayıcısına çevirir<br>
+     * Misal, {@code int} hedef için verilen {@code Short} değer
+     * {@code Integer} yapılır; diğer durumlarda değer olduğu gibi döndürülür
+     * @param type Hedef tip
+     * @param value Atanabildiği bilinen değer
+     * @return Hedef tipe uygun değer
+     */
+    static Object adapt(Class<?> type, Object value){
+        if(value == null || !type.isPrimitive())
+            return value;
+        int source = rankOf(value.getClass());
+        int target = rankOf(type);
+        if(source == target)
+            return value;
+        long asLong;
+        if(source == CHAR)
+            asLong = ((Character) value).charValue();
+        else if(source == FLOAT)
+            return (double) ((Float) value).floatValue();// Yalnızca 'double'a genişletilebilir
+        else
+            asLong = ((Number) value).longValue();
+        switch(target){
+            case SHORT : return (short) asLong;
+            case INT : return (int) asLong;
+            case LONG : return asLong;
+            case FLOAT : return (float) asLong;
+            case DOUBLE : return (double) asLong;
+        }
+        return value;
+    }
+    /**
+     * Temel veri tipini veyâ sarmalayıcısını genişletme sırasına göre numaralar
+     * @param cls Sınıf
+     * @return Sıra numarası, temel veri tipi değilse {@code NONE}
+     */
+    static int rankOf(Class<?> cls){
+        if(cls == int.class || cls == Integer.class)
+            return INT;
+        if(cls == double.class || cls == Double.class)
+            return DOUBLE;
+        if(cls == long.class || cls == Long.class)
+            return LONG;
+        if(cls == boolean.class || cls == Boolean.class)
+            return BOOLEAN;
+        if(cls == float.class || cls == Float.class)
+            return FLOAT;
+        if(cls == short.class || cls == Short.class)
+            return SHORT;
+        if(cls == byte.class || cls == Byte.class)
+            return BYTE;
+        if(cls == char.class || cls == Character.class)
+            return CHAR;
+        return NONE;
+    }
+}
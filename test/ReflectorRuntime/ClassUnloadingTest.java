@@ -0,0 +1,173 @@
+package ReflectorRuntime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Kütüphânenin önbelleklerinin, yeniden yüklenen uygulamaların sınıf
+ * yükleyicilerini bellekte tutmadığını sınayan testlerdir<br>
+ * İki yerleşim denenir:<br>
+ * - Kütüphâne üst yükleyicide (misal, sunucunun ortak kütüphâneleri),
+ * uygulama sınıfı alt yükleyicide: Alt yükleyici toplanmalıdır<br>
+ * - Kütüphâne uygulamanın kendi yükleyicisinde (misal, {@code WEB-INF/lib}),
+ * kullanılan sınıflar yerleşik sınıflar: Kütüphâneyi yükleyen yükleyici
+ * toplanmalıdır<br>
+ * Ayrıca sınıflarda saklanan değerlerin, onları saklayan {@code Reflector}
+ * örneklerini bellekte tutmadığı sınanır
+ * @author Mehmet Âkif SOLAK
+ */
+public class ClassUnloadingTest{
+    private static final Reflector GENERATED = newGeneratedReflector();// Kütüphâneyle birlikte yaşayan, kod üreten örnek
+    private static final int DROPPED_REFLECTOR_COUNT = 200;
+
+    @Test
+    public void childLoaderOfApplicationClassIsCollected() throws Exception{
+        WeakReference<ClassLoader> loader = useApplicationClassInChildLoader();
+        assertTrue("Uygulama sınıfının yükleyicisi bellekte kaldı", isCollected(loader));
+    }
+    @Test
+    public void loaderOfLibraryIsCollectedAfterUsingBuiltInClasses() throws Exception{
+        WeakReference<ClassLoader> loader = useLibraryInChildLoader();
+        assertTrue("Kütüphâneyi yükleyen yükleyici bellekte kaldı", isCollected(loader));
+    }
+    @Test
+    public void droppedReflectorsAreCollected() throws Exception{
+        List<WeakReference<Reflector>> reflectors = useDroppedReflectors();
+        for(WeakReference<Reflector> reflector : reflectors){
+            assertTrue("Bırakılan Reflector bellekte kaldı", isCollected(reflector));
+        }
+    }
+    @Test
+    public void givenPlansKeepTheirReflectorAlive() throws Exception{
+        ObjectInjector<UnloadedItem> injector = new Reflector().getObjectInjector(UnloadedItem.class, Reflector.CODING_STYLE.CAMEL_CASE);
+        Mapper<UnloadedItem, UnloadedItem> mapper = new Reflector().getMapper(UnloadedItem.class, UnloadedItem.class, Reflector.CODING_STYLE.CAMEL_CASE);
+        for(int sayac = 0; sayac < 5; sayac++){
+            System.gc();
+            Thread.sleep(20);
+        }
+        UnloadedItem item = mapper.map(injector.produce(newItemData()));
+        assertEquals(7, Reflector.getService().getValueOfFields(item, null, Reflector.CODING_STYLE.CAMEL_CASE, true, true).get("id"));
+    }
+
+    private static WeakReference<ClassLoader> useApplicationClassInChildLoader() throws Exception{
+        ChildLoader loader = new ChildLoader(ClassUnloadingTest.class.getClassLoader(), UnloadedItem.class.getName());
+        Class<?> cls = loader.loadClass(UnloadedItem.class.getName());
+        assertSame(loader, cls.getClassLoader());
+        Map<String, Object> data = newItemData();
+        for(Reflector reflector : new Reflector[]{Reflector.getService(), GENERATED}){
+            Object item = null;
+            for(int sayac = 0; sayac < AccessorGenerator.THRESHOLD; sayac++){// Erişimci sınıfı da üretilsin
+                item = reflector.produceInjectedObject(cls, data, Reflector.CODING_STYLE.CAMEL_CASE);
+            }
+            Map<String, Object> values = reflector.getValueOfFields(item, null, Reflector.CODING_STYLE.CAMEL_CASE, true, true);
+            assertEquals(7, values.get("id"));
+            assertEquals("ali", values.get("name"));
+            assertNotNull(reflector.getCastedObject(cls, data));
+            assertEquals(Integer.valueOf(5), reflector.getCastedObject(Integer.class, "5"));
+            assertNotNull(reflector.produceInstance(ArrayList.class));
+        }
+        return new WeakReference<ClassLoader>(loader);
+    }
+    private static WeakReference<ClassLoader> useLibraryInChildLoader() throws Exception{
+        URL library = Reflector.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[]{library}, ClassLoader.getSystemClassLoader().getParent());
+        Class<?> cls = loader.loadClass(Reflector.class.getName());
+        assertNotSame(Reflector.class, cls);
+        Object service = cls.getMethod("getService").invoke(null);
+        Method produceInstance = cls.getMethod("produceInstance", Class.class);
+        Method getCastedObject = cls.getMethod("getCastedObject", Class.class, Object.class);
+        assertNotNull(produceInstance.invoke(service, ArrayList.class));
+        assertEquals(Integer.valueOf(5), getCastedObject.invoke(service, Integer.class, "5"));
+        assertEquals(Long.valueOf(6), getCastedObject.invoke(service, Long.class, 6));
+        loader.close();
+        return new WeakReference<ClassLoader>(loader);
+    }
+    private static List<WeakReference<Reflector>> useDroppedReflectors(){
+        Map<String, Object> data = newItemData();
+        List<WeakReference<Reflector>> reflectors = new ArrayList<WeakReference<Reflector>>();
+        for(int sayac = 0; sayac < DROPPED_REFLECTOR_COUNT; sayac++){// Hepsi aynı sınıfın önbelleklerini kullanır
+            Reflector reflector = new Reflector();
+            UnloadedItem item = reflector.produceInjectedObject(UnloadedItem.class, data, Reflector.CODING_STYLE.CAMEL_CASE);
+            assertEquals(7, reflector.getValueOfFields(item, null, Reflector.CODING_STYLE.CAMEL_CASE, true, true).get("id"));
+            assertNotNull(reflector.getCastedObject(UnloadedItem.class, data));
+            assertEquals(Integer.valueOf(5), reflector.getCastedObject(Integer.class, "5"));
+            assertNotNull(reflector.getMapper(UnloadedItem.class, UnloadedItem.class, Reflector.CODING_STYLE.CAMEL_CASE).map(item));
+            assertNotNull(reflector.getResultSetMapper(UnloadedItem.class, Reflector.CODING_STYLE.CAMEL_CASE));
+            assertTrue(reflector.diff(item, reflector.deepCopy(item)).isEmpty());
+            reflectors.add(new WeakReference<Reflector>(reflector));
+        }
+        return reflectors;
+    }
+    private static Map<String, Object> newItemData(){
+        Map<String, Object> data = new HashMap<String, Object>();
+        data.put("id", 7);
+        data.put("name", "ali");
+        data.put("tags", new ArrayList<String>());
+        return data;
+    }
+    private static boolean isCollected(WeakReference<?> ref) throws InterruptedException{
+        for(int sayac = 0; sayac < 50 && ref.get() != null; sayac++){
+            System.gc();
+            Thread.sleep(20);
+        }
+        return (ref.get() == null);
+    }
+    private static Reflector newGeneratedReflector(){
+        Reflector reflector = new Reflector();
+        reflector.setAccessorBackend(Reflector.ACCESSOR_BACKEND.GENERATED);
+        return reflector;
+    }
+
+    /**
+     * Verilen sınıfı üst yükleyiciye sormadan, kendisi tanımlayan yükleyici;
+     * böylece aynı sınıf dosyası yeniden yüklenen bir uygulamanın sınıfı gibi
+     * kullanılır
+     */
+    private static final class ChildLoader extends ClassLoader{
+        private final String name;
+
+        ChildLoader(ClassLoader parent, String name){
+            super(parent);
+            this.name = name;
+        }
+        @Override
+        protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException{
+            if(!className.equals(name))
+                return super.loadClass(className, resolve);
+            synchronized(getClassLoadingLock(className)){
+                Class<?> loaded = findLoadedClass(className);
+                if(loaded == null){
+                    byte[] bytes = readClassFile(className);
+                    loaded = defineClass(className, bytes, 0, bytes.length);
+                }
+                return loaded;
+            }
+        }
+        private byte[] readClassFile(String className) throws ClassNotFoundException{
+            try(InputStream input = getParent().getResourceAsStream(className.replace('.', '/') + ".class")){
+                if(input == null)
+                    throw new ClassNotFoundException(className);
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                for(int read = input.read(buffer); read != -1; read = input.read(buffer)){
+                    output.write(buffer, 0, read);
+                }
+                return output.toByteArray();
+            }
+            catch(IOException exc){
+                throw new ClassNotFoundException(className, exc);
+            }
+        }
+    }
+}
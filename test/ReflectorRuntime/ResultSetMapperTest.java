@@ -0,0 +1,171 @@
+package ReflectorRuntime;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * {@code ResultSetMapper} için bellek içi bir {@code ResultSet} ile yapılan
+ * testlerdir<br>
+ * {@code ResultSet} ve {@code ResultSetMetaData}, veritabanı sürücüsüne
+ * ihtiyaç duyulmaması için {@code Proxy} ile taklit edilir
+ * @author Mehmet Âkif SOLAK
+ */
+public class ResultSetMapperTest{
+    private static final String[] LABELS = {"ID", "TOTAL", "USER_NAME", "score", "CREATED_AT", "BIRTH", "JOINED", "ACTIVE", "NULLABLE", "UNKNOWN"};
+    private static final int[] TYPES = {Types.INTEGER, Types.BIGINT, Types.VARCHAR, Types.DOUBLE, Types.TIMESTAMP,
+        Types.DATE, Types.VARCHAR, Types.BOOLEAN, Types.INTEGER, Types.VARCHAR};
+
+    @Test
+    public void produceAllReadsTypedColumnsIntoFields(){
+        InMemoryResultSet data = new InMemoryResultSet(LABELS, TYPES, Arrays.asList(
+            new Object[]{7, 9000000000L, "ali", 2.5, Timestamp.valueOf("2024-01-02 03:04:05"),
+                java.sql.Date.valueOf("1990-05-06"), "2020-07-08", true, null, "x"},
+            new Object[]{8, 1L, null, null, null, null, null, false, 3, null}
+        ));
+        List<User> users = Reflector.getService().getResultSetMapper(User.class, Reflector.CODING_STYLE.CAMEL_CASE)
+            .produceAll(data.resultSet);
+        assertEquals(2, users.size());
+        User first = users.get(0);
+        assertEquals(7, first.id);
+        assertEquals(9000000000L, first.total);
+        assertEquals("ali", first.userName);
+        assertEquals(Double.valueOf(2.5), first.score);
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), first.createdAt);
+        assertEquals(LocalDate.of(1990, 5, 6), first.birth);
+        assertEquals(LocalDate.of(2020, 7, 8), first.joined);// Metîn sütunu, metînden târih kurallarıyla
+        assertTrue(first.active);
+        assertNull(first.nullable);
+        User second = users.get(1);
+        assertEquals(8, second.id);
+        assertNull(second.userName);
+        assertNull(second.score);
+        assertNull(second.createdAt);
+        assertFalse(second.active);
+        assertEquals(Integer.valueOf(3), second.nullable);
+    }
+    @Test
+    public void produceBindsColumnsOncePerResultSet(){
+        ResultSetMapper<User> mapper = Reflector.getService().getResultSetMapper(User.class, Reflector.CODING_STYLE.CAMEL_CASE);
+        InMemoryResultSet data = new InMemoryResultSet(LABELS, TYPES, Arrays.asList(
+            new Object[]{1, 10L, "a", 1.0, null, null, null, true, null, null},
+            new Object[]{2, 20L, "b", 2.0, null, null, null, false, null, null},
+            new Object[]{3, 30L, "c", 3.0, null, null, null, true, null, null}
+        ));
+        long sum = 0;
+        while(data.next()){
+            User user = mapper.produce(data.resultSet);
+            sum += user.id + user.total;
+        }
+        assertEquals(66, sum);
+        assertEquals(1, data.metaDataCalls);
+        InMemoryResultSet other = new InMemoryResultSet(LABELS, TYPES, Arrays.<Object[]>asList(
+            new Object[]{4, 40L, "d", 4.0, null, null, null, true, null, null}
+        ));
+        other.next();
+        assertEquals("d", mapper.produce(other.resultSet).userName);
+        assertEquals(1, other.metaDataCalls);
+    }
+    @Test
+    public void produceReturnsNullForNullResultSet(){
+        assertNull(Reflector.getService().getResultSetMapper(User.class, Reflector.CODING_STYLE.CAMEL_CASE).produce(null));
+    }
+
+    public static class User{
+        private int id;
+        private long total;
+        private String userName;
+        private Double score;
+        private LocalDateTime createdAt;
+        private LocalDate birth;
+        private LocalDate joined;
+        private boolean active;
+        private Integer nullable;
+        private BigDecimal unused;
+    }
+    /**
+     * Satırları bellekte tutan, yalnızca eşleyicinin kullandığı yöntemleri
+     * destekleyen {@code ResultSet} taklidi
+     */
+    private static final class InMemoryResultSet implements InvocationHandler{
+        final ResultSet resultSet;
+        final ResultSetMetaData metaData;
+        private final String[] labels;
+        private final int[] types;
+        private final List<Object[]> rows;
+        private int cursor = -1;
+        private boolean wasNull;
+        int metaDataCalls;
+
+        InMemoryResultSet(String[] labels, int[] types, List<Object[]> rows){
+            this.labels = labels;
+            this.types = types;
+            this.rows = rows;
+            this.resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, this);
+            this.metaData = (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                new InvocationHandler(){
+                    @Override
+                    public Object invoke(Object proxy, Method m, Object[] args){
+                        switch(m.getName()){
+                            case "getColumnCount" : return InMemoryResultSet.this.labels.length;
+                            case "getColumnLabel" :
+                            case "getColumnName" : return InMemoryResultSet.this.labels[(Integer) args[0] - 1];
+                            case "getColumnType" : return InMemoryResultSet.this.types[(Integer) args[0] - 1];
+                        }
+                        throw new UnsupportedOperationException(m.getName());
+                    }
+                });
+        }
+
+        boolean next(){
+            cursor++;
+            return cursor < rows.size();
+        }
+        @Override
+        public Object invoke(Object proxy, Method m, Object[] args){
+            switch(m.getName()){
+                case "next" : return next();
+                case "wasNull" : return wasNull;
+                case "getMetaData" :{
+                    metaDataCalls++;
+                    return metaData;
+                }
+                case "hashCode" : return System.identityHashCode(proxy);
+                case "equals" : return proxy == args[0];
+            }
+            if(!m.getName().startsWith("get") || args == null || !(args[0] instanceof Integer))
+                throw new UnsupportedOperationException(m.getName());
+            Object value = rows.get(cursor)[(Integer) args[0] - 1];
+            wasNull = (value == null);
+            Class<?> type = m.getReturnType();
+            if(type == int.class)
+                return (value == null ? 0 : ((Number) value).intValue());
+            if(type == long.class)
+                return (value == null ? 0L : ((Number) value).longValue());
+            if(type == double.class)
+                return (value == null ? 0.0 : ((Number) value).doubleValue());
+            if(type == float.class)
+                return (value == null ? 0.0f : ((Number) value).floatValue());
+            if(type == short.class)
+                return (value == null ? (short) 0 : ((Number) value).shortValue());
+            if(type == byte.class)
+                return (value == null ? (byte) 0 : ((Number) value).byteValue());
+            if(type == boolean.class)
+                return (value != null && (Boolean) value);
+            if(type == String.class)
+                return (value == null ? null : value.toString());
+            return value;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ReflectorRuntime;
+
+import java.util.ArrayList;
+
+/**
+ * {@code ClassUnloadingTest} içerisinde alt yükleyicide yeniden tanımlanan
+ * uygulama sınıfıdır<br>
+ * İç sınıf olsaydı, dış sınıfıyla farklı yükleyicilerde bulunamazdı
+ * @author Mehmet Âkif SOLAK
+ */
+public class UnloadedItem{
+    private int id;
+    private String name;
+    private ArrayList<String> tags;
+}